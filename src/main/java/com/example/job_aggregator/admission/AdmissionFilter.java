@@ -0,0 +1,205 @@
+package com.example.job_aggregator.admission;
+
+import com.example.job_aggregator.config.AdmissionProperties;
+import com.example.job_aggregator.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.example.job_aggregator.constants.ScrapingConstants.*;
+
+/**
+ * Admission control in front of the API.
+ *
+ * Requests are classified as cheap reads or heavy operations (scrape, export, import). Each class has its own
+ * per-client token bucket and its own cap on requests in flight, and export and import are capped
+ * individually on top of that. Scrapes are not: simultaneous triggers join the crawl already running,
+ * which bounds them better than a cap that would shed the very requests meant to join it. A client over its rate gets {@code 429}; a request that finds no free slot
+ * gets {@code 503}. Both carry {@code Retry-After}. Heavy calls therefore queue up in front of the
+ * application instead of holding Tomcat workers and database connections that reads need.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class AdmissionFilter extends OncePerRequestFilter {
+
+    enum RequestClass {
+        READ,
+        HEAVY
+    }
+
+    // Budget a request draws from, plus the limit of its endpoint if it has one
+    private record Route(RequestClass requestClass, ConcurrencyLimit endpointLimit) {
+    }
+
+    private final AdmissionProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<RequestClass, ConcurrencyLimit> classLimits = new EnumMap<>(RequestClass.class);
+    private final Map<RequestClass, Map<String, TokenBucket>> clientBuckets = new EnumMap<>(RequestClass.class);
+    private final Route readRoute;
+    private final Route scrapeRoute;
+    private final Route exportRoute;
+    private final Route importRoute;
+
+    public AdmissionFilter(AdmissionProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        for (RequestClass requestClass : RequestClass.values()) {
+            String name = requestClass.name().toLowerCase(Locale.ROOT);
+            classLimits.put(requestClass, register(new ConcurrencyLimit(name, budget(requestClass).getMaxConcurrency())));
+            clientBuckets.put(requestClass, new ConcurrentHashMap<>());
+        }
+        this.readRoute = new Route(RequestClass.READ, null);
+        this.scrapeRoute = new Route(RequestClass.HEAVY, null);
+        this.exportRoute = new Route(RequestClass.HEAVY, register(new ConcurrencyLimit("export", properties.getExportConcurrency())));
+        this.importRoute = new Route(RequestClass.HEAVY, register(new ConcurrencyLimit("import", properties.getImportConcurrency())));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Route route = properties.isEnabled() ? route(request) : null;
+        if (route == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        RequestClass requestClass = route.requestClass();
+
+        TokenBucket bucket = clientBuckets.get(requestClass)
+                .computeIfAbsent(request.getRemoteAddr(), client -> newBucket(requestClass));
+        long waitNanos = bucket.tryAcquire();
+        if (waitNanos > 0) {
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, requestClass, "rate",
+                    Math.max(1, (long) Math.ceil(Math.min(waitNanos / 1e9, MAX_RETRY_AFTER_SECONDS))));
+            return;
+        }
+
+        // A request shed for want of a slot did no work, so it does not count against the client's rate
+        ConcurrencyLimit classLimit = classLimits.get(requestClass);
+        if (!acquire(classLimit, budget(requestClass).getMaxWaitMs())) {
+            bucket.refund();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, requestClass, "concurrency", classLimit.retryAfterSeconds());
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            ConcurrencyLimit endpointLimit = route.endpointLimit();
+            if (endpointLimit == null) {
+                chain.doFilter(request, response);
+                return;
+            }
+            if (!acquire(endpointLimit, 0)) {
+                bucket.refund();
+                reject(response, HttpStatus.SERVICE_UNAVAILABLE, requestClass, endpointLimit.getName(),
+                        endpointLimit.retryAfterSeconds());
+                return;
+            }
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                endpointLimit.release(System.nanoTime() - start);
+            }
+        } finally {
+            classLimit.release(System.nanoTime() - start);
+        }
+    }
+
+    // Drop buckets that have refilled completely; a client coming back simply gets a fresh one
+    @Scheduled(fixedDelay = ADMISSION_BUCKET_EVICTION_INTERVAL_MS, initialDelay = ADMISSION_BUCKET_EVICTION_INTERVAL_MS)
+    public void evictIdleClients() {
+        for (Map<String, TokenBucket> buckets : clientBuckets.values()) {
+            buckets.values().removeIf(TokenBucket::isFull);
+        }
+    }
+
+    // Which budget the request draws from; null when it is not limited
+    private Route route(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+        if ("POST".equals(method) && (path.equals("/api/jobs/scrape") || path.equals("/api/jobs/scrape-mock"))) {
+            return scrapeRoute;
+        }
+        if ("GET".equals(method) && path.equals("/api/saved-jobs/export")) {
+            return exportRoute;
+        }
+        if ("POST".equals(method) && path.equals("/api/jobs/import")) {
+            return importRoute;
+        }
+        // Health checks and long-lived SSE streams are never shed
+        if ("GET".equals(method) && path.startsWith("/api/")
+                && !path.startsWith("/api/actuator") && !path.equals("/api/jobs/stream")) {
+            return readRoute;
+        }
+        return null;
+    }
+
+    private boolean acquire(ConcurrencyLimit limit, long maxWaitMs) {
+        try {
+            return limit.tryAcquire(maxWaitMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, RequestClass requestClass, String reason,
+                        long retryAfterSeconds) throws IOException {
+        Counter.builder("http.server.admission.rejected")
+                .tag("class", requestClass.name().toLowerCase(Locale.ROOT))
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        log.debug("Rejected {} request ({}), retry after {} s", requestClass, reason, retryAfterSeconds);
+
+        ErrorResponse body = ErrorResponse.builder()
+                .message(status == HttpStatus.TOO_MANY_REQUESTS
+                        ? "Too many requests, retry in " + retryAfterSeconds + " s"
+                        : "Server busy, retry in " + retryAfterSeconds + " s")
+                .status(status.value())
+                .timestamp(System.currentTimeMillis())
+                .build();
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private TokenBucket newBucket(RequestClass requestClass) {
+        AdmissionProperties.Budget budget = budget(requestClass);
+        return new TokenBucket(budget.getBurst(), budget.getRequestsPerSecond(), System::nanoTime);
+    }
+
+    private AdmissionProperties.Budget budget(RequestClass requestClass) {
+        return requestClass == RequestClass.READ ? properties.getRead() : properties.getHeavy();
+    }
+
+    private ConcurrencyLimit register(ConcurrencyLimit limit) {
+        Gauge.builder("http.server.admission.in.flight", limit, ConcurrencyLimit::getInFlight)
+                .tag("limit", limit.getName())
+                .register(meterRegistry);
+        return limit;
+    }
+}
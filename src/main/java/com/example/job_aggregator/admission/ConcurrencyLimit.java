@@ -0,0 +1,48 @@
+package com.example.job_aggregator.admission;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of requests in flight. Keeps a moving average of how long admitted requests take,
+ * which is what a rejected client is told to wait before retrying.
+ */
+public class ConcurrencyLimit {
+
+    private static final double SMOOTHING = 0.2;
+
+    private final String name;
+    private final int limit;
+    private final Semaphore permits;
+    private volatile double averageNanos;
+
+    public ConcurrencyLimit(String name, int limit) {
+        this.name = name;
+        this.limit = limit;
+        this.permits = new Semaphore(limit);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getInFlight() {
+        return limit - permits.availablePermits();
+    }
+
+    public boolean tryAcquire(long maxWaitMs) throws InterruptedException {
+        return maxWaitMs <= 0 ? permits.tryAcquire() : permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void release(long durationNanos) {
+        // Racy on purpose: a lost update only makes the estimate slightly staler
+        double average = averageNanos;
+        averageNanos = average == 0 ? durationNanos : average + SMOOTHING * (durationNanos - average);
+        permits.release();
+    }
+
+    // Whole seconds until a slot is likely free, at least one
+    public long retryAfterSeconds() {
+        return Math.max(1, (long) Math.ceil(averageNanos / 1e9));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.job_aggregator.admission;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Classic token bucket: holds up to {@code capacity} tokens and refills at {@code tokensPerSecond}.
+ * Each admitted request takes one token, and gets it back if it is shed before it runs.
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long refilledAt;
+
+    public TokenBucket(int capacity, double tokensPerSecond, LongSupplier nanoClock) {
+        this.capacity = Math.max(1, capacity);
+        this.tokensPerNano = tokensPerSecond / 1e9;
+        this.nanoClock = nanoClock;
+        this.tokens = this.capacity;
+        this.refilledAt = nanoClock.getAsLong();
+    }
+
+    // Take a token; returns 0 when admitted, otherwise the nanos until a token will be available
+    public synchronized long tryAcquire() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        if (tokensPerNano <= 0) {
+            return Long.MAX_VALUE;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+
+    // Give back a token taken by a request that was then shed without running
+    public synchronized void refund() {
+        refill();
+        tokens = Math.min(capacity, tokens + 1);
+    }
+
+    // A full bucket behaves exactly like a new one and can be dropped
+    public synchronized boolean isFull() {
+        refill();
+        return tokens >= capacity;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+    }
+}
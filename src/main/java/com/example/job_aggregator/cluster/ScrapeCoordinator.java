@@ -0,0 +1,352 @@
+package com.example.job_aggregator.cluster;
+
+import com.example.job_aggregator.config.ClusterProperties;
+import com.example.job_aggregator.ingestion.IngestionPipeline;
+import com.example.job_aggregator.ingestion.IngestionResult;
+import com.example.job_aggregator.ingestion.IngestionRun;
+import com.example.job_aggregator.ingestion.PageRequest;
+import com.example.job_aggregator.model.ClusterNode;
+import com.example.job_aggregator.model.CrawlLease;
+import com.example.job_aggregator.model.CrawlRound;
+import com.example.job_aggregator.readmodel.JobReadModel;
+import com.example.job_aggregator.repository.ClusterNodeRepository;
+import com.example.job_aggregator.repository.CrawlLeaseRepository;
+import com.example.job_aggregator.repository.CrawlRoundRepository;
+import com.example.job_aggregator.service.SavedSearchService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shares scraping between instances that use the same database, so each page is crawled once per round
+ * cluster-wide instead of once per instance.
+ *
+ * Every node keeps a membership lease ({@code cluster_nodes}) alive. A scrape trigger on any node starts
+ * a round: each search-result page becomes a PENDING row in {@code crawl_leases}, or the trigger joins the
+ * round already in progress. Pages are sharded by rendezvous hashing over the live nodes. Each node
+ * claims its own with a conditional update, crawls them through its local {@link IngestionPipeline} and
+ * renews the leases while it does. A node that dies stops renewing. Its pages become claimable once their
+ * leases expire, and since it also drops out of the live set, their new owner is one of the survivors.
+ * Round totals are summed in {@code crawl_rounds}, where the triggering node waits for them.
+ *
+ * Membership and lease renewal run on a thread of their own, so they keep their cadence while the shared
+ * Spring scheduler is busy with a read model rebuild, a snapshot or a catch-up; claiming work and catching
+ * up run on the scheduler.
+ *
+ * A takeover after a lease expired can crawl a page a second time (for example after a long GC pause);
+ * dedupe makes that harmless. Lease expiry uses each host's clock, so
+ * {@code cluster.lease-duration-ms} must stay well above the clock skew between hosts.
+ */
+@Component
+@Slf4j
+public class ScrapeCoordinator {
+
+    private static final long ROUND_POLL_INTERVAL_MS = 100;
+
+    private final ClusterProperties config;
+    private final String nodeId;
+    private final ClusterNodeRepository clusterNodeRepository;
+    private final CrawlLeaseRepository crawlLeaseRepository;
+    private final CrawlRoundRepository crawlRoundRepository;
+    private final IngestionPipeline ingestionPipeline;
+    private final JobReadModel jobReadModel;
+    private final SavedSearchService savedSearchService;
+
+    // The run crawling this node's claimed units, and those units (read without the lock when renewing)
+    private final Object runLock = new Object();
+    private IngestionRun currentRun;
+    private volatile List<String> runningUnits = List.of();
+    private ScheduledExecutorService heartbeatExecutor;
+    private long lastRemoteCompletion;
+
+    public ScrapeCoordinator(ClusterProperties config, ClusterNodeRepository clusterNodeRepository,
+                             CrawlLeaseRepository crawlLeaseRepository, CrawlRoundRepository crawlRoundRepository,
+                             IngestionPipeline ingestionPipeline, JobReadModel jobReadModel,
+                             SavedSearchService savedSearchService) {
+        this.config = config;
+        this.nodeId = config.getNodeId().isBlank() ? generateNodeId() : config.getNodeId();
+        this.clusterNodeRepository = clusterNodeRepository;
+        this.crawlLeaseRepository = crawlLeaseRepository;
+        this.crawlRoundRepository = crawlRoundRepository;
+        this.ingestionPipeline = ingestionPipeline;
+        this.jobReadModel = jobReadModel;
+        this.savedSearchService = savedSearchService;
+        if (config.isEnabled()) {
+            log.info("Cluster coordination enabled, this node is {}", nodeId);
+        }
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // Join the cluster and keep this node's membership and page leases alive
+    @PostConstruct
+    public void startHeartbeat() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Cluster-Heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeatExecutor.scheduleWithFixedDelay(this::renewLeases, 0, config.getHeartbeatIntervalMs(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    // Schedule every page for a new round, or join the round still in progress; returns the round's ID
+    public long startRound(List<PageRequest> pages) {
+        Optional<CrawlRound> unfinished = unfinishedRound();
+        if (unfinished.isPresent()) {
+            log.info("Joining crawl round {} already in progress", unfinished.get().getId());
+            return unfinished.get().getId();
+        }
+        CrawlRound round = new CrawlRound();
+        round.setStartedBy(nodeId);
+        round.setStartedAt(LocalDateTime.now());
+        round = crawlRoundRepository.save(round);
+
+        int scheduled = 0;
+        for (PageRequest page : pages) {
+            if (schedule(page, round.getId())) {
+                scheduled++;
+            }
+        }
+        if (scheduled == 0) {
+            // Another node scheduled the same pages a moment earlier; follow its round instead
+            crawlRoundRepository.delete(round);
+            long latest = unfinishedRound().or(() -> crawlRoundRepository.findTopByOrderByIdDesc())
+                    .map(CrawlRound::getId)
+                    .orElse(round.getId());
+            log.info("Pages already scheduled by another node, following crawl round {}", latest);
+            return latest;
+        }
+        crawlRoundRepository.setUnits(round.getId(), scheduled);
+        log.info("Node {} started crawl round {} with {} pages", nodeId, round.getId(), scheduled);
+        // Claim this node's share right away rather than at the next heartbeat
+        tick();
+        return round.getId();
+    }
+
+    // The round once it has finished, or its progress so far when the timeout runs out first
+    public Optional<CrawlRound> awaitRound(long roundId, long timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (true) {
+            Optional<CrawlRound> round = crawlRoundRepository.findById(roundId);
+            if (round.isEmpty() || round.get().isFinished() || System.currentTimeMillis() >= deadline) {
+                return round;
+            }
+            Thread.sleep(ROUND_POLL_INTERVAL_MS);
+        }
+    }
+
+    // Pick up work, and catch up with jobs and saved searches other nodes committed
+    @Scheduled(fixedDelayString = "${cluster.heartbeat-interval-ms:5000}")
+    public void tick() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            claimWork();
+            catchUpWithOtherNodes();
+            // Any node may ingest the jobs that match a search saved through another
+            savedSearchService.syncIndex();
+        } catch (RuntimeException e) {
+            log.warn("Cluster coordination tick failed on node {}: {}", nodeId, e.getMessage());
+        }
+    }
+
+    private void renewLeases() {
+        try {
+            long now = System.currentTimeMillis();
+            heartbeat(now);
+            renewRunningUnits(now);
+        } catch (RuntimeException e) {
+            log.warn("Cluster heartbeat failed on node {}: {}", nodeId, e.getMessage());
+        }
+    }
+
+    // Hand this node's pages back right away instead of letting them wait for their leases to expire
+    @PreDestroy
+    public void leave() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        // Stop first, so a heartbeat in flight cannot re-register the node after it has left
+        heartbeatExecutor.shutdown();
+        try {
+            heartbeatExecutor.awaitTermination(config.getHeartbeatIntervalMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            int released = crawlLeaseRepository.release(nodeId);
+            clusterNodeRepository.deleteById(nodeId);
+            log.info("Node {} left the cluster, released {} pages", nodeId, released);
+        } catch (RuntimeException e) {
+            log.warn("Node {} could not leave the cluster cleanly: {}", nodeId, e.getMessage());
+        }
+    }
+
+    private boolean schedule(PageRequest page, Long roundId) {
+        String unit = unitOf(page);
+        if (crawlLeaseRepository.reschedule(unit, roundId) == 1) {
+            return true;
+        }
+        if (crawlLeaseRepository.existsById(unit)) {
+            // Still pending or running in another round
+            return false;
+        }
+        try {
+            return crawlLeaseRepository.insertPending(unit, page.board(), page.url(), roundId) == 1;
+        } catch (DataIntegrityViolationException e) {
+            // Another node inserted it first
+            return false;
+        }
+    }
+
+    private void heartbeat(long now) {
+        long expiresAt = now + config.getLeaseDurationMs();
+        if (clusterNodeRepository.renew(nodeId, expiresAt) == 0) {
+            ClusterNode node = new ClusterNode();
+            node.setNodeId(nodeId);
+            node.setExpiresAt(expiresAt);
+            clusterNodeRepository.save(node);
+            log.info("Node {} joined the cluster", nodeId);
+        }
+        clusterNodeRepository.deleteExpiredBefore(now - 10 * config.getLeaseDurationMs());
+    }
+
+    private void renewRunningUnits(long now) {
+        List<String> units = runningUnits;
+        if (units.isEmpty()) {
+            return;
+        }
+        int renewed = crawlLeaseRepository.renew(units, nodeId, now + config.getLeaseDurationMs());
+        if (renewed < units.size()) {
+            log.warn("Node {} lost {} of its page leases to other nodes", nodeId, units.size() - renewed);
+        }
+    }
+
+    // Claim the claimable pages that hash to this node, all from one round, and start crawling them
+    private void claimWork() {
+        synchronized (runLock) {
+            if (currentRun != null && !currentRun.getCompletion().isDone()) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            List<String> liveNodes = clusterNodeRepository.findLiveNodeIds(now);
+            Long roundId = null;
+            List<String> units = new ArrayList<>();
+            List<PageRequest> pages = new ArrayList<>();
+            for (CrawlLease lease : crawlLeaseRepository.findClaimable(now)) {
+                if (!nodeId.equals(assignee(lease.getUnit(), liveNodes))
+                        || (roundId != null && !roundId.equals(lease.getRoundId()))) {
+                    continue;
+                }
+                if (crawlLeaseRepository.claim(lease.getUnit(), nodeId, now, now + config.getLeaseDurationMs()) == 1) {
+                    roundId = lease.getRoundId();
+                    units.add(lease.getUnit());
+                    pages.add(new PageRequest(lease.getBoard(), lease.getUrl()));
+                }
+            }
+            if (pages.isEmpty()) {
+                return;
+            }
+            log.info("Node {} crawling {} pages of round {} ({} live nodes)", nodeId, pages.size(), roundId, liveNodes.size());
+            Long round = roundId;
+            IngestionRun run = ingestionPipeline.start(pages);
+            currentRun = run;
+            runningUnits = units;
+            run.getCompletion().whenComplete((result, error) -> finish(round, units, run, error));
+        }
+    }
+
+    private void finish(Long roundId, List<String> units, IngestionRun run, Throwable error) {
+        if (error != null) {
+            log.warn("Node {} crawl of round {} failed, its pages count as done: {}", nodeId, roundId, error.getMessage());
+        }
+        try {
+            IngestionResult result = run.snapshot();
+            int completed = crawlLeaseRepository.complete(units, nodeId, System.currentTimeMillis());
+            crawlRoundRepository.addProgress(roundId, completed, result.getJobsParsed(), result.getSaved(),
+                    result.getDuplicates());
+        } catch (RuntimeException e) {
+            // The leases expire and another node crawls the pages again
+            log.warn("Node {} could not record its crawl of round {}: {}", nodeId, roundId, e.getMessage());
+        }
+        synchronized (runLock) {
+            runningUnits = List.of();
+        }
+        tick();
+    }
+
+    // Jobs crawled elsewhere reach this node's read model only through the shared database
+    private void catchUpWithOtherNodes() {
+        long latest = crawlLeaseRepository.lastCompletedByOthers(nodeId);
+        if (latest <= lastRemoteCompletion) {
+            return;
+        }
+        lastRemoteCompletion = latest;
+        jobReadModel.catchUpWithDatabase();
+    }
+
+    private Optional<CrawlRound> unfinishedRound() {
+        return crawlRoundRepository.findUnfinished().stream().findFirst();
+    }
+
+    static String unitOf(PageRequest page) {
+        return page.board() + "|" + page.url();
+    }
+
+    // Rendezvous hashing: every node computes the same owner, and only the pages of a node that joins or
+    // leaves move elsewhere
+    static String assignee(String unit, List<String> nodes) {
+        String best = null;
+        long bestScore = 0;
+        for (String node : nodes) {
+            long score = mix(((long) node.hashCode() << 32) ^ (unit.hashCode() & 0xFFFFFFFFL));
+            if (best == null || score > bestScore) {
+                best = node;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    private static String generateNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.job_aggregator.concurrency;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls with the same key into one execution.
+ *
+ * The first caller for a key runs the computation on its own thread; callers arriving while it runs wait
+ * for it and receive the same result, or the same exception. Nothing is cached: once the computation
+ * finishes, the next call for the key runs it again. Shared results must therefore be treated as
+ * read-only by every caller.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder sharedCalls = new LongAdder();
+
+    public V execute(K key, Supplier<V> computation) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            sharedCalls.increment();
+            return await(existing);
+        }
+
+        executions.increment();
+        try {
+            V value = computation.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    // Computations actually run
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    // Calls answered by attaching to a computation already running
+    public long getSharedCalls() {
+        return sharedCalls.sum();
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            // Rethrow the leader's own exception rather than the wrapper
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
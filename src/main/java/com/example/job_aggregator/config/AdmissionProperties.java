@@ -0,0 +1,43 @@
+package com.example.job_aggregator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Limits applied to incoming API requests, bound from {@code admission.*}.
+ *
+ * Cheap reads and heavy operations (scrape, export, import) have separate budgets, so a burst of heavy calls can
+ * only use up its own share of workers and database connections.
+ */
+@Data
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+    private Budget read = new Budget(50, 100, 64, 50);
+    private Budget heavy = new Budget(0.2, 3, 3, 0);
+    // Heavy endpoints additionally limited on their own; scrapes need no cap, concurrent ones join one crawl
+    private int exportConcurrency = 2;
+    private int importConcurrency = 1;
+
+    @Data
+    public static class Budget {
+        // Token bucket per client: sustained rate and burst size
+        private double requestsPerSecond;
+        private int burst;
+        // Requests of this class in flight across all clients
+        private int maxConcurrency;
+        // How long a request may wait for a concurrency slot before it is shed
+        private long maxWaitMs;
+
+        public Budget() {
+        }
+
+        public Budget(double requestsPerSecond, int burst, int maxConcurrency, long maxWaitMs) {
+            this.requestsPerSecond = requestsPerSecond;
+            this.burst = burst;
+            this.maxConcurrency = maxConcurrency;
+            this.maxWaitMs = maxWaitMs;
+        }
+    }
+}
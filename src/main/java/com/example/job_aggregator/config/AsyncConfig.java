@@ -1,5 +1,7 @@
 package com.example.job_aggregator.config;
 
+import com.example.job_aggregator.ingestion.FeedImporter;
+import com.example.job_aggregator.ingestion.IngestionPipeline;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -7,6 +9,8 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
 
+import static com.example.job_aggregator.constants.ScrapingConstants.FEED_WRITER_THREADS;
+
 @Configuration
 @EnableAsync
 public class AsyncConfig {
@@ -21,4 +25,49 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    // Writes queued SSE events to subscribers so slow clients never block ingestion. A write to a stalled
+    // client blocks its thread until Tomcat's write timeout (server.tomcat.connection-timeout); a subscriber
+    // is drained by one task at a time, so each stalled client holds at most one of these threads and the
+    // rest keep serving everyone else. Threads are only kept while subscribers have events to write.
+    @Bean(name = "feedExecutor")
+    public Executor feedExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(FEED_WRITER_THREADS);
+        executor.setMaxPoolSize(FEED_WRITER_THREADS);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setQueueCapacity(Integer.MAX_VALUE);
+        executor.setThreadNamePrefix("Feed-");
+        executor.initialize();
+        return executor;
+    }
+
+    // Chunk workers of {@link FeedImporter} imports, shared by concurrent uploads. Each import queues its
+    // scraper.feed.parallelism workers here; while they wait behind another import's, that import's reader
+    // blocks on its own full chunk queue, so waiting costs no memory.
+    @Bean(name = "feedImportExecutor")
+    public Executor feedImportExecutor(ScraperProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getFeed().getParallelism());
+        executor.setMaxPoolSize(properties.getFeed().getParallelism());
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("Import-");
+        executor.initialize();
+        return executor;
+    }
+
+    // Stage workers of {@link IngestionPipeline} runs. A run needs every worker at once, since a stage left
+    // waiting for a thread would stall the stages feeding it, so nothing is queued: a run that finds the pool
+    // exhausted fails at start. Idle threads are released after the keep-alive.
+    @Bean(name = "ingestionExecutor")
+    public Executor ingestionExecutor(ScraperProperties properties) {
+        ScraperProperties.Pipeline config = properties.getPipeline();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(0);
+        executor.setMaxPoolSize(config.getMaxConcurrentRuns() * config.workersPerRun());
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("Ingestion-");
+        executor.initialize();
+        return executor;
+    }
 }
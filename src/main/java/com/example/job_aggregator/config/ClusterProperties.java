@@ -0,0 +1,23 @@
+package com.example.job_aggregator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Scrape coordination between instances sharing one database, bound from {@code cluster.*}.
+ *
+ * Off by default: a single instance crawls every page itself, as before.
+ */
+@Data
+@ConfigurationProperties(prefix = "cluster")
+public class ClusterProperties {
+
+    private boolean enabled = false;
+    // Stable name of this instance; a random one is generated when empty
+    private String nodeId = "";
+    // How often a node renews its membership and leases and looks for work
+    private long heartbeatIntervalMs = 5000;
+    // A node or unit lease not renewed for this long is considered dead and its work is taken over;
+    // keep it several heartbeats long and well above the clock skew between hosts
+    private long leaseDurationMs = 20000;
+}
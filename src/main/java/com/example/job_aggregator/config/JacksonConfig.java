@@ -0,0 +1,48 @@
+package com.example.job_aggregator.config;
+
+import com.example.job_aggregator.resource.JobField;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Binary encodings offered next to JSON through {@code Accept} negotiation:
+ * {@code application/x-jackson-smile} and {@code application/cbor}.
+ *
+ * The mappers come from Boot's builder so they share the spring.jackson.* settings (ISO dates, modules)
+ * with the JSON mapper. Declaring these converters as beans replaces Spring MVC's defaults for the same types.
+ */
+@Configuration
+public class JacksonConfig {
+
+    // JobResource names a property filter for fields= projections; without a projection every field is written
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer jobFieldFilterCustomizer() {
+        return builder -> builder.filters(JobField.ALL_FIELDS);
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(binaryMapper(builder, new SmileFactory()));
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(binaryMapper(builder, new CBORFactory()));
+    }
+
+    private static ObjectMapper binaryMapper(Jackson2ObjectMapperBuilder builder, JsonFactory factory) {
+        return builder.createXmlMapper(false)
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.INDENT_OUTPUT)
+                .build();
+    }
+}
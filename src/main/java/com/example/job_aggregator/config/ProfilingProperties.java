@@ -0,0 +1,23 @@
+package com.example.job_aggregator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * On-demand Java Flight Recorder recordings started through {@code /api/actuator/jfr}, bound from
+ * {@code profiling.*}. Every recording is bounded in time and size, so one left running cannot fill the disk.
+ */
+@Data
+@ConfigurationProperties(prefix = "profiling")
+public class ProfilingProperties {
+
+    // JFR settings the recording starts from: "default" (about 1% overhead) or "profile" (more detail)
+    private String settings = "profile";
+    // Length of a recording when the request names none, and the longest one allowed
+    private int defaultDurationSeconds = 60;
+    private int maxDurationSeconds = 900;
+    // Older data is dropped once the recording reaches this size
+    private int maxSizeMb = 100;
+    // Finished recordings and downloads of running ones are written here
+    private String directory = "data/jfr";
+}
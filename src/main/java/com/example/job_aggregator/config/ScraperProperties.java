@@ -0,0 +1,133 @@
+package com.example.job_aggregator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import static com.example.job_aggregator.constants.ScrapingConstants.*;
+
+/**
+ * Tunables for outbound scraping, bound from {@code scraper.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "scraper")
+public class ScraperProperties {
+
+    private Resilience resilience = new Resilience();
+    private Dice dice = new Dice();
+    private Pipeline pipeline = new Pipeline();
+    private Enrichment enrichment = new Enrichment();
+    private Journal journal = new Journal();
+    private Snapshot snapshot = new Snapshot();
+    private Skills skills = new Skills();
+    private Feed feed = new Feed();
+
+    @Data
+    public static class Dice {
+        // Point at a local mock board for load tests
+        private String baseUrl = DICE_BASE_URL;
+        private String searchPath = DICE_SEARCH_PATH;
+        // Search-result pages crawled per scrape run
+        private int pages = 1;
+    }
+
+    @Data
+    public static class Enrichment {
+        private boolean enabled = true;
+        // Detail pages fetched at once across all hosts, and per host
+        private int maxConcurrency = 32;
+        private int maxConcurrencyPerHost = 16;
+        // Jobs whose detail page is not back by then are stored with their search-card data
+        private long batchTimeoutMs = 15000;
+    }
+
+    @Data
+    public static class Journal {
+        private boolean enabled = true;
+        private String directory = "data/journal";
+        // Force appends to disk before committing; concurrent appends share one fsync
+        private boolean fsync = true;
+        private long segmentSizeBytes = 64L * 1024 * 1024;
+    }
+
+    @Data
+    public static class Snapshot {
+        private boolean enabled = true;
+        // Binary image of the read model, loaded at startup instead of rebuilding it from the database
+        private String path = "data/snapshot/jobs.snapshot";
+    }
+
+    @Data
+    public static class Skills {
+        private boolean enabled = true;
+        // Skill tags and aliases matched against job titles and descriptions at ingestion
+        private String dictionary = "classpath:skills.txt";
+    }
+
+    @Data
+    public static class Feed {
+        // Records per chunk; each chunk is deduped and committed in one transaction
+        private int chunkSize = 1000;
+        // Chunks processed at the same time, and read ahead of them; together they bound an import's memory
+        private int parallelism = 4;
+        private int queueCapacity = 4;
+        // Rejected records listed per chunk in the import report; the rest are only counted
+        private int maxErrorsPerChunk = 10;
+        // Longer lines are rejected as they are read, without being held in memory
+        private int maxRecordLength = 1_000_000;
+    }
+
+    @Data
+    public static class Pipeline {
+        private int fetchParallelism = 4;
+        private int parseParallelism = 2;
+        private int normalizeParallelism = 1;
+        private int dedupeParallelism = 1;
+        // Batches enriched at the same time; each batch fans out to the enrichment pool
+        private int enrichParallelism = 2;
+        private int tagParallelism = 1;
+        private int persistParallelism = 1;
+
+        // Parsed pages are large, so only a few may wait for the parser
+        private int pageQueueCapacity = 8;
+        private int jobQueueCapacity = 500;
+        private int batchQueueCapacity = 4;
+
+        // A micro-batch is committed once it is full or its first job has waited this long
+        private int batchSize = 100;
+        private long batchMaxWaitMs = 200;
+
+        // Runs that may crawl at once; sizes the shared pool their stage workers run on
+        private int maxConcurrentRuns = 2;
+
+        // Worker threads one run takes from that pool, all at the same time
+        public int workersPerRun() {
+            return fetchParallelism + parseParallelism + normalizeParallelism + dedupeParallelism
+                    + enrichParallelism + tagParallelism + persistParallelism;
+        }
+    }
+
+    @Data
+    public static class Resilience {
+        // Per-attempt HTTP timeout
+        private int timeoutMs = 4000;
+        // Total time a single fetch may spend across retries; keeps a scrape inside the request's wait time
+        private long deadlineMs = 9000;
+
+        private int maxAttempts = 3;
+        private long baseBackoffMs = 200;
+        private long maxBackoffMs = 2000;
+
+        private double failureRateThreshold = 0.5;
+        private int slidingWindowSize = 10;
+        private int minimumCalls = 4;
+        private long openDurationMs = 30000;
+        private int halfOpenPermittedCalls = 1;
+
+        private boolean hedgeEnabled = true;
+        // Send a second request once the first has taken longer than this latency percentile
+        private double hedgePercentile = 0.95;
+        private int hedgeMinSamples = 20;
+        // Threads for hedged fetches; while all are busy, fetches are sent without a hedge
+        private int hedgeMaxThreads = 16;
+    }
+}
@@ -5,10 +5,9 @@ public class ScrapingConstants {
     public static final String BOARD_DICE = "Dice";
     // URL Constants
     public static final String DICE_BASE_URL = "https://www.dice.com";
-    public static final String DICE_SEARCH_URL = "https://www.dice.com/jobs?q=Java+Developer&location=Remote";
+    public static final String DICE_SEARCH_PATH = "/jobs?q=Java+Developer&location=Remote";
 
     // Timeout
-    public static final int SCRAPER_TIMEOUT_MS = 30000;
     public static final int SCRAPING_WAIT_TIMEOUT_SECONDS = 10;
 
     // CSS Selectors for Dice
@@ -17,6 +16,14 @@ public class ScrapingConstants {
     public static final String DICE_LOCATION_SELECTOR = ".text-sm.font-normal.text-zinc-600";
     public static final String DICE_DESCRIPTION_SELECTOR = ".line-clamp-2.h-10.shrink.grow.basis-0.text-sm.font-normal.text-zinc-900";
 
+    // Dice job detail pages; the schema.org JobPosting JSON-LD block is preferred when present
+    public static final String JSON_LD_SELECTOR = "script[type=application/ld+json]";
+    public static final String DICE_DETAIL_DESCRIPTION_SELECTOR = "[data-testid='jobDescriptionHtml']";
+    public static final String DICE_DETAIL_SALARY_SELECTOR = "[data-cy='compensationText']";
+    public static final String DICE_DETAIL_POSTED_SELECTOR = "time[datetime]";
+    // Circuit breaker key suffix, so failing detail pages never trip a board's search breaker
+    public static final String DETAIL_PAGE_SUFFIX = "-detail";
+
     // Regex Patterns
     public static final String DICE_UUID_PATTERN = "/job-detail/([a-f0-9]{8}-[a-f0-9]{4}-[a-f0-9]{4}-[a-f0-9]{4}-[a-f0-9]{12})";
     public static final String DICE_JOB_ID_PATTERN = "/job-detail/([a-f0-9-]{36})";
@@ -28,6 +35,15 @@ public class ScrapingConstants {
     public static final String HEADER_ACCEPT = "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8";
     public static final String HEADER_ACCEPT_LANGUAGE = "en-US,en;q=0.9";
 
+    // Defaults for card fields a board left empty
+    public static final String DEFAULT_JOB_TITLE = "Developer Position";
+    public static final String DEFAULT_COMPANY = "Company Not Listed";
+    public static final String DEFAULT_LOCATION = "Location Not Specified";
+    public static final String DEFAULT_DESCRIPTION = "See job posting for details";
+    public static final int MAX_DESCRIPTION_LENGTH = 5000;
+    // Length of the other string columns of the jobs table
+    public static final int MAX_COLUMN_LENGTH = 255;
+
     // ID Prefixes
     public static final String ID_PREFIX_DICE = "dice-";
     public static final String ID_PREFIX_MOCK = "mock-";
@@ -36,4 +52,38 @@ public class ScrapingConstants {
     // DEFAULT USER SETTINGS
     public static final String DEFAULT_USER = "default_user";
     public static final String DEFAULT_USER_PASSWORD = "password";
+
+    // Batch operations
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    // Job change feed (SSE)
+    public static final int FEED_REPLAY_CAPACITY = 10000;
+    public static final int FEED_SUBSCRIBER_BUFFER_SIZE = 256;
+    public static final long FEED_EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+    public static final long FEED_HEARTBEAT_INTERVAL_MS = 30000;
+    public static final int FEED_WRITER_THREADS = 16;
+
+    // Bulk NDJSON imports; the job board of records that do not name one
+    public static final String IMPORT_DEFAULT_SOURCE = "Feed";
+
+    // Ingestion journal
+    public static final long JOURNAL_RECOVERY_INTERVAL_MS = 30000;
+
+    // Admission control
+    public static final long ADMISSION_BUCKET_EVICTION_INTERVAL_MS = 60000;
+    public static final long MAX_RETRY_AFTER_SECONDS = 3600;
+
+    // In-memory read model
+    public static final long READ_MODEL_CHECK_INTERVAL_MS = 5 * 60 * 1000L;
+    public static final long READ_MODEL_SNAPSHOT_INTERVAL_MS = 10 * 60 * 1000L;
+
+    // Similar jobs (TF-IDF)
+    public static final int SIMILAR_JOBS_TERMS_PER_JOB = 24;
+    public static final int SIMILAR_JOBS_QUERY_TERMS = 16;
+    // Terms found in more than this share of all jobs are skipped at query time
+    public static final double SIMILAR_JOBS_MAX_DOCUMENT_FRACTION = 0.05;
+    // Recompute all weights once the corpus has grown by this factor
+    public static final double SIMILAR_JOBS_REWEIGHT_GROWTH = 1.25;
+    public static final int SIMILAR_JOBS_DEFAULT_LIMIT = 10;
+    public static final int SIMILAR_JOBS_MAX_LIMIT = 100;
 }
@@ -1,6 +1,13 @@
 package com.example.job_aggregator.controller;
 
+import com.example.job_aggregator.ingestion.FeedImportResult;
+import com.example.job_aggregator.resource.JobField;
 import com.example.job_aggregator.resource.JobResource;
+import com.example.job_aggregator.resource.SimilarJobResource;
+import com.example.job_aggregator.resource.SkillFacetResource;
+import com.example.job_aggregator.search.SearchCriteria;
+import com.example.job_aggregator.service.DataVersionService;
+import com.example.job_aggregator.service.JobFeedService;
 import com.example.job_aggregator.service.JobService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,11 +16,24 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Set;
+
+import static com.example.job_aggregator.constants.ScrapingConstants.IMPORT_DEFAULT_SOURCE;
+import static com.example.job_aggregator.constants.ScrapingConstants.SIMILAR_JOBS_DEFAULT_LIMIT;
 
 @RestController
 @RequestMapping("/api/jobs")
@@ -24,11 +44,17 @@ import java.util.List;
 public class JobController {
 
     private final JobService jobService;
+    private final JobFeedService jobFeedService;
+    private final DataVersionService dataVersionService;
 
     // GET /api/jobs
     @Operation(
             summary = "Get all jobs",
-            description = "Retrieves all jobs currently stored in the database. Returns an empty array if no jobs are found."
+            description = "Retrieves all jobs currently stored in the database, optionally only those from one job board. " +
+                    "Returns an empty array if no jobs are found. Descriptions are omitted unless requested through " +
+                    "fields, a comma-separated list of properties (e.g. fields=id,title,description). " +
+                    "Responses carry an ETag that changes only when new jobs are ingested; send it back in If-None-Match " +
+                    "to get a 304 without a body."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -39,19 +65,90 @@ public class JobController {
                             schema = @Schema(implementation = JobResource.class)
                     )
             ),
+            @ApiResponse(responseCode = "304", description = "Jobs unchanged since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping
-    public List<JobResource> getAllJobs() {
-        log.info("Fetching all jobs");
-        return jobService.getAllJobs();
+    public ResponseEntity<MappingJacksonValue> getAllJobs(
+            @RequestParam(required = false) String jobBoard,
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
+        Set<JobField> selectedFields = JobField.parse(fields);
+        String etag = dataVersionService.etag("all", request.getHeader(HttpHeaders.ACCEPT), jobBoard,
+                selectedFields.toString());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        log.info("Fetching all jobs, jobBoard: {}", jobBoard);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(withFields(jobService.getAllJobs(jobBoard, selectedFields), selectedFields));
+    }
+
+    // GET /api/jobs/{id}
+    @Operation(summary = "Get a job by ID", description = "Retrieves a single job with all of its details, including the full description.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the job",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = JobResource.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Job not found",
+                    content = @Content(
+                            mediaType = "text/plain",
+                            examples = @ExampleObject(value = "Job not found with ID: dice-123")
+                    )
+            ),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/{id}")
+    public JobResource getJob(@PathVariable String id) {
+        log.info("Fetching job with ID: {}", id);
+        return jobService.getJob(id);
+    }
+
+    // GET /api/jobs/{id}/similar
+    @Operation(
+            summary = "Find similar jobs",
+            description = "Returns the jobs whose title and description are most similar to the given job " +
+                    "(cosine similarity of TF-IDF vectors computed at ingestion), best first, each with its score. " +
+                    "Useful for suggesting related postings after a job is saved."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Similar jobs",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = SimilarJobResource.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid limit"),
+            @ApiResponse(responseCode = "404", description = "Job not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/{id}/similar")
+    public List<SimilarJobResource> getSimilarJobs(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "" + SIMILAR_JOBS_DEFAULT_LIMIT) int limit) {
+        log.info("Finding jobs similar to {}", id);
+        return jobService.getSimilarJobs(id, limit);
     }
 
     // GET /api/jobs/search
     @Operation(
             summary = "Search jobs with filters",
             description = "Search for jobs using optional filters. All parameters are optional and can be combined. " +
-                    "Search is case-insensitive and uses partial matching."
+                    "Search is case-insensitive and uses partial matching. skill filters on extracted skill tags " +
+                    "(e.g. skill=spring-boot&skill=kafka); a job must carry every requested skill. " +
+                    "Supports fields and ETag/If-None-Match like GET /api/jobs."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -62,16 +159,92 @@ public class JobController {
                             schema = @Schema(implementation = JobResource.class)
                     )
             ),
+            @ApiResponse(responseCode = "304", description = "Results unchanged since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "400", description = "Invalid search parameters"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/search")
-    public List<JobResource> searchJobs(
+    public ResponseEntity<MappingJacksonValue> searchJobs(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String location,
-            @RequestParam(required = false) String company) {
-        log.info("Searching jobs - keyword: {}, location: {}, company: {}", keyword, location, company);
-        return jobService.searchJobs(keyword, location, company);
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) List<String> skill,
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
+        SearchCriteria criteria = SearchCriteria.of(keyword, location, company, skill);
+        Set<JobField> selectedFields = JobField.parse(fields);
+        String etag = dataVersionService.etag("search", request.getHeader(HttpHeaders.ACCEPT),
+                criteria.getKeyword(), criteria.getLocation(), criteria.getCompany(),
+                String.join(",", criteria.getSkills()), selectedFields.toString());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        log.info("Searching jobs - keyword: {}, location: {}, company: {}, skills: {}", keyword, location, company, skill);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(withFields(jobService.searchJobs(keyword, location, company, criteria.getSkills(), selectedFields),
+                        selectedFields));
+    }
+
+    // GET /api/jobs/facets/skills
+    @Operation(
+            summary = "Count jobs per skill",
+            description = "Returns the skills extracted from job titles and descriptions at ingestion, with the number of " +
+                    "jobs carrying each, most frequent first. Takes the same filters as /search, so the counts describe " +
+                    "the jobs that search would return. Counts come from the skill index; no description is read."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Skill counts",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = SkillFacetResource.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid limit"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/facets/skills")
+    public List<SkillFacetResource> getSkillFacets(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) List<String> skill,
+            @RequestParam(defaultValue = "20") int limit) {
+        log.info("Counting skills - keyword: {}, location: {}, company: {}, skills: {}", keyword, location, company, skill);
+        return jobService.getSkillFacets(keyword, location, company, skill, limit);
+    }
+
+    // GET /api/jobs/stream
+    @Operation(
+            summary = "Stream newly ingested jobs",
+            description = "Opens a Server-Sent Events stream that pushes each job as soon as its ingestion commits. " +
+                    "Optional filters use the same case-insensitive partial matching as /search. " +
+                    "Every event carries a sequence id; reconnect with the Last-Event-ID header (or the since parameter) " +
+                    "to resume. A 'reset' event means the missed events are no longer buffered and the client should " +
+                    "re-fetch /api/jobs. Clients that fall too far behind are disconnected."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Event stream opened",
+                    content = @Content(mediaType = "text/event-stream")
+            ),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamJobs(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) Long since,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        Long cursor = lastEventId != null ? lastEventId : since;
+        log.info("Opening job stream - keyword: {}, location: {}, company: {}, cursor: {}", keyword, location, company, cursor);
+        return jobFeedService.subscribe(SearchCriteria.of(keyword, location, company), cursor);
     }
 
     // POST /api/jobs/scrape
@@ -130,4 +303,40 @@ public class JobController {
         return jobService.scrapeMockJobs();
     }
 
+    // POST /api/jobs/import
+    @Operation(
+            summary = "Import a job feed",
+            description = "Imports jobs from an NDJSON request body (one JSON object per line with id, sourceUrl and " +
+                    "optionally title, company, location, jobBoard, description, salary and postedAt), optionally " +
+                    "gzip-compressed. The body is streamed and imported in chunks that are deduplicated and committed " +
+                    "in parallel, like scraped jobs. source is stored as the job board of records that name none. " +
+                    "Invalid records are rejected individually; the response reports every chunk with its errors."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Feed imported; see chunksFailed and error for partial failures",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = FeedImportResult.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid source"),
+            @ApiResponse(responseCode = "500", description = "Import failed")
+    })
+    @PostMapping(path = "/import", consumes = {"application/x-ndjson", "application/gzip",
+            MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public FeedImportResult importJobs(
+            @RequestParam(defaultValue = IMPORT_DEFAULT_SOURCE) String source,
+            HttpServletRequest request) throws IOException, InterruptedException {
+        log.info("Importing job feed from {}", source);
+        return jobService.importJobs(request.getInputStream(), source);
+    }
+
+    // Only the selected fields are written, so unselected ones are absent rather than null
+    private static MappingJacksonValue withFields(List<JobResource> jobs, Set<JobField> fields) {
+        MappingJacksonValue body = new MappingJacksonValue(jobs);
+        body.setFilters(JobField.only(fields));
+        return body;
+    }
 }
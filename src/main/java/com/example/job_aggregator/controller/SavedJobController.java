@@ -1,5 +1,6 @@
 package com.example.job_aggregator.controller;
 
+import com.example.job_aggregator.resource.BatchResultResource;
 import com.example.job_aggregator.resource.SavedJobResource;
 import com.example.job_aggregator.service.JobService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -146,6 +147,79 @@ public class SavedJobController {
         jobService.deleteSavedJob(id);
     }
 
+    // POST /api/saved-jobs/batch
+    @Operation(
+            summary = "Save multiple jobs to user's list",
+            description = "Saves every job in the request body in a single transaction. " +
+                    "Jobs that are already saved are reported as ALREADY_SAVED and unknown job IDs as NOT_FOUND; " +
+                    "neither fails the batch. At most 1000 IDs are accepted per request."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed, see per-item results",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BatchResultResource.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized batch"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping("/batch")
+    public BatchResultResource saveJobs(@RequestBody List<String> jobIds) {
+        log.info("Batch saving {} jobs", jobIds.size());
+        return jobService.saveJobs(jobIds);
+    }
+
+    // PUT /api/saved-jobs/batch/apply
+    @Operation(
+            summary = "Mark multiple saved jobs as applied",
+            description = "Marks every saved job in the request body as applied with a single update. " +
+                    "Unknown saved job IDs are reported as NOT_FOUND. At most 1000 IDs are accepted per request."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed, see per-item results",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BatchResultResource.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized batch"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PutMapping("/batch/apply")
+    public BatchResultResource markAllAsApplied(@RequestBody List<Long> ids) {
+        log.info("Batch marking {} saved jobs as applied", ids.size());
+        return jobService.markAllAsApplied(ids);
+    }
+
+    // DELETE /api/saved-jobs/batch
+    @Operation(
+            summary = "Delete multiple saved jobs",
+            description = "Removes every saved job in the request body with a single delete. " +
+                    "Unknown saved job IDs are reported as NOT_FOUND. At most 1000 IDs are accepted per request."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed, see per-item results",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BatchResultResource.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized batch"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @DeleteMapping("/batch")
+    public BatchResultResource deleteSavedJobs(@RequestBody List<Long> ids) {
+        log.info("Batch deleting {} saved jobs", ids.size());
+        return jobService.deleteSavedJobs(ids);
+    }
+
     // GET /api/saved-jobs/export
     @Operation(
             summary = "Export applied jobs as CSV",
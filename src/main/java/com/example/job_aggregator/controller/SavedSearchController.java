@@ -0,0 +1,138 @@
+package com.example.job_aggregator.controller;
+
+import com.example.job_aggregator.resource.JobNotificationResource;
+import com.example.job_aggregator.resource.SavedSearchResource;
+import com.example.job_aggregator.service.SavedSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/saved-searches")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+@Tag(name = "Saved Searches", description = "Saved search and job alert endpoints")
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+
+    // POST /api/saved-searches
+    @Operation(
+            summary = "Save search criteria as an alert",
+            description = "Stores the given criteria for the user. Every job ingested afterwards that matches them " +
+                    "(same case-insensitive partial matching as /api/jobs/search) creates a notification. " +
+                    "At least one criterion is required."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Saved search created",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = SavedSearchResource.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "No search criteria given"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public SavedSearchResource createSavedSearch(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String company) {
+        log.info("Creating saved search - keyword: {}, location: {}, company: {}", keyword, location, company);
+        return savedSearchService.createSavedSearch(keyword, location, company);
+    }
+
+    // GET /api/saved-searches
+    @Operation(summary = "Get user's saved searches", description = "Retrieves all saved searches of the user.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved saved searches",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = SavedSearchResource.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping
+    public List<SavedSearchResource> getSavedSearches() {
+        log.info("Fetching saved searches");
+        return savedSearchService.getSavedSearches();
+    }
+
+    // DELETE /api/saved-searches/{id}
+    @Operation(
+            summary = "Delete a saved search",
+            description = "Removes the saved search and all notifications it produced."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Saved search deleted successfully"),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Saved search not found",
+                    content = @Content(
+                            mediaType = "text/plain",
+                            examples = @ExampleObject(value = "Saved search not found with ID: 1")
+                    )
+            ),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteSavedSearch(@PathVariable Long id) {
+        log.info("Deleting saved search: {}", id);
+        savedSearchService.deleteSavedSearch(id);
+    }
+
+    // GET /api/saved-searches/notifications
+    @Operation(
+            summary = "Get job alert notifications",
+            description = "Retrieves notifications for newly ingested jobs that matched one of the user's saved searches, " +
+                    "most recent first. Can be filtered to show only unread notifications."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved notifications",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = JobNotificationResource.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/notifications")
+    public List<JobNotificationResource> getNotifications(
+            @RequestParam(defaultValue = "false") boolean unreadOnly) {
+        log.info("Fetching notifications, unreadOnly: {}", unreadOnly);
+        return savedSearchService.getNotifications(unreadOnly);
+    }
+
+    // PUT /api/saved-searches/notifications/read
+    @Operation(summary = "Mark all notifications as read", description = "Marks every unread notification of the user as read.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Notifications marked as read"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PutMapping("/notifications/read")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void markNotificationsAsRead() {
+        log.info("Marking notifications as read");
+        savedSearchService.markNotificationsAsRead();
+    }
+}
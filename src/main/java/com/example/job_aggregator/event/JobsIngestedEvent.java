@@ -0,0 +1,17 @@
+package com.example.job_aggregator.event;
+
+import com.example.job_aggregator.model.Job;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Published once per ingestion batch with the jobs that were newly persisted (duplicates excluded).
+ * Listeners that need the committed state use {@code @TransactionalEventListener}.
+ */
+@Getter
+@RequiredArgsConstructor
+public class JobsIngestedEvent {
+    private final List<Job> jobs;
+}
@@ -0,0 +1,77 @@
+package com.example.job_aggregator.ingestion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded hand-off queue between two pipeline stages.
+ *
+ * Producers block while it is full, which is how backpressure travels upstream. Once every producer has
+ * called {@link #producerDone()} consumers drain what is left and then see end-of-stream.
+ */
+final class Channel<T> {
+
+    private static final Object END = new Object();
+
+    private final BlockingQueue<Object> queue;
+    private final AtomicInteger producers;
+
+    Channel(int capacity, int producers) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.producers = new AtomicInteger(producers);
+    }
+
+    void put(T item) throws InterruptedException {
+        queue.put(item);
+    }
+
+    // Next item, or null once the channel is closed and drained
+    @SuppressWarnings("unchecked")
+    T take() throws InterruptedException {
+        Object item = queue.take();
+        if (item == END) {
+            // Leave the marker for the other consumers
+            queue.put(END);
+            return null;
+        }
+        return (T) item;
+    }
+
+    // Up to maxItems, waiting at most maxWaitMs after the first one arrived; empty once closed and drained
+    @SuppressWarnings("unchecked")
+    List<T> takeBatch(int maxItems, long maxWaitMs) throws InterruptedException {
+        T first = take();
+        if (first == null) {
+            return List.of();
+        }
+        List<T> batch = new ArrayList<>(maxItems);
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        while (batch.size() < maxItems) {
+            Object item = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (item == null) {
+                break;
+            }
+            if (item == END) {
+                queue.put(END);
+                break;
+            }
+            batch.add((T) item);
+        }
+        return batch;
+    }
+
+    void producerDone() throws InterruptedException {
+        if (producers.decrementAndGet() == 0) {
+            queue.put(END);
+        }
+    }
+
+    int size() {
+        return queue.size();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.job_aggregator.ingestion;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of one chunk of a feed import: which lines it covered, what happened to its records and the
+ * first few errors, each prefixed with its line number.
+ */
+@Data
+@Builder
+public class FeedChunkReport {
+    private int number;
+    private long firstLine;
+    private long lastLine;
+    private int records;
+    private int saved;
+    private int duplicates;
+    private int rejected;
+    // False when the chunk's transaction failed; a journaled chunk is then retried in the background
+    private boolean committed;
+    @Builder.Default
+    private List<String> errors = new ArrayList<>();
+}
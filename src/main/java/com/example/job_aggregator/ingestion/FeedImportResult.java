@@ -0,0 +1,26 @@
+package com.example.job_aggregator.ingestion;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Totals of one feed import and the report of every chunk, in file order.
+ */
+@Data
+@Builder
+public class FeedImportResult {
+    private String source;
+    // Null when the whole feed was read; otherwise why reading stopped (chunks before it are still imported)
+    private String error;
+    private long lines;
+    private long records;
+    private long saved;
+    private long duplicates;
+    private long rejected;
+    private int chunksCommitted;
+    private int chunksFailed;
+    private long elapsedMs;
+    private List<FeedChunkReport> chunks;
+}
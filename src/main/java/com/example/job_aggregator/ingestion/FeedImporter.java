@@ -0,0 +1,288 @@
+package com.example.job_aggregator.ingestion;
+
+import com.example.job_aggregator.config.ScraperProperties;
+import com.example.job_aggregator.model.Job;
+import com.example.job_aggregator.skills.SkillExtractor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static com.example.job_aggregator.constants.ScrapingConstants.*;
+
+/**
+ * Imports a job feed uploaded as NDJSON (one JSON object per line), optionally gzip-compressed.
+ *
+ * The upload is read line by line and cut into chunks of {@code scraper.feed.chunk-size} records. Workers on
+ * the shared {@code feedImportExecutor} pool parse and validate each chunk, then send it down the same path as scraped jobs: normalize,
+ * dedupe against the database, tag skills, journal and commit in one transaction per chunk. The reader
+ * blocks while {@code scraper.feed.queue-capacity} chunks are waiting, so memory stays flat however large
+ * the feed is; a line longer than {@code scraper.feed.max-record-length} is rejected while it is read rather
+ * than held. A bad record only rejects itself, and a failed commit only fails its chunk.
+ */
+@Component
+@Slf4j
+public class FeedImporter {
+
+    private static final AtomicInteger IMPORT_COUNTER = new AtomicInteger();
+    private static final int GZIP_MAGIC = 0x8b1f;
+
+    private final ObjectReader recordReader;
+    private final JobNormalizer jobNormalizer;
+    private final JobBatchCommitter jobBatchCommitter;
+    private final SkillExtractor skillExtractor;
+    private final ScraperProperties.Feed config;
+    private final Executor feedImportExecutor;
+
+    public FeedImporter(ObjectMapper objectMapper, JobNormalizer jobNormalizer, JobBatchCommitter jobBatchCommitter,
+                        SkillExtractor skillExtractor, ScraperProperties scraperProperties,
+                        @Qualifier("feedImportExecutor") Executor feedImportExecutor) {
+        this.recordReader = objectMapper.readerFor(FeedRecord.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        this.jobNormalizer = jobNormalizer;
+        this.jobBatchCommitter = jobBatchCommitter;
+        this.skillExtractor = skillExtractor;
+        this.config = scraperProperties.getFeed();
+        this.feedImportExecutor = feedImportExecutor;
+    }
+
+    // Non-blank lines of the feed handed to a worker, with the line number of each for error reports;
+    // firstLine-lastLine also spans the blank lines skipped around them. A null line is a record over the
+    // length limit, left unread
+    private record Chunk(int number, long firstLine, long lastLine, List<String> lines, long[] lineNumbers) {
+    }
+
+    // Import the whole stream; returns once every chunk read has been committed or has failed
+    public FeedImportResult importFeed(InputStream body, String source) throws InterruptedException {
+        int importNumber = IMPORT_COUNTER.incrementAndGet();
+        long start = System.currentTimeMillis();
+        Channel<Chunk> chunks = new Channel<>(config.getQueueCapacity(), 1);
+        List<FeedChunkReport> reports = new ArrayList<>();
+
+        List<FutureTask<Void>> workers = new ArrayList<>(config.getParallelism());
+        for (int i = 1; i <= config.getParallelism(); i++) {
+            FutureTask<Void> worker = new FutureTask<>(() -> {
+                try {
+                    Chunk chunk;
+                    while ((chunk = chunks.take()) != null) {
+                        FeedChunkReport report = process(chunk, source);
+                        log.info("Import {} chunk {} (lines {}-{}): {} saved, {} duplicates, {} rejected{}", importNumber,
+                                report.getNumber(), report.getFirstLine(), report.getLastLine(), report.getSaved(),
+                                report.getDuplicates(), report.getRejected(), report.isCommitted() ? "" : ", commit failed");
+                        synchronized (reports) {
+                            reports.add(report);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    // The import was cancelled
+                }
+            }, null);
+            workers.add(worker);
+        }
+        workers.forEach(feedImportExecutor::execute);
+
+        String error = null;
+        long lineNumber = 0;
+        try {
+            int chunkNumber = 0;
+            long firstLine = 1;
+            List<String> lines = new ArrayList<>();
+            long[] lineNumbers = new long[config.getChunkSize()];
+            try (FeedLineReader reader = open(body, config.getMaxRecordLength())) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (reader.isOversized()) {
+                        line = null;
+                    } else if (line.isBlank()) {
+                        // Only records are buffered, so a chunk holds chunkSize lines however many blank ones surround them
+                        continue;
+                    }
+                    lineNumbers[lines.size()] = lineNumber;
+                    lines.add(line);
+                    if (lines.size() == config.getChunkSize()) {
+                        chunks.put(new Chunk(++chunkNumber, firstLine, lineNumber, lines, lineNumbers));
+                        firstLine = lineNumber + 1;
+                        lines = new ArrayList<>();
+                        lineNumbers = new long[config.getChunkSize()];
+                    }
+                }
+            } catch (IOException e) {
+                // A truncated upload or broken gzip stream; whatever was read before it still gets imported
+                error = "Feed could not be read after line " + lineNumber + ": " + e.getMessage();
+                log.warn("Import {}: {}", importNumber, error);
+            }
+            if (!lines.isEmpty()) {
+                chunks.put(new Chunk(++chunkNumber, firstLine, lineNumber, lines, lineNumbers));
+            }
+            chunks.producerDone();
+            for (FutureTask<Void> worker : workers) {
+                worker.get();
+            }
+        } catch (InterruptedException e) {
+            workers.forEach(worker -> worker.cancel(true));
+            throw e;
+        } catch (ExecutionException e) {
+            workers.forEach(worker -> worker.cancel(true));
+            throw new IllegalStateException("Import " + importNumber + " worker failed", e.getCause());
+        }
+
+        reports.sort(Comparator.comparingInt(FeedChunkReport::getNumber));
+        FeedImportResult result = FeedImportResult.builder()
+                .source(source)
+                .error(error)
+                .lines(lineNumber)
+                .records(reports.stream().mapToLong(FeedChunkReport::getRecords).sum())
+                .saved(reports.stream().mapToLong(FeedChunkReport::getSaved).sum())
+                .duplicates(reports.stream().mapToLong(FeedChunkReport::getDuplicates).sum())
+                .rejected(reports.stream().mapToLong(FeedChunkReport::getRejected).sum())
+                .chunksCommitted((int) reports.stream().filter(FeedChunkReport::isCommitted).count())
+                .chunksFailed((int) reports.stream().filter(report -> !report.isCommitted()).count())
+                .elapsedMs(System.currentTimeMillis() - start)
+                .chunks(reports)
+                .build();
+        log.info("Import {} from {} finished in {} ms: {} records, {} saved, {} duplicates, {} rejected, {} chunks failed",
+                importNumber, source, result.getElapsedMs(), result.getRecords(), result.getSaved(),
+                result.getDuplicates(), result.getRejected(), result.getChunksFailed());
+        return result;
+    }
+
+    private FeedChunkReport process(Chunk chunk, String source) {
+        FeedChunkReport report = FeedChunkReport.builder()
+                .number(chunk.number())
+                .firstLine(chunk.firstLine())
+                .lastLine(chunk.lastLine())
+                .records(chunk.lines().size())
+                .committed(true)
+                .build();
+        List<Job> jobs = new ArrayList<>(chunk.lines().size());
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < chunk.lines().size(); i++) {
+            if (chunk.lines().get(i) == null) {
+                reject(report, chunk.lineNumbers()[i], "record is longer than " + config.getMaxRecordLength() + " characters");
+                continue;
+            }
+            Job job;
+            try {
+                job = toJob(recordReader.readValue(chunk.lines().get(i)), source);
+            } catch (JsonProcessingException e) {
+                reject(report, chunk.lineNumbers()[i], e.getOriginalMessage());
+                continue;
+            } catch (IllegalArgumentException e) {
+                reject(report, chunk.lineNumbers()[i], e.getMessage());
+                continue;
+            }
+            // Same ID twice in one chunk; repeats across chunks are caught by the database check
+            if (ids.add(job.getId())) {
+                jobs.add(job);
+            } else {
+                report.setDuplicates(report.getDuplicates() + 1);
+            }
+        }
+
+        try {
+            List<Job> newJobs = jobBatchCommitter.withoutExisting(jobs);
+            if (skillExtractor.isEnabled()) {
+                newJobs.forEach(skillExtractor::tag);
+            }
+            List<Job> saved = newJobs.isEmpty() ? newJobs : jobBatchCommitter.commit(newJobs);
+            report.setSaved(saved.size());
+            report.setDuplicates(report.getDuplicates() + jobs.size() - saved.size());
+        } catch (RuntimeException e) {
+            report.setCommitted(false);
+            report.getErrors().add("Chunk not committed: " + e.getMessage());
+        }
+        return report;
+    }
+
+    // Map and validate one record; throws IllegalArgumentException with a message for the report
+    private Job toJob(FeedRecord record, String source) {
+        if (record == null) {
+            throw new IllegalArgumentException("Not a JSON object");
+        }
+        Job job = new Job();
+        job.setId(record.getId());
+        job.setTitle(record.getTitle());
+        job.setCompany(record.getCompany());
+        job.setLocation(record.getLocation());
+        job.setSourceUrl(record.getSourceUrl());
+        job.setJobBoard(record.getJobBoard() == null || record.getJobBoard().isBlank() ? source : record.getJobBoard());
+        job.setDescription(record.getDescription());
+        job.setSalary(record.getSalary());
+        job.setPostedAt(parsePostedAt(record.getPostedAt()));
+
+        Job normalized = jobNormalizer.normalize(job);
+        if (normalized == null) {
+            throw new IllegalArgumentException("id and sourceUrl are required");
+        }
+        checkLength("id", normalized.getId());
+        checkLength("title", normalized.getTitle());
+        checkLength("company", normalized.getCompany());
+        checkLength("location", normalized.getLocation());
+        checkLength("sourceUrl", normalized.getSourceUrl());
+        checkLength("jobBoard", normalized.getJobBoard());
+        checkLength("salary", normalized.getSalary());
+        return normalized;
+    }
+
+    private static LocalDateTime parsePostedAt(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return value.length() == 10
+                    ? LocalDateTime.parse(value + "T00:00:00")
+                    : LocalDateTime.parse(value, DateTimeFormatter.ISO_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("postedAt is not an ISO-8601 date or date-time: " + value);
+        }
+    }
+
+    private static void checkLength(String field, String value) {
+        if (value != null && value.length() > MAX_COLUMN_LENGTH) {
+            throw new IllegalArgumentException(field + " is longer than " + MAX_COLUMN_LENGTH + " characters");
+        }
+    }
+
+    private void reject(FeedChunkReport report, long lineNumber, String message) {
+        report.setRejected(report.getRejected() + 1);
+        if (report.getErrors().size() < config.getMaxErrorsPerChunk()) {
+            report.getErrors().add("line " + lineNumber + ": " + message);
+        }
+    }
+
+    // Gzip is recognized by its magic bytes, so compressed uploads need no special header
+    private static FeedLineReader open(InputStream body, int maxRecordLength) throws IOException {
+        InputStream in = new BufferedInputStream(body, 64 * 1024);
+        in.mark(2);
+        int magic = in.read() | (in.read() << 8);
+        in.reset();
+        if (magic == GZIP_MAGIC) {
+            in = new GZIPInputStream(in, 64 * 1024);
+        }
+        return new FeedLineReader(new InputStreamReader(in, StandardCharsets.UTF_8), maxRecordLength);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.job_aggregator.ingestion;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads a feed line by line, like {@link java.io.BufferedReader#readLine()} for {@code \n} and {@code \r\n}
+ * line breaks, but never holds more than a set number of characters of one line.
+ *
+ * A longer line is skipped up to its line break and returned empty with {@link #isOversized()} set, so a
+ * single huge line (a minified JSON array, say) costs no more memory than a record at the limit.
+ */
+final class FeedLineReader implements Closeable {
+
+    private final Reader in;
+    private final int maxLength;
+    private final char[] buffer = new char[64 * 1024];
+    private final StringBuilder line = new StringBuilder();
+    private int position;
+    private int limit;
+    private boolean oversized;
+
+    FeedLineReader(Reader in, int maxLength) {
+        this.in = in;
+        this.maxLength = maxLength;
+    }
+
+    // Next line without its line break, or null at the end of the stream
+    String readLine() throws IOException {
+        line.setLength(0);
+        oversized = false;
+        boolean read = false;
+        while (true) {
+            if (position == limit) {
+                limit = Math.max(0, in.read(buffer, 0, buffer.length));
+                position = 0;
+                if (limit == 0) {
+                    return read ? finish() : null;
+                }
+            }
+            read = true;
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            append(start, position);
+            if (position < limit) {
+                position++;
+                return finish();
+            }
+        }
+    }
+
+    // Whether the line last returned was longer than the limit; its content was dropped
+    boolean isOversized() {
+        return oversized;
+    }
+
+    private void append(int start, int end) {
+        if (oversized) {
+            return;
+        }
+        // One character of slack for the \r of a \r\n line break
+        if (line.length() + end - start > maxLength + 1) {
+            oversized = true;
+            line.setLength(0);
+            return;
+        }
+        line.append(buffer, start, end - start);
+    }
+
+    private String finish() {
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            length--;
+        }
+        if (length > maxLength) {
+            oversized = true;
+        }
+        return oversized ? "" : line.substring(0, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
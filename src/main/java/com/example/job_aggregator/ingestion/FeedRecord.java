@@ -0,0 +1,20 @@
+package com.example.job_aggregator.ingestion;
+
+import lombok.Data;
+
+/**
+ * One line of an NDJSON job feed. Only {@code id} and {@code sourceUrl} are required; unknown properties
+ * are ignored. {@code postedAt} is an ISO-8601 date or date-time.
+ */
+@Data
+public class FeedRecord {
+    private String id;
+    private String title;
+    private String company;
+    private String location;
+    private String sourceUrl;
+    private String jobBoard;
+    private String description;
+    private String salary;
+    private String postedAt;
+}
@@ -0,0 +1,9 @@
+package com.example.job_aggregator.ingestion;
+
+import org.jsoup.nodes.Document;
+
+/**
+ * A downloaded search-result page waiting for the parse stage.
+ */
+public record FetchedPage(String board, String url, Document document) {
+}
@@ -0,0 +1,287 @@
+package com.example.job_aggregator.ingestion;
+
+import com.example.job_aggregator.config.ScraperProperties;
+import com.example.job_aggregator.journal.IngestionJournal;
+import com.example.job_aggregator.model.Job;
+import com.example.job_aggregator.service.ScraperService;
+import com.example.job_aggregator.skills.SkillExtractor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Streams scraped jobs into the database through seven stages connected by bounded {@link Channel}s:
+ *
+ * <pre>
+ * fetch -> parse -> normalize -> dedupe -> enrich -> tag -> persist
+ * </pre>
+ *
+ * Every stage runs its own workers (parallelism is configured per stage under {@code scraper.pipeline.*})
+ * on the shared {@code ingestionExecutor} pool. A full channel blocks its producers, so a slow database throttles fetching
+ * instead of letting parsed jobs pile up, and memory stays bounded by the channel capacities no matter how
+ * many pages are crawled. Dedupe groups jobs into micro-batches that are committed one transaction each,
+ * so the first jobs are searchable while later pages are still being downloaded. Enrichment sits after
+ * dedupe, so detail pages are only fetched for jobs that are actually new, and tagging after enrichment, so
+ * skills are extracted from the full description. Each batch is appended to the {@link IngestionJournal}
+ * before it is committed ({@link JobBatchCommitter}).
+ */
+@Component
+@Slf4j
+public class IngestionPipeline {
+
+    private final ScraperService scraperService;
+    private final JobNormalizer jobNormalizer;
+    private final JobBatchCommitter jobBatchCommitter;
+    private final JobEnricher jobEnricher;
+    private final SkillExtractor skillExtractor;
+    private final ScraperProperties scraperProperties;
+    private final Executor ingestionExecutor;
+
+    public IngestionPipeline(ScraperService scraperService, JobNormalizer jobNormalizer,
+                             JobBatchCommitter jobBatchCommitter, JobEnricher jobEnricher, SkillExtractor skillExtractor,
+                             ScraperProperties scraperProperties, @Qualifier("ingestionExecutor") Executor ingestionExecutor) {
+        this.scraperService = scraperService;
+        this.jobNormalizer = jobNormalizer;
+        this.jobBatchCommitter = jobBatchCommitter;
+        this.jobEnricher = jobEnricher;
+        this.skillExtractor = skillExtractor;
+        this.scraperProperties = scraperProperties;
+        this.ingestionExecutor = ingestionExecutor;
+    }
+
+    // Start crawling the given pages; the returned run completes after the last batch is committed
+    public IngestionRun start(List<PageRequest> pages) {
+        ScraperProperties.Pipeline config = scraperProperties.getPipeline();
+        IngestionRun run = new IngestionRun();
+        Stages stages = new Stages(run, ingestionExecutor);
+
+        Channel<PageRequest> requests = new Channel<>(pages.size() + 1, 1);
+        Channel<FetchedPage> fetched = new Channel<>(config.getPageQueueCapacity(), config.getFetchParallelism());
+        Channel<Job> parsed = new Channel<>(config.getJobQueueCapacity(), config.getParseParallelism());
+        Channel<Job> normalized = new Channel<>(config.getJobQueueCapacity(), config.getNormalizeParallelism());
+        Channel<List<Job>> batches = new Channel<>(config.getBatchQueueCapacity(), config.getDedupeParallelism());
+        Channel<List<Job>> enriched = new Channel<>(config.getBatchQueueCapacity(), config.getEnrichParallelism());
+        Channel<List<Job>> tagged = new Channel<>(config.getBatchQueueCapacity(), config.getTagParallelism());
+
+        // Per-run set of IDs already handed to persist, so a job listed on two pages is only inserted once
+        Set<String> seenIds = ConcurrentHashMap.newKeySet();
+
+        stages.start("fetch", config.getFetchParallelism(), () -> {
+            PageRequest page;
+            while ((page = requests.take()) != null) {
+                try {
+                    fetched.put(scraperService.fetch(page));
+                    run.pagesFetched.incrementAndGet();
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Exception e) {
+                    run.pagesFailed.incrementAndGet();
+                    log.warn("Skipping {} page {}: {}", page.board(), page.url(), e.getMessage());
+                }
+            }
+            fetched.producerDone();
+        });
+
+        stages.start("parse", config.getParseParallelism(), () -> {
+            FetchedPage page;
+            while ((page = fetched.take()) != null) {
+                List<Job> jobs;
+                try {
+                    jobs = scraperService.parse(page);
+                } catch (RuntimeException e) {
+                    run.pagesFailed.incrementAndGet();
+                    log.warn("Could not parse {} page {}: {}", page.board(), page.url(), e.getMessage());
+                    continue;
+                }
+                log.debug("Parsed {} jobs from {}", jobs.size(), page.url());
+                for (Job job : jobs) {
+                    parsed.put(job);
+                }
+                run.jobsParsed.addAndGet(jobs.size());
+            }
+            parsed.producerDone();
+        });
+
+        stages.start("normalize", config.getNormalizeParallelism(), () -> {
+            Job job;
+            while ((job = parsed.take()) != null) {
+                Job normalizedJob = jobNormalizer.normalize(job);
+                if (normalizedJob == null) {
+                    run.jobsRejected.incrementAndGet();
+                } else {
+                    normalized.put(normalizedJob);
+                }
+            }
+            normalized.producerDone();
+        });
+
+        stages.start("dedupe", config.getDedupeParallelism(), () -> {
+            List<Job> batch;
+            while (!(batch = normalized.takeBatch(config.getBatchSize(), config.getBatchMaxWaitMs())).isEmpty()) {
+                List<Job> unseen = batch.stream()
+                        .filter(job -> seenIds.add(job.getId()))
+                        .collect(Collectors.toList());
+                List<Job> newJobs = jobBatchCommitter.withoutExisting(unseen);
+                run.duplicates.addAndGet(batch.size() - newJobs.size());
+                if (!newJobs.isEmpty()) {
+                    batches.put(newJobs);
+                }
+            }
+            batches.producerDone();
+        });
+
+        stages.start("enrich", config.getEnrichParallelism(), () -> {
+            List<Job> batch;
+            while ((batch = batches.take()) != null) {
+                if (jobEnricher.isEnabled()) {
+                    run.enriched.addAndGet(jobEnricher.enrich(batch));
+                }
+                enriched.put(batch);
+            }
+            enriched.producerDone();
+        });
+
+        stages.start("tag", config.getTagParallelism(), () -> {
+            List<Job> batch;
+            while ((batch = enriched.take()) != null) {
+                if (skillExtractor.isEnabled()) {
+                    batch.forEach(skillExtractor::tag);
+                }
+                tagged.put(batch);
+            }
+            tagged.producerDone();
+        });
+
+        AtomicInteger persistWorkers = new AtomicInteger(config.getPersistParallelism());
+        stages.start("persist", config.getPersistParallelism(), () -> {
+            List<Job> batch;
+            while ((batch = tagged.take()) != null) {
+                persist(batch, run);
+            }
+            if (persistWorkers.decrementAndGet() == 0) {
+                stages.finish();
+            }
+        });
+
+        // Requests are known up front and the channel has room for them and the end marker, so feeding them
+        // never blocks, even when the run was aborted before any fetch worker started
+        try {
+            for (PageRequest page : pages) {
+                requests.put(page);
+            }
+            requests.producerDone();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stages.abort(e);
+        }
+        return run;
+    }
+
+    private void persist(List<Job> batch, IngestionRun run) {
+        List<Job> saved;
+        try {
+            saved = jobBatchCommitter.commit(batch);
+        } catch (RuntimeException e) {
+            run.batchesFailed.incrementAndGet();
+            return;
+        }
+        run.duplicates.addAndGet(batch.size() - saved.size());
+        run.saved.addAndGet(saved.size());
+        run.batchesCommitted.incrementAndGet();
+    }
+
+    @FunctionalInterface
+    private interface Worker {
+        void run() throws InterruptedException;
+    }
+
+    // Workers of one run on the shared pool; any unexpected failure, or a worker left without a thread,
+    // stops the whole run
+    private static final class Stages {
+
+        private static final AtomicInteger RUN_COUNTER = new AtomicInteger();
+
+        private final IngestionRun run;
+        private final Executor executor;
+        private final int runNumber = RUN_COUNTER.incrementAndGet();
+        // Pool threads currently running a worker of this run, the only ones an abort may interrupt
+        private final List<Thread> threads = new ArrayList<>();
+        private boolean aborted;
+        private final long startedAt = System.currentTimeMillis();
+
+        private Stages(IngestionRun run, Executor executor) {
+            this.run = run;
+            this.executor = executor;
+        }
+
+        void start(String stage, int parallelism, Worker worker) {
+            for (int i = 1; i <= parallelism && !isAborted(); i++) {
+                String name = "Ingest-" + runNumber + "-" + stage + "-" + i;
+                try {
+                    executor.execute(() -> runWorker(stage, name, worker));
+                } catch (RejectedExecutionException e) {
+                    log.error("No ingestion thread left for {}; scraper.pipeline.max-concurrent-runs runs are "
+                            + "already crawling", name);
+                    abort(e);
+                }
+            }
+        }
+
+        private void runWorker(String stage, String name, Worker worker) {
+            Thread thread = Thread.currentThread();
+            synchronized (this) {
+                if (aborted) {
+                    return;
+                }
+                threads.add(thread);
+            }
+            String poolName = thread.getName();
+            thread.setName(name);
+            try {
+                worker.run();
+            } catch (InterruptedException e) {
+                // The run was aborted
+            } catch (RuntimeException | Error e) {
+                log.error("Ingestion stage {} failed", stage, e);
+                abort(e);
+            } finally {
+                synchronized (this) {
+                    threads.remove(thread);
+                }
+                thread.setName(poolName);
+                // An abort may have interrupted this thread after its worker returned; keep that out of the pool
+                Thread.interrupted();
+            }
+        }
+
+        void finish() {
+            IngestionResult result = run.snapshot();
+            log.info("Ingestion run {} finished in {} ms: {} pages fetched ({} failed), {} jobs parsed, "
+                            + "{} saved in {} batches ({} enriched), {} duplicates, {} rejected, {} batches failed",
+                    runNumber, System.currentTimeMillis() - startedAt, result.getPagesFetched(),
+                    result.getPagesFailed(), result.getJobsParsed(), result.getSaved(),
+                    result.getBatchesCommitted(), result.getEnriched(), result.getDuplicates(), result.getJobsRejected(),
+                    result.getBatchesFailed());
+            run.complete();
+        }
+
+        synchronized void abort(Throwable cause) {
+            aborted = true;
+            run.fail(cause);
+            threads.forEach(Thread::interrupt);
+        }
+
+        private synchronized boolean isAborted() {
+            return aborted;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.job_aggregator.ingestion;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Counters of one ingestion run; a snapshot while the run is still in progress.
+ */
+@Data
+@Builder
+public class IngestionResult {
+    private boolean completed;
+    private int pagesFetched;
+    private int pagesFailed;
+    private int jobsParsed;
+    private int jobsRejected;
+    private int duplicates;
+    private int enriched;
+    private int saved;
+    private int batchesCommitted;
+    private int batchesFailed;
+}
@@ -0,0 +1,52 @@
+package com.example.job_aggregator.ingestion;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Handle on a running ingestion: live counters plus a future that completes when the last batch
+ * has been committed.
+ */
+public class IngestionRun {
+
+    final AtomicInteger pagesFetched = new AtomicInteger();
+    final AtomicInteger pagesFailed = new AtomicInteger();
+    final AtomicInteger jobsParsed = new AtomicInteger();
+    final AtomicInteger jobsRejected = new AtomicInteger();
+    final AtomicInteger duplicates = new AtomicInteger();
+    final AtomicInteger enriched = new AtomicInteger();
+    final AtomicInteger saved = new AtomicInteger();
+    final AtomicInteger batchesCommitted = new AtomicInteger();
+    final AtomicInteger batchesFailed = new AtomicInteger();
+
+    private final CompletableFuture<IngestionResult> completion = new CompletableFuture<>();
+
+    public CompletableFuture<IngestionResult> getCompletion() {
+        return completion;
+    }
+
+    public IngestionResult snapshot() {
+        return IngestionResult.builder()
+                .completed(completion.isDone())
+                .pagesFetched(pagesFetched.get())
+                .pagesFailed(pagesFailed.get())
+                .jobsParsed(jobsParsed.get())
+                .jobsRejected(jobsRejected.get())
+                .duplicates(duplicates.get())
+                .enriched(enriched.get())
+                .saved(saved.get())
+                .batchesCommitted(batchesCommitted.get())
+                .batchesFailed(batchesFailed.get())
+                .build();
+    }
+
+    void complete() {
+        IngestionResult result = snapshot();
+        result.setCompleted(true);
+        completion.complete(result);
+    }
+
+    void fail(Throwable cause) {
+        completion.completeExceptionally(cause);
+    }
+}
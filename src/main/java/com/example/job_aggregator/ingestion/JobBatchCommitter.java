@@ -0,0 +1,114 @@
+package com.example.job_aggregator.ingestion;
+
+import com.example.job_aggregator.journal.IngestionJournal;
+import com.example.job_aggregator.journal.JournalRange;
+import com.example.job_aggregator.model.Job;
+import com.example.job_aggregator.profiling.BatchPersistEvent;
+import com.example.job_aggregator.profiling.DedupeEvent;
+import com.example.job_aggregator.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The write path shared by scrapes and feed imports: drops jobs that are already stored, then journals
+ * and commits a batch of new ones.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobBatchCommitter {
+
+    private final JobRepository jobRepository;
+    private final JobBatchWriter jobBatchWriter;
+    private final IngestionJournal ingestionJournal;
+
+    // The jobs whose IDs are not in the database yet
+    public List<Job> withoutExisting(List<Job> jobs) {
+        if (jobs.isEmpty()) {
+            return jobs;
+        }
+        DedupeEvent event = new DedupeEvent();
+        event.begin();
+        Set<String> existingIds = new HashSet<>(jobRepository.findAllIdsByIdIn(
+                jobs.stream().map(Job::getId).collect(Collectors.toList())));
+        if (event.shouldCommit()) {
+            event.setRows(jobs.size());
+            event.setExisting(existingIds.size());
+            event.commit();
+        }
+        if (existingIds.isEmpty()) {
+            return jobs;
+        }
+        return jobs.stream()
+                .filter(job -> !existingIds.contains(job.getId()))
+                .collect(Collectors.toList());
+    }
+
+    // Journal and commit the batch; returns the jobs actually inserted. Throws when the commit failed,
+    // after handing a journaled batch over to recovery
+    public List<Job> commit(List<Job> batch) {
+        BatchPersistEvent event = new BatchPersistEvent();
+        event.begin();
+        // Write-ahead: once journaled, the batch survives a failed commit or a crash
+        JournalRange range = appendToJournal(batch);
+        List<Job> saved = List.of();
+        boolean committed = false;
+        try {
+            saved = persist(batch);
+            committed = true;
+        } catch (RuntimeException e) {
+            log.error("Failed to persist a batch of {} jobs{}", batch.size(),
+                    range == null ? "" : "; it will be recovered from the journal", e);
+            if (range != null) {
+                ingestionJournal.failed(range);
+            }
+            throw e;
+        } finally {
+            if (event.shouldCommit()) {
+                event.setRows(batch.size());
+                event.setSaved(saved.size());
+                event.setJournaled(range != null);
+                event.setCommitted(committed);
+                event.commit();
+            }
+        }
+        if (range != null) {
+            ingestionJournal.committed(range);
+        }
+        return saved;
+    }
+
+    // Retry once without jobs another run inserted after dedupe checked them
+    private List<Job> persist(List<Job> batch) {
+        try {
+            jobBatchWriter.persist(batch);
+            return batch;
+        } catch (DataIntegrityViolationException e) {
+            List<Job> remaining = withoutExisting(batch);
+            if (!remaining.isEmpty()) {
+                jobBatchWriter.persist(remaining);
+            }
+            return remaining;
+        }
+    }
+
+    private JournalRange appendToJournal(List<Job> batch) {
+        if (!ingestionJournal.isEnabled()) {
+            return null;
+        }
+        try {
+            return ingestionJournal.append(batch);
+        } catch (IOException e) {
+            log.warn("Could not journal a batch of {} jobs, committing without it: {}", batch.size(), e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.job_aggregator.ingestion;
+
+import com.example.job_aggregator.event.JobsIngestedEvent;
+import com.example.job_aggregator.model.Job;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Commits one micro-batch of new jobs in its own transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobBatchWriter {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Dedupe already established these IDs are new, so persist (plain batched INSERTs) instead of
+    // saveAll, which would merge and SELECT every job first
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void persist(List<Job> jobs) {
+        for (Job job : jobs) {
+            entityManager.persist(job);
+        }
+        entityManager.flush();
+        eventPublisher.publishEvent(new JobsIngestedEvent(jobs));
+    }
+
+    // Startup restore from the journal: same inserts, but no event, since the read model and alert
+    // index are built from the database once the application is ready
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void restore(List<Job> jobs) {
+        for (Job job : jobs) {
+            entityManager.persist(job);
+        }
+        entityManager.flush();
+    }
+}
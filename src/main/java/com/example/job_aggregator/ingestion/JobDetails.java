@@ -0,0 +1,24 @@
+package com.example.job_aggregator.ingestion;
+
+import com.example.job_aggregator.model.Job;
+
+import java.time.LocalDateTime;
+
+/**
+ * What a job's detail page adds to its search-result card; any field may be null.
+ */
+public record JobDetails(String description, String salary, LocalDateTime postedAt) {
+
+    // Copy what was found onto the job, keeping card data where the detail page had nothing
+    public void applyTo(Job job) {
+        if (description != null && (job.getDescription() == null || description.length() > job.getDescription().length())) {
+            job.setDescription(description);
+        }
+        if (salary != null) {
+            job.setSalary(salary);
+        }
+        if (postedAt != null) {
+            job.setPostedAt(postedAt);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.job_aggregator.ingestion;
+
+import com.example.job_aggregator.config.ScraperProperties;
+import com.example.job_aggregator.model.Job;
+import com.example.job_aggregator.service.ScraperService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fills in full description, salary and posting date from each new job's detail page.
+ *
+ * Detail pages are fetched on a fixed pool whose size is the global concurrency limit. On top of that each
+ * host has a gate that admits at most {@code maxConcurrencyPerHost} fetches; jobs beyond that wait in the
+ * host's queue without holding a pool thread, so one busy board never starves the others.
+ */
+@Component
+@Slf4j
+public class JobEnricher {
+
+    private final ScraperService scraperService;
+    private final JobNormalizer jobNormalizer;
+    private final ScraperProperties.Enrichment config;
+    private final ExecutorService executor;
+    private final Map<String, HostGate> gates = new ConcurrentHashMap<>();
+
+    public JobEnricher(ScraperService scraperService, JobNormalizer jobNormalizer, ScraperProperties properties) {
+        this.scraperService = scraperService;
+        this.jobNormalizer = jobNormalizer;
+        this.config = properties.getEnrichment();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(config.getMaxConcurrency(), runnable -> {
+            Thread thread = new Thread(runnable, "Enrich-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    // Enrich the batch in place; returns how many jobs got details. Jobs that fail or are not done within
+    // the batch timeout keep their search-card data.
+    public int enrich(List<Job> jobs) throws InterruptedException {
+        List<CompletableFuture<JobDetails>> pending = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            CompletableFuture<JobDetails> details = new CompletableFuture<>();
+            gate(job.getSourceUrl()).submit(() -> {
+                if (details.isDone()) {
+                    // The batch already gave up on this job
+                    return;
+                }
+                try {
+                    details.complete(scraperService.fetchDetails(job));
+                } catch (Exception e) {
+                    details.completeExceptionally(e);
+                }
+            });
+            pending.add(details);
+        }
+
+        try {
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture[0]))
+                    .get(config.getBatchTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // Use whatever finished; failures are reported per job below
+        }
+
+        // Results are applied here, on the calling thread, so a late fetch can never touch a job being persisted
+        int enriched = 0;
+        for (int i = 0; i < jobs.size(); i++) {
+            CompletableFuture<JobDetails> details = pending.get(i);
+            Job job = jobs.get(i);
+            if (!details.isDone()) {
+                details.cancel(false);
+                log.debug("Detail page of {} not fetched within {} ms", job.getId(), config.getBatchTimeoutMs());
+            } else if (details.isCompletedExceptionally()) {
+                log.debug("No details for {}: {}", job.getId(), details.handle((d, e) -> e.getMessage()).join());
+            } else if (details.join() != null) {
+                details.join().applyTo(job);
+                // Detail pages bring untrimmed, possibly over-long text
+                jobNormalizer.normalize(job);
+                enriched++;
+            }
+        }
+        log.info("Enriched {} of {} new jobs from their detail pages", enriched, jobs.size());
+        return enriched;
+    }
+
+    private HostGate gate(String url) {
+        String host;
+        try {
+            host = URI.create(url).getHost();
+        } catch (IllegalArgumentException e) {
+            host = null;
+        }
+        return gates.computeIfAbsent(host == null ? "" : host, h -> new HostGate(config.getMaxConcurrencyPerHost()));
+    }
+
+    // Admits at most `permits` tasks of one host to the pool; the rest queue here
+    private final class HostGate {
+
+        private final Semaphore permits;
+        private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+
+        private HostGate(int permits) {
+            this.permits = new Semaphore(permits);
+        }
+
+        void submit(Runnable task) {
+            waiting.add(task);
+            drain();
+        }
+
+        // Called whenever a task is queued or a permit is returned, so no queued task is left behind
+        private void drain() {
+            while (!waiting.isEmpty() && permits.tryAcquire()) {
+                Runnable task = waiting.poll();
+                if (task == null) {
+                    permits.release();
+                    continue;
+                }
+                executor.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        permits.release();
+                        drain();
+                    }
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.job_aggregator.ingestion;
+
+import com.example.job_aggregator.model.Job;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.regex.Pattern;
+
+import static com.example.job_aggregator.constants.ScrapingConstants.*;
+
+/**
+ * Cleans parsed jobs before dedupe: collapses whitespace, fills defaults for empty card fields and
+ * keeps descriptions within the column length.
+ */
+@Component
+public class JobNormalizer {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // The normalized job, or null when it cannot be stored (no usable ID or source URL)
+    public Job normalize(Job job) {
+        String id = clean(job.getId());
+        String sourceUrl = clean(job.getSourceUrl());
+        if (id == null || sourceUrl == null) {
+            return null;
+        }
+        job.setId(id);
+        job.setSourceUrl(sourceUrl);
+        job.setTitle(orDefault(clean(job.getTitle()), DEFAULT_JOB_TITLE));
+        job.setCompany(orDefault(clean(job.getCompany()), DEFAULT_COMPANY));
+        job.setLocation(orDefault(clean(job.getLocation()), DEFAULT_LOCATION));
+        job.setDescription(truncate(orDefault(clean(job.getDescription()), DEFAULT_DESCRIPTION)));
+        job.setSalary(clean(job.getSalary()));
+        if (job.getScrapedAt() == null) {
+            job.setScrapedAt(LocalDateTime.now());
+        }
+        return job;
+    }
+
+    private static String clean(String value) {
+        if (value == null) {
+            return null;
+        }
+        String cleaned = WHITESPACE.matcher(value).replaceAll(" ").trim();
+        return cleaned.isEmpty() ? null : cleaned;
+    }
+
+    private static String orDefault(String value, String defaultValue) {
+        return value == null ? defaultValue : value;
+    }
+
+    private static String truncate(String value) {
+        return value.length() <= MAX_DESCRIPTION_LENGTH ? value : value.substring(0, MAX_DESCRIPTION_LENGTH);
+    }
+}
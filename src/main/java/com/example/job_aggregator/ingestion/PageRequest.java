@@ -0,0 +1,7 @@
+package com.example.job_aggregator.ingestion;
+
+/**
+ * One search-result page of a job board, the unit of work of the fetch stage.
+ */
+public record PageRequest(String board, String url) {
+}
@@ -0,0 +1,415 @@
+package com.example.job_aggregator.journal;
+
+import com.example.job_aggregator.config.ScraperProperties;
+import com.example.job_aggregator.model.Job;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, on-disk journal of every batch of new jobs handed to the database.
+ *
+ * Batches are appended to segment files ({@code segment-<base offset>.log}) as length- and CRC-prefixed
+ * records before they are committed. Appends are group-committed: whichever appender gets to fsync first
+ * forces everything written so far, so concurrent batches share one {@code force()}. A position is a
+ * logical byte offset across segments.
+ *
+ * The checkpoint is the position before which every batch is known to be committed to the database; it
+ * stops at the first batch whose commit failed and is persisted with an atomic rename. A torn record at the
+ * end of the last segment (crash mid-write) is truncated when the journal is opened.
+ *
+ * Segments are never deleted. With the in-memory database the journal is the only durable copy of the
+ * jobs, and an empty database is restored by replaying it from the start, so it grows with every job
+ * ever ingested.
+ */
+@Component
+@Slf4j
+public class IngestionJournal {
+
+    private static final int SEGMENT_MAGIC = 0x4A524E4C; // "JRNL"
+    private static final int SEGMENT_VERSION = 1;
+    private static final int SEGMENT_HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int MAX_RECORD_SIZE = 4 * 1024 * 1024;
+    private static final int CHECKPOINT_MAGIC = 0x4A434B50; // "JCKP"
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    private final ScraperProperties.Journal config;
+
+    private final Object writeLock = new Object();
+    private Path directory;
+    private FileChannel channel;
+    private long segmentBase;
+    private long writePosition;
+
+    private final Object syncLock = new Object();
+    private volatile long syncedPosition;
+
+    private final Object stateLock = new Object();
+    // Appended batches not yet committed (start -> end), including failed ones
+    private final NavigableMap<Long, Long> uncommitted = new TreeMap<>();
+    private final NavigableMap<Long, Long> failed = new TreeMap<>();
+    private long appendedEnd;
+    private long checkpoint;
+
+    public IngestionJournal(ScraperProperties properties) {
+        this.config = properties.getJournal();
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        if (!config.isEnabled()) {
+            log.info("Ingestion journal disabled");
+            return;
+        }
+        directory = Paths.get(config.getDirectory());
+        Files.createDirectories(directory);
+
+        List<Long> segments = segmentBases();
+        synchronized (writeLock) {
+            if (segments.isEmpty()) {
+                openSegment(0);
+            } else {
+                long base = segments.get(segments.size() - 1);
+                Path path = segmentPath(base);
+                if (Files.size(path) < SEGMENT_HEADER_SIZE) {
+                    // Crashed while creating the segment
+                    Files.delete(path);
+                    openSegment(base);
+                } else {
+                    openExisting(base, path);
+                }
+            }
+            syncedPosition = writePosition;
+        }
+        synchronized (stateLock) {
+            appendedEnd = writePosition;
+            checkpoint = Math.min(readCheckpoint(), writePosition);
+        }
+        log.info("Ingestion journal opened at {}: {} segment(s), end {}, checkpoint {}",
+                directory.toAbsolutePath(), Math.max(1, segments.size()), writePosition, checkpoint);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        synchronized (writeLock) {
+            if (channel != null) {
+                channel.force(true);
+                channel.close();
+                channel = null;
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    // Durably append a batch; returns once its records are on disk (or written, with fsync off)
+    public JournalRange append(List<Job> jobs) throws IOException {
+        byte[] records = encode(jobs);
+        long start;
+        long end;
+        synchronized (writeLock) {
+            if (channel == null) {
+                throw new IOException("Ingestion journal is not open");
+            }
+            if (writePosition - segmentBase + records.length > config.getSegmentSizeBytes()
+                    && writePosition - segmentBase > SEGMENT_HEADER_SIZE) {
+                rollSegment();
+            }
+            start = writePosition;
+            ByteBuffer buffer = ByteBuffer.wrap(records);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            writePosition += records.length;
+            end = writePosition;
+            synchronized (stateLock) {
+                uncommitted.put(start, end);
+                appendedEnd = end;
+            }
+        }
+        if (config.isFsync()) {
+            sync(end);
+        }
+        return new JournalRange(start, end);
+    }
+
+    // The batch reached the database; the checkpoint may move past it
+    public void committed(JournalRange range) {
+        synchronized (stateLock) {
+            uncommitted.remove(range.start());
+            failed.remove(range.start());
+            advanceCheckpoint(uncommitted.isEmpty() ? appendedEnd : uncommitted.firstKey());
+        }
+    }
+
+    // The batch's commit failed; it stays in the journal for recovery
+    public void failed(JournalRange range) {
+        synchronized (stateLock) {
+            failed.put(range.start(), range.end());
+        }
+    }
+
+    public List<JournalRange> failedRanges() {
+        synchronized (stateLock) {
+            List<JournalRange> ranges = new ArrayList<>(failed.size());
+            failed.forEach((start, end) -> ranges.add(new JournalRange(start, end)));
+            return ranges;
+        }
+    }
+
+    // Everything before the position has been restored into the store (used after replay)
+    public void checkpoint(long position) {
+        synchronized (stateLock) {
+            uncommitted.headMap(position, false).clear();
+            failed.headMap(position, false).clear();
+            advanceCheckpoint(uncommitted.isEmpty() ? Math.max(position, appendedEnd) : uncommitted.firstKey());
+        }
+    }
+
+    public long getCheckpoint() {
+        synchronized (stateLock) {
+            return checkpoint;
+        }
+    }
+
+    public long getEnd() {
+        synchronized (writeLock) {
+            return writePosition;
+        }
+    }
+
+    // Read the records in [from, to) and hand them over in chunks of up to chunkSize jobs
+    public int read(long from, long to, int chunkSize, Consumer<List<Job>> consumer) throws IOException {
+        int count = 0;
+        List<Job> chunk = new ArrayList<>(chunkSize);
+        List<Long> bases = segmentBases();
+        for (int i = 0; i < bases.size(); i++) {
+            long base = bases.get(i);
+            long next = i + 1 < bases.size() ? bases.get(i + 1) : Long.MAX_VALUE;
+            if (next <= from || base >= to) {
+                continue;
+            }
+            try (FileChannel segment = FileChannel.open(segmentPath(base), StandardOpenOption.READ)) {
+                long offset = Math.max(SEGMENT_HEADER_SIZE, from - base);
+                long limit = Math.min(segment.size(), to - base);
+                segment.position(offset);
+                DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(segment), 64 * 1024));
+                while (offset < limit) {
+                    byte[] payload = readRecord(in);
+                    if (payload == null) {
+                        log.error("Corrupt journal record in {} at offset {}; skipping rest of segment", segmentPath(base), offset);
+                        break;
+                    }
+                    offset += RECORD_HEADER_SIZE + payload.length;
+                    chunk.add(JobRecordCodec.read(new DataInputStream(new ByteArrayInputStream(payload))));
+                    count++;
+                    if (chunk.size() == chunkSize) {
+                        consumer.accept(chunk);
+                        chunk = new ArrayList<>(chunkSize);
+                    }
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            consumer.accept(chunk);
+        }
+        return count;
+    }
+
+    // Group commit: one force() covers every append written before it started
+    private void sync(long position) throws IOException {
+        synchronized (syncLock) {
+            if (syncedPosition >= position) {
+                return;
+            }
+            long target;
+            FileChannel current;
+            synchronized (writeLock) {
+                target = writePosition;
+                current = channel;
+            }
+            if (current != null) {
+                current.force(false);
+            }
+            syncedPosition = target;
+        }
+    }
+
+    private void advanceCheckpoint(long position) {
+        if (position <= checkpoint) {
+            return;
+        }
+        checkpoint = position;
+        try {
+            writeCheckpoint(position);
+        } catch (IOException e) {
+            log.warn("Could not persist journal checkpoint {}: {}", position, e.getMessage());
+        }
+    }
+
+    // Reopen the last segment for appending, cutting off a torn record left by a crash mid-write
+    private void openExisting(long base, Path path) throws IOException {
+        long validLength = validLength(path);
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (validLength < channel.size()) {
+            log.warn("Truncating torn journal tail of {} from {} to {} bytes", path, channel.size(), validLength);
+            channel.truncate(validLength);
+            channel.force(true);
+        }
+        channel.position(validLength);
+        segmentBase = base;
+        writePosition = base + validLength;
+    }
+
+    private void rollSegment() throws IOException {
+        channel.force(false);
+        channel.close();
+        openSegment(writePosition);
+    }
+
+    private void openSegment(long base) throws IOException {
+        channel = FileChannel.open(segmentPath(base),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_SIZE).putInt(SEGMENT_MAGIC).putInt(SEGMENT_VERSION).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        channel.force(true);
+        segmentBase = base;
+        writePosition = base + SEGMENT_HEADER_SIZE;
+    }
+
+    private static byte[] encode(List<Job> jobs) throws IOException {
+        ByteArrayOutputStream records = new ByteArrayOutputStream(jobs.size() * 1024);
+        DataOutputStream out = new DataOutputStream(records);
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(1024);
+        DataOutputStream payloadOut = new DataOutputStream(payload);
+        CRC32 crc = new CRC32();
+        for (Job job : jobs) {
+            payload.reset();
+            JobRecordCodec.write(job, payloadOut);
+            payloadOut.flush();
+            byte[] bytes = payload.toByteArray();
+            crc.reset();
+            crc.update(bytes);
+            out.writeInt(bytes.length);
+            out.writeInt((int) crc.getValue());
+            out.write(bytes);
+        }
+        out.flush();
+        return records.toByteArray();
+    }
+
+    // Payload of the next record, or null if it is truncated or fails its checksum
+    private static byte[] readRecord(DataInputStream in) throws IOException {
+        try {
+            int length = in.readInt();
+            int checksum = in.readInt();
+            if (length < 0 || length > MAX_RECORD_SIZE) {
+                return null;
+            }
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            return (int) crc.getValue() == checksum ? payload : null;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    // Length of the segment up to its last intact record
+    private static long validLength(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 64 * 1024))) {
+            if (Files.size(path) < SEGMENT_HEADER_SIZE || in.readInt() != SEGMENT_MAGIC || in.readInt() != SEGMENT_VERSION) {
+                throw new IOException("Not a journal segment (bad header): " + path);
+            }
+            long length = SEGMENT_HEADER_SIZE;
+            byte[] payload;
+            while ((payload = readRecord(in)) != null) {
+                length += RECORD_HEADER_SIZE + payload.length;
+            }
+            return length;
+        }
+    }
+
+    private List<Long> segmentBases() throws IOException {
+        if (directory == null) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long base) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, base, SEGMENT_SUFFIX));
+    }
+
+    private long readCheckpoint() throws IOException {
+        Path path = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(path))) {
+            if (in.readInt() != CHECKPOINT_MAGIC) {
+                log.warn("Ignoring invalid journal checkpoint file {}", path);
+                return 0;
+            }
+            long position = in.readLong();
+            long check = in.readLong();
+            return check == ~position ? position : 0;
+        } catch (EOFException e) {
+            log.warn("Ignoring truncated journal checkpoint file {}", path);
+            return 0;
+        }
+    }
+
+    // Write to a temporary file, fsync it, then atomically replace the old checkpoint
+    private void writeCheckpoint(long position) throws IOException {
+        Path target = directory.resolve(CHECKPOINT_FILE);
+        Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        ByteBuffer buffer = ByteBuffer.allocate(20).putInt(CHECKPOINT_MAGIC).putLong(position).putLong(~position).flip();
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
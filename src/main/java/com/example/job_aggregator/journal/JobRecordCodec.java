@@ -0,0 +1,99 @@
+package com.example.job_aggregator.journal;
+
+import com.example.job_aggregator.model.Job;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Binary form of a job inside a journal record. Strings are length-prefixed UTF-8 (-1 for null),
+ * timestamps epoch microseconds ({@link Long#MIN_VALUE} for null). Version 2 appended the skill tags;
+ * version 1 records are still read, without skills.
+ */
+final class JobRecordCodec {
+
+    static final byte FORMAT_VERSION = 2;
+
+    private static final byte WITHOUT_SKILLS = 1;
+
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private JobRecordCodec() {
+    }
+
+    static void write(Job job, DataOutputStream out) throws IOException {
+        out.writeByte(FORMAT_VERSION);
+        writeString(out, job.getId());
+        writeString(out, job.getTitle());
+        writeString(out, job.getCompany());
+        writeString(out, job.getLocation());
+        writeString(out, job.getDescription());
+        writeString(out, job.getSourceUrl());
+        writeString(out, job.getJobBoard());
+        writeString(out, job.getSalary());
+        writeTimestamp(out, job.getScrapedAt());
+        writeTimestamp(out, job.getPostedAt());
+        writeString(out, job.getSkills());
+    }
+
+    static Job read(DataInputStream in) throws IOException {
+        byte version = in.readByte();
+        if (version != FORMAT_VERSION && version != WITHOUT_SKILLS) {
+            throw new IOException("Unsupported job record version " + version);
+        }
+        Job job = new Job();
+        job.setId(readString(in));
+        job.setTitle(readString(in));
+        job.setCompany(readString(in));
+        job.setLocation(readString(in));
+        job.setDescription(readString(in));
+        job.setSourceUrl(readString(in));
+        job.setJobBoard(readString(in));
+        job.setSalary(readString(in));
+        job.setScrapedAt(readTimestamp(in));
+        job.setPostedAt(readTimestamp(in));
+        if (version >= 2) {
+            job.setSkills(readString(in));
+        }
+        return job;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeTimestamp(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeLong(value == null
+                ? NO_TIMESTAMP
+                : value.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + value.getNano() / 1_000);
+    }
+
+    private static LocalDateTime readTimestamp(DataInputStream in) throws IOException {
+        long micros = in.readLong();
+        if (micros == NO_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.job_aggregator.journal;
+
+/**
+ * Journal positions [start, end) occupied by one appended batch.
+ */
+public record JournalRange(long start, long end) {
+}
@@ -0,0 +1,98 @@
+package com.example.job_aggregator.journal;
+
+import com.example.job_aggregator.ingestion.JobBatchWriter;
+import com.example.job_aggregator.model.Job;
+import com.example.job_aggregator.repository.JobRepository;
+import com.example.job_aggregator.skills.SkillExtractor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.job_aggregator.constants.ScrapingConstants.*;
+
+/**
+ * Brings journaled jobs back into the database: everything after the checkpoint at startup, and
+ * batches whose commit failed while the application is running.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JournalReplayer {
+
+    private final IngestionJournal ingestionJournal;
+    private final JobRepository jobRepository;
+    private final JobBatchWriter jobBatchWriter;
+    private final SkillExtractor skillExtractor;
+
+    // Runs before ApplicationReadyEvent, so the read model and alert index warm up from the restored data
+    @EventListener(ApplicationStartedEvent.class)
+    public void replayOnStartup() throws IOException {
+        if (!ingestionJournal.isEnabled()) {
+            return;
+        }
+        // An empty store (the in-memory database after a restart) needs the whole journal;
+        // otherwise only batches after the checkpoint can be missing
+        long from = jobRepository.count() == 0 ? 0 : ingestionJournal.getCheckpoint();
+        long to = ingestionJournal.getEnd();
+        if (from >= to) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        AtomicInteger restored = new AtomicInteger();
+        int records = ingestionJournal.read(from, to, MAX_BATCH_SIZE, chunk -> restored.addAndGet(restore(chunk, false)));
+        ingestionJournal.checkpoint(to);
+        log.info("Replayed {} journal records ({} jobs restored) in {} ms",
+                records, restored.get(), System.currentTimeMillis() - start);
+    }
+
+    // Retry batches whose commit failed, announcing them like a regular ingestion
+    @Scheduled(fixedDelay = JOURNAL_RECOVERY_INTERVAL_MS, initialDelay = JOURNAL_RECOVERY_INTERVAL_MS)
+    public void recoverFailedCommits() {
+        for (JournalRange range : ingestionJournal.failedRanges()) {
+            try {
+                AtomicInteger restored = new AtomicInteger();
+                ingestionJournal.read(range.start(), range.end(), MAX_BATCH_SIZE,
+                        chunk -> restored.addAndGet(restore(chunk, true)));
+                ingestionJournal.committed(range);
+                log.info("Recovered {} jobs of a failed batch from journal position {}", restored.get(), range.start());
+            } catch (IOException | RuntimeException e) {
+                log.warn("Journal batch at position {} still cannot be committed: {}", range.start(), e.getMessage());
+            }
+        }
+    }
+
+    // Skip jobs already in the database; a recovered batch may overlap with later scrapes
+    private int restore(List<Job> chunk, boolean announce) {
+        Map<String, Job> byId = new LinkedHashMap<>(chunk.size() * 2);
+        for (Job job : chunk) {
+            byId.putIfAbsent(job.getId(), job);
+        }
+        jobRepository.findAllIdsByIdIn(byId.keySet()).forEach(byId::remove);
+        if (byId.isEmpty()) {
+            return 0;
+        }
+        List<Job> jobs = new ArrayList<>(byId.values());
+        // Records journaled before skill tagging existed carry no skills
+        for (Job job : jobs) {
+            if (job.getSkills() == null) {
+                skillExtractor.tag(job);
+            }
+        }
+        if (announce) {
+            jobBatchWriter.persist(jobs);
+        } else {
+            jobBatchWriter.restore(jobs);
+        }
+        return jobs.size();
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.job_aggregator.mapper;
 
 import com.example.job_aggregator.model.Job;
+import com.example.job_aggregator.repository.JobSummary;
+import com.example.job_aggregator.resource.JobField;
 import com.example.job_aggregator.resource.JobResource;
+import com.example.job_aggregator.skills.SkillTags;
 import org.springframework.stereotype.Component;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
@@ -24,6 +28,64 @@ public class JobMapper {
                 .jobBoard(entity.getJobBoard())
                 .salary(entity.getSalary())
                 .scrapedAt(entity.getScrapedAt())
+                .postedAt(entity.getPostedAt())
+                .skills(SkillTags.split(entity.getSkills()))
+                .build();
+    }
+
+    // Maps everything but the lazily loaded description
+    public JobResource toSummaryResource(Job entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        return JobResource.builder()
+                .id(entity.getId())
+                .title(entity.getTitle())
+                .company(entity.getCompany())
+                .location(entity.getLocation())
+                .sourceUrl(entity.getSourceUrl())
+                .jobBoard(entity.getJobBoard())
+                .salary(entity.getSalary())
+                .scrapedAt(entity.getScrapedAt())
+                .postedAt(entity.getPostedAt())
+                .skills(SkillTags.split(entity.getSkills()))
+                .build();
+    }
+
+    public JobResource toResource(JobSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+
+        return JobResource.builder()
+                .id(summary.id())
+                .title(summary.title())
+                .company(summary.company())
+                .location(summary.location())
+                .sourceUrl(summary.sourceUrl())
+                .jobBoard(summary.jobBoard())
+                .salary(summary.salary())
+                .scrapedAt(summary.scrapedAt())
+                .postedAt(summary.postedAt())
+                .skills(SkillTags.split(summary.skills()))
+                .build();
+    }
+
+    // Copy only the selected fields; unselected ones stay null and are omitted from JSON
+    public JobResource project(JobResource resource, Set<JobField> fields) {
+        return JobResource.builder()
+                .id(fields.contains(JobField.ID) ? resource.getId() : null)
+                .title(fields.contains(JobField.TITLE) ? resource.getTitle() : null)
+                .company(fields.contains(JobField.COMPANY) ? resource.getCompany() : null)
+                .location(fields.contains(JobField.LOCATION) ? resource.getLocation() : null)
+                .description(fields.contains(JobField.DESCRIPTION) ? resource.getDescription() : null)
+                .sourceUrl(fields.contains(JobField.SOURCE_URL) ? resource.getSourceUrl() : null)
+                .jobBoard(fields.contains(JobField.JOB_BOARD) ? resource.getJobBoard() : null)
+                .salary(fields.contains(JobField.SALARY) ? resource.getSalary() : null)
+                .scrapedAt(fields.contains(JobField.SCRAPED_AT) ? resource.getScrapedAt() : null)
+                .postedAt(fields.contains(JobField.POSTED_AT) ? resource.getPostedAt() : null)
+                .skills(fields.contains(JobField.SKILLS) ? resource.getSkills() : null)
                 .build();
     }
 
@@ -32,4 +94,10 @@ public class JobMapper {
                 .map(this::toResource)
                 .collect(Collectors.toList());
     }
+
+    public List<JobResource> toSummaryResourceList(List<JobSummary> summaries) {
+        return summaries.stream()
+                .map(this::toResource)
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,35 @@
+package com.example.job_aggregator.mapper;
+
+import com.example.job_aggregator.model.JobNotification;
+import com.example.job_aggregator.resource.JobNotificationResource;
+import org.springframework.stereotype.Component;
+import lombok.RequiredArgsConstructor;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class JobNotificationMapper {
+
+    private final JobMapper jobMapper;
+
+    public JobNotificationResource toResource(JobNotification entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        return JobNotificationResource.builder()
+                .id(entity.getId())
+                .savedSearchId(entity.getSavedSearch().getId())
+                .job(jobMapper.toSummaryResource(entity.getJob()))
+                .createdAt(entity.getCreatedAt())
+                .read(entity.isRead())
+                .build();
+    }
+
+    public List<JobNotificationResource> toResourceList(List<JobNotification> entities) {
+        return entities.stream()
+                .map(this::toResource)
+                .collect(Collectors.toList());
+    }
+}
@@ -20,7 +20,7 @@ public class SavedJobMapper {
 
         return SavedJobResource.builder()
                 .id(entity.getId())
-                .job(jobMapper.toResource(entity.getJob()))
+                .job(jobMapper.toSummaryResource(entity.getJob()))
                 .savedAt(entity.getSavedAt())
                 .applied(entity.isApplied())
                 .appliedAt(entity.getAppliedAt())
@@ -0,0 +1,31 @@
+package com.example.job_aggregator.mapper;
+
+import com.example.job_aggregator.model.SavedSearch;
+import com.example.job_aggregator.resource.SavedSearchResource;
+import org.springframework.stereotype.Component;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+public class SavedSearchMapper {
+
+    public SavedSearchResource toResource(SavedSearch entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        return SavedSearchResource.builder()
+                .id(entity.getId())
+                .keyword(entity.getKeyword())
+                .location(entity.getLocation())
+                .company(entity.getCompany())
+                .createdAt(entity.getCreatedAt())
+                .build();
+    }
+
+    public List<SavedSearchResource> toResourceList(List<SavedSearch> entities) {
+        return entities.stream()
+                .map(this::toResource)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.job_aggregator.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * Membership lease of a running instance, renewed on every coordinator tick. Nodes whose lease has
+ * expired no longer receive crawl work.
+ */
+@Entity
+@Data
+@Table(name = "cluster_nodes")
+public class ClusterNode {
+    @Id
+    private String nodeId;
+    // Epoch millis
+    private long expiresAt;
+}
@@ -0,0 +1,32 @@
+package com.example.job_aggregator.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * One unit of crawl work shared by every instance: a search-result page of a board. A node runs the
+ * unit only after moving it to RUNNING with a conditional update, and keeps renewing the lease while it
+ * crawls; a lease that expires is taken over by another node.
+ */
+@Entity
+@Data
+@Table(name = "crawl_leases",
+        indexes = @Index(name = "idx_crawl_leases_state", columnList = "state, expires_at"))
+public class CrawlLease {
+    // Board and page URL, see ScrapeCoordinator#unitOf
+    @Id
+    @Column(length = 1000)
+    private String unit;
+    private String board;
+    @Column(length = 1000)
+    private String url;
+    private Long roundId;
+    @Enumerated(EnumType.STRING)
+    private CrawlLeaseState state;
+    // Node holding the lease; once DONE, the node that crawled it
+    private String owner;
+    // Epoch millis after which a RUNNING lease may be taken over
+    @Column(name = "expires_at")
+    private long expiresAt;
+    private long completedAt;
+}
@@ -0,0 +1,10 @@
+package com.example.job_aggregator.model;
+
+/**
+ * Lifecycle of a {@link CrawlLease}: waiting for a node, held by a node, or crawled in its round.
+ */
+public enum CrawlLeaseState {
+    PENDING,
+    RUNNING,
+    DONE
+}
@@ -0,0 +1,28 @@
+package com.example.job_aggregator.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+/**
+ * One cluster-wide scrape: how many units it scheduled, and the totals nodes add as they finish theirs.
+ */
+@Entity
+@Data
+@Table(name = "crawl_rounds")
+public class CrawlRound {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private String startedBy;
+    private LocalDateTime startedAt;
+    private int units;
+    private int unitsDone;
+    private int jobsParsed;
+    private int saved;
+    private int duplicates;
+
+    public boolean isFinished() {
+        return units > 0 && unitsDone >= units;
+    }
+}
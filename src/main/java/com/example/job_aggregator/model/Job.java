@@ -2,6 +2,8 @@ package com.example.job_aggregator.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import java.time.LocalDateTime;
 
 @Entity
@@ -13,10 +15,19 @@ public class Job {
     private String title;
     private String company;
     private String location;
+    // Lazily fetched (bytecode enhancement) so list queries never load it
+    @Basic(fetch = FetchType.LAZY)
     @Column(length = 5000)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private String description;
     private String sourceUrl;
     private String jobBoard;
     private LocalDateTime scrapedAt;
+    // When the board says the job was posted, taken from its detail page
+    private LocalDateTime postedAt;
     private String salary;
+    // Normalized skill tags found in the title and description, sorted and comma-separated
+    @Column(length = 1000)
+    private String skills;
 }
@@ -0,0 +1,32 @@
+package com.example.job_aggregator.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+@Entity
+@Data
+@Table(name = "job_notifications",
+        indexes = @Index(name = "idx_job_notifications_user", columnList = "user_id, is_read"))
+public class JobNotification {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "saved_search_id")
+    private SavedSearch savedSearch;
+
+    @ManyToOne
+    @JoinColumn(name = "job_id")
+    private Job job;
+
+    private LocalDateTime createdAt;
+
+    @Column(name = "is_read")
+    private boolean read = false;
+}
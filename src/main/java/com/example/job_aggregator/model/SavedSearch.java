@@ -0,0 +1,23 @@
+package com.example.job_aggregator.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+@Entity
+@Data
+@Table(name = "saved_searches")
+public class SavedSearch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    private String keyword;
+    private String location;
+    private String company;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,34 @@
+package com.example.job_aggregator.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * Journal append and database commit of one batch of new jobs.
+ */
+@Name("jobaggregator.BatchPersist")
+@Label("Batch Persist")
+@Category({"Job Aggregator", "Ingestion"})
+@Description("Journal append and commit of one batch of new jobs")
+@StackTrace(false)
+@Setter
+public class BatchPersistEvent extends Event {
+
+    @Label("Rows")
+    private int rows;
+
+    // Rows inserted; fewer than rows when another run inserted some first
+    @Label("Saved")
+    private int saved;
+
+    @Label("Journaled")
+    private boolean journaled;
+
+    @Label("Committed")
+    private boolean committed;
+}
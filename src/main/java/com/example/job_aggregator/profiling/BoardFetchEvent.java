@@ -0,0 +1,39 @@
+package com.example.job_aggregator.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * Download of one job-board page, spanning every retry, hedged request and backoff of the fetch.
+ */
+@Name("jobaggregator.BoardFetch")
+@Label("Board Fetch")
+@Category({"Job Aggregator", "Scraping"})
+@Description("Download of one job-board page, including retries and hedged requests")
+@StackTrace(false)
+@Setter
+public class BoardFetchEvent extends Event {
+
+    @Label("Board")
+    private String board;
+
+    @Label("URL")
+    private String url;
+
+    @Label("Attempts")
+    private int attempts;
+
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    // success, failure, or rejected by an open circuit breaker
+    @Label("Outcome")
+    private String outcome;
+}
@@ -0,0 +1,34 @@
+package com.example.job_aggregator.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * Extraction of job cards from one downloaded search-result page.
+ */
+@Name("jobaggregator.CardParse")
+@Label("Card Parse")
+@Category({"Job Aggregator", "Scraping"})
+@Description("Extraction of job cards from one search-result page")
+@StackTrace(false)
+@Setter
+public class CardParseEvent extends Event {
+
+    @Label("Board")
+    private String board;
+
+    @Label("URL")
+    private String url;
+
+    @Label("Cards")
+    private int cards;
+
+    // Cards that yielded a job; the rest had no job ID or could not be read
+    @Label("Jobs")
+    private int jobs;
+}
@@ -0,0 +1,27 @@
+package com.example.job_aggregator.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * Lookup of a batch of job IDs in the database, to drop jobs that are already stored.
+ */
+@Name("jobaggregator.Dedupe")
+@Label("Dedupe")
+@Category({"Job Aggregator", "Ingestion"})
+@Description("Lookup of a batch of job IDs to drop jobs already stored")
+@StackTrace(false)
+@Setter
+public class DedupeEvent extends Event {
+
+    @Label("Rows")
+    private int rows;
+
+    @Label("Existing")
+    private int existing;
+}
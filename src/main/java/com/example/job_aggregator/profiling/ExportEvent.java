@@ -0,0 +1,32 @@
+package com.example.job_aggregator.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * Rendering of an export file, from loading its rows to the finished bytes.
+ */
+@Name("jobaggregator.Export")
+@Label("Export")
+@Category({"Job Aggregator", "Queries"})
+@Description("Rendering of an export file")
+@StackTrace(false)
+@Setter
+public class ExportEvent extends Event {
+
+    @Label("Format")
+    private String format;
+
+    @Label("Rows")
+    private int rows;
+
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+}
@@ -0,0 +1,79 @@
+package com.example.job_aggregator.profiling;
+
+import com.example.job_aggregator.exception.ErrorResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * {@code /api/actuator/jfr}: GET for the recording's state, POST (optional {@code durationSeconds} and
+ * {@code settings}) to start one, DELETE to stop it, and GET {@code /{id}} to download it as a
+ * {@code .jfr} file for JDK Mission Control or {@code jfr print}.
+ */
+@Component
+@WebEndpoint(id = "jfr")
+@RequiredArgsConstructor
+public class FlightRecordingEndpoint {
+
+    private static final String JFR_CONTENT_TYPE = "application/octet-stream";
+    private static final int STATUS_CONFLICT = 409;
+
+    private final FlightRecordingService flightRecordingService;
+
+    @ReadOperation
+    public WebEndpointResponse<Object> status() {
+        return new WebEndpointResponse<>(flightRecordingService.status());
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Object> start(@Nullable Integer durationSeconds, @Nullable String settings) {
+        try {
+            return new WebEndpointResponse<>(flightRecordingService.start(durationSeconds, settings));
+        } catch (IllegalArgumentException e) {
+            return error(WebEndpointResponse.STATUS_BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            return error(STATUS_CONFLICT, e.getMessage());
+        } catch (IOException e) {
+            return error(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR, "Could not start recording: " + e.getMessage());
+        }
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Object> stop() {
+        try {
+            return new WebEndpointResponse<>(flightRecordingService.stop());
+        } catch (IllegalStateException e) {
+            return error(WebEndpointResponse.STATUS_NOT_FOUND, e.getMessage());
+        }
+    }
+
+    @ReadOperation(produces = JFR_CONTENT_TYPE)
+    public WebEndpointResponse<Resource> download(@Selector long id) throws IOException {
+        Optional<Path> recording = flightRecordingService.download(id);
+        if (recording.isEmpty()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(new FileSystemResource(recording.get()));
+    }
+
+    private static WebEndpointResponse<Object> error(int status, String message) {
+        ErrorResponse body = ErrorResponse.builder()
+                .message(message)
+                .status(status)
+                .timestamp(System.currentTimeMillis())
+                .build();
+        return new WebEndpointResponse<>(body, status);
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.job_aggregator.profiling;
+
+import com.example.job_aggregator.config.ProfilingProperties;
+import com.example.job_aggregator.resource.RecordingResource;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Runs one Java Flight Recorder recording at a time on request, so a slow scrape or query can be profiled
+ * on live traffic without a restart or verbose SQL logging.
+ *
+ * The recording uses the JDK's {@code default} or {@code profile} settings plus this application's own
+ * events (board fetch, card parse, dedupe, batch persist, search query, export), recorded without a
+ * duration threshold. It stops by itself after its duration and keeps at most {@code profiling.max-size-mb}
+ * of data. Starting a new recording deletes the previous one's files.
+ */
+@Component
+@Slf4j
+public class FlightRecordingService {
+
+    static final List<Class<? extends Event>> EVENTS = List.of(BoardFetchEvent.class, CardParseEvent.class,
+            DedupeEvent.class, BatchPersistEvent.class, SearchQueryEvent.class, ExportEvent.class);
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final ProfilingProperties config;
+    private final Path directory;
+    private Recording recording;
+    private String settings;
+    private Path file;
+    private Path partialFile;
+
+    public FlightRecordingService(ProfilingProperties config) {
+        this.config = config;
+        this.directory = Paths.get(config.getDirectory());
+    }
+
+    // Start a recording; fails while another one is still running
+    public synchronized RecordingResource start(Integer durationSeconds, String settingsName) throws IOException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new IllegalStateException("Recording " + recording.getId() + " is still running");
+        }
+        int seconds = durationSeconds == null ? config.getDefaultDurationSeconds() : durationSeconds;
+        if (seconds < 1 || seconds > config.getMaxDurationSeconds()) {
+            throw new IllegalArgumentException("durationSeconds must be between 1 and " + config.getMaxDurationSeconds());
+        }
+        String name = settingsName == null || settingsName.isBlank() ? config.getSettings() : settingsName.trim();
+        Configuration configuration = configuration(name);
+
+        Files.createDirectories(directory);
+        discard();
+        Recording fresh = new Recording(configuration);
+        fresh.setName("job-aggregator");
+        for (Class<? extends Event> event : EVENTS) {
+            fresh.enable(event).withoutThreshold();
+        }
+        fresh.setToDisk(true);
+        fresh.setMaxSize(config.getMaxSizeMb() * 1024L * 1024L);
+        fresh.setDuration(Duration.ofSeconds(seconds));
+        String baseName = "recording-" + LocalDateTime.now().format(FILE_TIMESTAMP) + "-" + fresh.getId();
+        file = directory.resolve(baseName + ".jfr");
+        partialFile = directory.resolve(baseName + "-partial.jfr");
+        fresh.setDestination(file);
+        fresh.start();
+        recording = fresh;
+        settings = name;
+        log.info("Started flight recording {} with {} settings for {} s", fresh.getId(), name, seconds);
+        return status();
+    }
+
+    // Stop the running recording and write it out, which closes it; stopping a finished one changes nothing
+    public synchronized RecordingResource stop() {
+        if (recording == null) {
+            throw new IllegalStateException("No recording has been started");
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("Stopped flight recording {}, written to {}", recording.getId(), file);
+        }
+        return status();
+    }
+
+    public synchronized RecordingResource status() {
+        if (recording == null) {
+            return RecordingResource.builder().state("NONE").build();
+        }
+        Duration duration = recording.getDuration();
+        return RecordingResource.builder()
+                .id(recording.getId())
+                .state(recording.getState().name())
+                .settings(settings)
+                .startedAt(recording.getStartTime())
+                .durationSeconds(duration == null ? null : duration.toSeconds())
+                .maxSizeBytes(recording.getMaxSize())
+                .sizeBytes(recording.getSize())
+                .file(file.toString())
+                .build();
+    }
+
+    // The recording so far: a fresh copy while it runs, the written file once it stopped
+    public synchronized Optional<Path> download(long id) throws IOException {
+        if (recording == null || recording.getId() != id) {
+            return Optional.empty();
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.dump(partialFile);
+            return Optional.of(partialFile);
+        }
+        return Files.exists(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (recording != null) {
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            recording.close();
+        }
+    }
+
+    // Only the predefined settings in the JDK's lib/jfr directory, never a path
+    private static Configuration configuration(String name) throws IOException {
+        if (!name.matches("[A-Za-z0-9_-]+")) {
+            throw new IllegalArgumentException("Invalid JFR settings name " + name);
+        }
+        try {
+            return Configuration.getConfiguration(name);
+        } catch (NoSuchFileException e) {
+            throw new IllegalArgumentException("Unknown JFR settings " + name + ", use default or profile");
+        } catch (ParseException e) {
+            throw new IOException("Could not read JFR settings " + name, e);
+        }
+    }
+
+    // Only the latest recording is kept on disk
+    private void discard() throws IOException {
+        if (recording == null) {
+            return;
+        }
+        recording.close();
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(partialFile);
+        recording = null;
+    }
+}
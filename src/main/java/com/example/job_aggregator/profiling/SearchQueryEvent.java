@@ -0,0 +1,43 @@
+package com.example.job_aggregator.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * One job list or search query actually executed; requests coalesced onto it are not recorded again.
+ */
+@Name("jobaggregator.SearchQuery")
+@Label("Search Query")
+@Category({"Job Aggregator", "Queries"})
+@Description("Job list or search query, answered from the read model or the database")
+@StackTrace(false)
+@Setter
+public class SearchQueryEvent extends Event {
+
+    @Label("Keyword")
+    private String keyword;
+
+    @Label("Location")
+    private String location;
+
+    @Label("Company")
+    private String company;
+
+    @Label("Skills")
+    private String skills;
+
+    @Label("Job Board")
+    private String jobBoard;
+
+    // read model or database
+    @Label("Source")
+    private String source;
+
+    @Label("Rows")
+    private int rows;
+}
@@ -0,0 +1,627 @@
+package com.example.job_aggregator.readmodel;
+
+import com.example.job_aggregator.resource.JobResource;
+import com.example.job_aggregator.resource.SkillFacetResource;
+import com.example.job_aggregator.search.SearchCriteria;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Column-oriented, dictionary-encoded copy of the job corpus.
+ *
+ * Low-cardinality columns (title, company, location, job board, salary) are stored as int codes into
+ * shared {@link StringDictionary} tables, timestamps (scraped, posted) as epoch microseconds in a {@code long[]}, and
+ * descriptions as deflate-compressed UTF-8. Ids are resolved through an open-addressing {@code int[]}
+ * table instead of a {@code HashMap}. Substring filters are evaluated once per dictionary entry and the
+ * rows are then scanned as plain int comparisons.
+ *
+ * Skill tags are stored per row as a run of dictionary codes in one flat {@code int[]} (row r's codes sit
+ * between {@code skillOffsets[r]} and {@code skillOffsets[r + 1]}), plus an inverted index from each
+ * skill to the ascending rows that carry it. Skill filters intersect those posting lists and unfiltered
+ * skill facets are just their lengths, so neither reads a description.
+ *
+ * Instances are immutable views produced by a single-writer {@link Builder}. The builder only writes past
+ * the end of every view it has handed out, so views share the underlying arrays safely once published
+ * through a volatile reference. A view can be written out with {@link #writeTo} and read back as a builder
+ * that continues where it left off ({@link JobSnapshotStore}).
+ */
+public final class ColumnarJobStore {
+
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private final int size;
+    private final long fingerprint;
+    private final String[] ids;
+    private final String[] sourceUrls;
+    private final int[] titles;
+    private final int[] companies;
+    private final int[] locations;
+    private final int[] boards;
+    private final int[] salaries;
+    private final long[] scrapedAt;
+    private final long[] postedAt;
+    private final byte[][] descriptions;
+    private final int[] idTable;
+    private final int[] skillOffsets;
+    private final int[] skillCodes;
+    // Rows per skill code; only the first postingSizes[code] entries belong to this view
+    private final int[][] postings;
+    private final int[] postingSizes;
+
+    private final StringDictionary.View titleDictionary;
+    private final StringDictionary.View companyDictionary;
+    private final StringDictionary.View locationDictionary;
+    private final StringDictionary.View boardDictionary;
+    private final StringDictionary.View salaryDictionary;
+    private final StringDictionary.View skillDictionary;
+
+    private ColumnarJobStore(Builder builder) {
+        this.size = builder.size;
+        this.fingerprint = builder.fingerprint;
+        this.ids = builder.ids;
+        this.sourceUrls = builder.sourceUrls;
+        this.titles = builder.titles;
+        this.companies = builder.companies;
+        this.locations = builder.locations;
+        this.boards = builder.boards;
+        this.salaries = builder.salaries;
+        this.scrapedAt = builder.scrapedAt;
+        this.postedAt = builder.postedAt;
+        this.descriptions = builder.descriptions;
+        this.idTable = builder.idTable;
+        this.titleDictionary = builder.titleDictionary.view();
+        this.companyDictionary = builder.companyDictionary.view();
+        this.locationDictionary = builder.locationDictionary.view();
+        this.boardDictionary = builder.boardDictionary.view();
+        this.salaryDictionary = builder.salaryDictionary.view();
+        this.skillDictionary = builder.skillDictionary.view();
+        this.skillOffsets = builder.skillOffsets;
+        this.skillCodes = builder.skillCodes;
+        // The builder replaces grown posting arrays in place, so the view keeps its own outer array
+        this.postings = Arrays.copyOf(builder.postings, skillDictionary.size());
+        this.postingSizes = Arrays.copyOf(builder.postingSizes, skillDictionary.size());
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Order-independent hash of the ids in this view: the same on every instance holding the same jobs
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    public String id(int row) {
+        return ids[row];
+    }
+
+    // Row of the given job id, or -1
+    public int rowOf(String id) {
+        return findRow(idTable, ids, size, id);
+    }
+
+    // Job without its description
+    public JobResource toResource(int row) {
+        return JobResource.builder()
+                .id(ids[row])
+                .title(titleDictionary.decode(titles[row]))
+                .company(companyDictionary.decode(companies[row]))
+                .location(locationDictionary.decode(locations[row]))
+                .sourceUrl(sourceUrls[row])
+                .jobBoard(boardDictionary.decode(boards[row]))
+                .salary(salaryDictionary.decode(salaries[row]))
+                .scrapedAt(toTimestamp(scrapedAt[row]))
+                .postedAt(toTimestamp(postedAt[row]))
+                .skills(skills(row))
+                .build();
+    }
+
+    public List<String> skills(int row) {
+        int from = skillOffsets[row];
+        int to = skillOffsets[row + 1];
+        if (from == to) {
+            return List.of();
+        }
+        String[] tags = new String[to - from];
+        for (int i = from; i < to; i++) {
+            tags[i - from] = skillDictionary.decode(skillCodes[i]);
+        }
+        return List.of(tags);
+    }
+
+    public String title(int row) {
+        return titleDictionary.decode(titles[row]);
+    }
+
+    public String description(int row) {
+        return decompress(descriptions[row]);
+    }
+
+    public int[] allRows() {
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            rows[row] = row;
+        }
+        return rows;
+    }
+
+    public int[] rowsForBoard(String jobBoard) {
+        int code = boardDictionary.codeOf(jobBoard);
+        if (code < 0) {
+            return new int[0];
+        }
+        return scan(boards, code);
+    }
+
+    public int[] search(SearchCriteria criteria) {
+        if (criteria.isEmpty()) {
+            return allRows();
+        }
+        int[] candidates = criteria.getSkills().isEmpty() ? null : rowsWithSkills(criteria.getSkills());
+        if (!criteria.hasTextTerms()) {
+            return candidates;
+        }
+        boolean[] titleMatches = criteria.getKeyword() == null ? null : titleDictionary.matching(criteria.getKeyword());
+        boolean[] locationMatches = criteria.getLocation() == null ? null : locationDictionary.matching(criteria.getLocation());
+        boolean[] companyMatches = criteria.getCompany() == null ? null : companyDictionary.matching(criteria.getCompany());
+
+        int[] rows = new int[16];
+        int count = 0;
+        int candidateCount = candidates == null ? size : candidates.length;
+        for (int i = 0; i < candidateCount; i++) {
+            int row = candidates == null ? i : candidates[i];
+            if ((titleMatches == null || titleMatches[titles[row]])
+                    && (locationMatches == null || locationMatches[locations[row]])
+                    && (companyMatches == null || companyMatches[companies[row]])) {
+                if (count == rows.length) {
+                    rows = Arrays.copyOf(rows, count * 2);
+                }
+                rows[count++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    // Rows tagged with every given skill: the posting lists intersected, shortest first
+    public int[] rowsWithSkills(List<String> tags) {
+        int[] codes = new int[tags.size()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = skillDictionary.codeOf(tags.get(i));
+            if (codes[i] < 0) {
+                return new int[0];
+            }
+        }
+        Integer[] order = new Integer[codes.length];
+        for (int i = 0; i < codes.length; i++) {
+            order[i] = codes[i];
+        }
+        Arrays.sort(order, Comparator.comparingInt(code -> postingSizes[code]));
+
+        int[] rows = Arrays.copyOf(postings[order[0]], postingSizes[order[0]]);
+        int count = rows.length;
+        for (int i = 1; i < order.length && count > 0; i++) {
+            count = intersect(rows, count, postings[order[i]], postingSizes[order[i]]);
+        }
+        return count == rows.length ? rows : Arrays.copyOf(rows, count);
+    }
+
+    // Number of jobs per skill across the whole store, most frequent first
+    public List<SkillFacetResource> skillFacets() {
+        return toFacets(postingSizes);
+    }
+
+    // Number of jobs per skill among the given rows, most frequent first
+    public List<SkillFacetResource> skillFacets(int[] rows) {
+        int[] counts = new int[skillDictionary.size()];
+        for (int row : rows) {
+            for (int i = skillOffsets[row]; i < skillOffsets[row + 1]; i++) {
+                counts[skillCodes[i]]++;
+            }
+        }
+        return toFacets(counts);
+    }
+
+    private List<SkillFacetResource> toFacets(int[] counts) {
+        List<SkillFacetResource> facets = new ArrayList<>();
+        for (int code = 1; code < counts.length; code++) {
+            if (counts[code] > 0) {
+                facets.add(new SkillFacetResource(skillDictionary.decode(code), counts[code]));
+            }
+        }
+        facets.sort(Comparator.comparingInt(SkillFacetResource::getCount).reversed()
+                .thenComparing(SkillFacetResource::getSkill));
+        return facets;
+    }
+
+    // Keep the rows of the first `count` entries of target that also occur in other; both ascending
+    private static int intersect(int[] target, int count, int[] other, int otherCount) {
+        int kept = 0;
+        int j = 0;
+        for (int i = 0; i < count && j < otherCount; i++) {
+            int row = target[i];
+            while (j < otherCount && other[j] < row) {
+                j++;
+            }
+            if (j < otherCount && other[j] == row) {
+                target[kept++] = row;
+            }
+        }
+        return kept;
+    }
+
+    // Snapshot payload: the dictionaries, every column up to this view's size, then the id table
+    void writeTo(DataOutput out) throws IOException {
+        titleDictionary.writeTo(out);
+        companyDictionary.writeTo(out);
+        locationDictionary.writeTo(out);
+        boardDictionary.writeTo(out);
+        salaryDictionary.writeTo(out);
+        skillDictionary.writeTo(out);
+        out.writeInt(size);
+        for (int row = 0; row < size; row++) {
+            SnapshotCodec.writeString(out, ids[row]);
+            SnapshotCodec.writeString(out, sourceUrls[row]);
+        }
+        SnapshotCodec.writeInts(out, titles, size);
+        SnapshotCodec.writeInts(out, companies, size);
+        SnapshotCodec.writeInts(out, locations, size);
+        SnapshotCodec.writeInts(out, boards, size);
+        SnapshotCodec.writeInts(out, salaries, size);
+        SnapshotCodec.writeLongs(out, scrapedAt, size);
+        SnapshotCodec.writeLongs(out, postedAt, size);
+        for (int row = 0; row < size; row++) {
+            SnapshotCodec.writeBytes(out, descriptions[row]);
+        }
+        SnapshotCodec.writeInts(out, skillOffsets, size + 1);
+        SnapshotCodec.writeInts(out, skillCodes, skillOffsets[size]);
+        for (int code = 1; code < postingSizes.length; code++) {
+            out.writeInt(postingSizes[code]);
+            SnapshotCodec.writeInts(out, postings[code], postingSizes[code]);
+        }
+        // Slots filled by rows appended after this view was built are dropped. They were inserted later,
+        // so no older row's probe sequence runs through them.
+        out.writeInt(idTable.length);
+        for (int entry : idTable) {
+            out.writeInt(entry > size ? 0 : entry);
+        }
+    }
+
+    // Builder holding exactly the rows of a payload written by writeTo
+    static Builder readFrom(ByteBuffer in) {
+        Builder builder = new Builder(StringDictionary.readFrom(in), StringDictionary.readFrom(in),
+                StringDictionary.readFrom(in), StringDictionary.readFrom(in), StringDictionary.readFrom(in),
+                StringDictionary.readFrom(in));
+        int size = in.getInt();
+        if (size < 0) {
+            throw new IllegalArgumentException("Invalid row count " + size);
+        }
+        builder.ensureCapacity(size);
+        for (int row = 0; row < size; row++) {
+            builder.ids[row] = SnapshotCodec.readString(in);
+            builder.fingerprint += idHash(builder.ids[row]);
+            builder.sourceUrls[row] = SnapshotCodec.readString(in);
+        }
+        SnapshotCodec.readInts(in, builder.titles, size);
+        SnapshotCodec.readInts(in, builder.companies, size);
+        SnapshotCodec.readInts(in, builder.locations, size);
+        SnapshotCodec.readInts(in, builder.boards, size);
+        SnapshotCodec.readInts(in, builder.salaries, size);
+        SnapshotCodec.readLongs(in, builder.scrapedAt, size);
+        SnapshotCodec.readLongs(in, builder.postedAt, size);
+        for (int row = 0; row < size; row++) {
+            builder.descriptions[row] = SnapshotCodec.readBytes(in);
+        }
+        SnapshotCodec.readInts(in, builder.skillOffsets, size + 1);
+        int skillCount = builder.skillOffsets[size];
+        if (skillCount < 0) {
+            throw new IllegalArgumentException("Invalid skill count " + skillCount);
+        }
+        builder.skillCodes = new int[Math.max(16, skillCount)];
+        SnapshotCodec.readInts(in, builder.skillCodes, skillCount);
+        int skills = builder.skillDictionary.view().size();
+        builder.postings = new int[skills][];
+        builder.postingSizes = new int[skills];
+        builder.postings[StringDictionary.NULL_CODE] = new int[0];
+        for (int code = 1; code < skills; code++) {
+            int postingSize = in.getInt();
+            if (postingSize < 0 || postingSize > size) {
+                throw new IllegalArgumentException("Invalid posting list size " + postingSize);
+            }
+            builder.postings[code] = new int[Math.max(4, postingSize)];
+            builder.postingSizes[code] = postingSize;
+            SnapshotCodec.readInts(in, builder.postings[code], postingSize);
+        }
+        int tableLength = in.getInt();
+        if (Integer.bitCount(tableLength) != 1 || tableLength < (size + 1) * 2L) {
+            throw new IllegalArgumentException("Invalid id table length " + tableLength + " for " + size + " rows");
+        }
+        builder.idTable = new int[tableLength];
+        SnapshotCodec.readInts(in, builder.idTable, tableLength);
+        builder.size = size;
+        return builder;
+    }
+
+    private int[] scan(int[] column, int code) {
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (column[row] == code) {
+                count++;
+            }
+        }
+        int[] rows = new int[count];
+        int next = 0;
+        for (int row = 0; row < size && next < count; row++) {
+            if (column[row] == code) {
+                rows[next++] = row;
+            }
+        }
+        return rows;
+    }
+
+    // Slots hold row + 1; rows at or beyond this view's size belong to newer views and are skipped
+    private static int findRow(int[] table, String[] ids, int size, String id) {
+        int mask = table.length - 1;
+        int slot = spread(id.hashCode()) & mask;
+        while (true) {
+            int entry = table[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            int row = entry - 1;
+            if (row < size && ids[row].equals(id)) {
+                return row;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    // FNV-1a over the characters, then the SplitMix64 finalizer to spread it over all 64 bits
+    private static long idHash(String id) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < id.length(); i++) {
+            hash = (hash ^ id.charAt(i)) * 0x100000001B3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+
+    private static LocalDateTime toTimestamp(long micros) {
+        return micros == NO_TIMESTAMP ? null : fromEpochMicros(micros);
+    }
+
+    private static long toMicros(LocalDateTime timestamp) {
+        return timestamp == null ? NO_TIMESTAMP : toEpochMicros(timestamp);
+    }
+
+    // Microsecond precision matches what the database keeps for TIMESTAMP columns
+    static long toEpochMicros(LocalDateTime timestamp) {
+        return timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + timestamp.getNano() / 1_000;
+    }
+
+    static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static String decompress(byte[] compressed) {
+        if (compressed == null) {
+            return null;
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(buffer);
+                if (read == 0 && inflater.needsInput()) {
+                    break;
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt compressed description", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Single-writer builder. Each {@link #build()} returns a view of everything appended so far;
+     * appending more rows afterwards does not affect views already built.
+     */
+    public static final class Builder {
+
+        private int size;
+        private long fingerprint;
+        private String[] ids = new String[16];
+        private String[] sourceUrls = new String[16];
+        private int[] titles = new int[16];
+        private int[] companies = new int[16];
+        private int[] locations = new int[16];
+        private int[] boards = new int[16];
+        private int[] salaries = new int[16];
+        private long[] scrapedAt = new long[16];
+        private long[] postedAt = new long[16];
+        private byte[][] descriptions = new byte[16][];
+        private int[] idTable = new int[32];
+        private int[] skillOffsets = new int[17];
+        private int[] skillCodes = new int[16];
+        private int[][] postings = {new int[0]};
+        private int[] postingSizes = new int[1];
+
+        private final StringDictionary titleDictionary;
+        private final StringDictionary companyDictionary;
+        private final StringDictionary locationDictionary;
+        private final StringDictionary boardDictionary;
+        private final StringDictionary salaryDictionary;
+        private final StringDictionary skillDictionary;
+
+        private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        private byte[] compressBuffer = new byte[8192];
+
+        private Builder() {
+            this(new StringDictionary(), new StringDictionary(), new StringDictionary(), new StringDictionary(),
+                    new StringDictionary(), new StringDictionary());
+        }
+
+        private Builder(StringDictionary titleDictionary, StringDictionary companyDictionary,
+                        StringDictionary locationDictionary, StringDictionary boardDictionary,
+                        StringDictionary salaryDictionary, StringDictionary skillDictionary) {
+            this.titleDictionary = titleDictionary;
+            this.companyDictionary = companyDictionary;
+            this.locationDictionary = locationDictionary;
+            this.boardDictionary = boardDictionary;
+            this.salaryDictionary = salaryDictionary;
+            this.skillDictionary = skillDictionary;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public boolean contains(String id) {
+            return findRow(idTable, ids, size, id) >= 0;
+        }
+
+        // Append one job; returns false if its id is already present
+        public boolean append(JobResource job, String description) {
+            if (contains(job.getId())) {
+                return false;
+            }
+            ensureCapacity(size + 1);
+
+            int row = size;
+            ids[row] = job.getId();
+            fingerprint += idHash(job.getId());
+            sourceUrls[row] = job.getSourceUrl();
+            titles[row] = titleDictionary.encode(job.getTitle());
+            companies[row] = companyDictionary.encode(job.getCompany());
+            locations[row] = locationDictionary.encode(job.getLocation());
+            boards[row] = boardDictionary.encode(job.getJobBoard());
+            salaries[row] = salaryDictionary.encode(job.getSalary());
+            scrapedAt[row] = toMicros(job.getScrapedAt());
+            postedAt[row] = toMicros(job.getPostedAt());
+            descriptions[row] = compress(description);
+            appendSkills(row, job.getSkills());
+            index(row);
+            size++;
+            return true;
+        }
+
+        public ColumnarJobStore build() {
+            return new ColumnarJobStore(this);
+        }
+
+        private void ensureCapacity(int required) {
+            if (required <= ids.length) {
+                return;
+            }
+            int capacity = Math.max(required, ids.length * 2);
+            ids = Arrays.copyOf(ids, capacity);
+            sourceUrls = Arrays.copyOf(sourceUrls, capacity);
+            titles = Arrays.copyOf(titles, capacity);
+            companies = Arrays.copyOf(companies, capacity);
+            locations = Arrays.copyOf(locations, capacity);
+            boards = Arrays.copyOf(boards, capacity);
+            salaries = Arrays.copyOf(salaries, capacity);
+            scrapedAt = Arrays.copyOf(scrapedAt, capacity);
+            postedAt = Arrays.copyOf(postedAt, capacity);
+            descriptions = Arrays.copyOf(descriptions, capacity);
+            skillOffsets = Arrays.copyOf(skillOffsets, capacity + 1);
+        }
+
+        // Tags arrive sorted and distinct from SkillTags, so each row lands in a posting list only once
+        private void appendSkills(int row, List<String> tags) {
+            int start = skillOffsets[row];
+            int count = tags == null ? 0 : tags.size();
+            if (start + count > skillCodes.length) {
+                skillCodes = Arrays.copyOf(skillCodes, Math.max(start + count, skillCodes.length * 2));
+            }
+            for (int i = 0; i < count; i++) {
+                int code = skillDictionary.encode(tags.get(i));
+                skillCodes[start + i] = code;
+                addPosting(code, row);
+            }
+            skillOffsets[row + 1] = start + count;
+        }
+
+        private void addPosting(int code, int row) {
+            if (code >= postings.length) {
+                postings = Arrays.copyOf(postings, Math.max(code + 1, postings.length * 2));
+                postingSizes = Arrays.copyOf(postingSizes, postings.length);
+            }
+            int[] posting = postings[code];
+            if (posting == null) {
+                posting = new int[4];
+                postings[code] = posting;
+            } else if (postingSizes[code] == posting.length) {
+                posting = Arrays.copyOf(posting, posting.length * 2);
+                postings[code] = posting;
+            }
+            posting[postingSizes[code]++] = row;
+        }
+
+        // Keep the id table at most half full; a resize builds a fresh array so older views keep theirs
+        private void index(int row) {
+            if ((size + 1) * 2 > idTable.length) {
+                int[] resized = new int[idTable.length * 2];
+                for (int existing = 0; existing < size; existing++) {
+                    insert(resized, existing);
+                }
+                idTable = resized;
+            }
+            insert(idTable, row);
+        }
+
+        private void insert(int[] table, int row) {
+            int mask = table.length - 1;
+            int slot = spread(ids[row].hashCode()) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = row + 1;
+        }
+
+        private byte[] compress(String description) {
+            if (description == null) {
+                return null;
+            }
+            byte[] input = description.getBytes(StandardCharsets.UTF_8);
+            deflater.reset();
+            deflater.setInput(input);
+            deflater.finish();
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == compressBuffer.length) {
+                    compressBuffer = Arrays.copyOf(compressBuffer, compressBuffer.length * 2);
+                }
+                length += deflater.deflate(compressBuffer, length, compressBuffer.length - length);
+            }
+            return Arrays.copyOf(compressBuffer, length);
+        }
+    }
+}
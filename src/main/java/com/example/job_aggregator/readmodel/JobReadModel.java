@@ -0,0 +1,336 @@
+package com.example.job_aggregator.readmodel;
+
+import com.example.job_aggregator.event.JobsIngestedEvent;
+import com.example.job_aggregator.mapper.JobMapper;
+import com.example.job_aggregator.model.Job;
+import com.example.job_aggregator.repository.JobDescription;
+import com.example.job_aggregator.repository.JobRepository;
+import com.example.job_aggregator.repository.JobSummary;
+import com.example.job_aggregator.resource.JobResource;
+import com.example.job_aggregator.resource.SkillFacetResource;
+import com.example.job_aggregator.search.SearchCriteria;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.example.job_aggregator.constants.ScrapingConstants.*;
+
+/**
+ * In-memory copy of the job corpus, used to serve list, search and lookup requests without
+ * a database round trip.
+ *
+ * Data lives in a {@link ColumnarJobStore}: dictionary-encoded columns plus compressed descriptions.
+ * Readers only dereference the volatile store; writers (warm-up, ingestion, consistency repair) append
+ * through the single {@link ColumnarJobStore.Builder} under a lock and publish a new view, so reads never
+ * block. Until the first warm-up finishes {@link #isReady()} is false and callers fall back to the database.
+ *
+ * The store is snapshotted to disk periodically and at shutdown ({@link JobSnapshotStore}). At startup a
+ * valid snapshot makes the model ready immediately, before the journal has been replayed into the
+ * database; warm-up then only appends the jobs the snapshot is missing.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobReadModel {
+
+    private final JobRepository jobRepository;
+    private final JobMapper jobMapper;
+    private final JobSnapshotStore jobSnapshotStore;
+
+    private final Object writeLock = new Object();
+    private ColumnarJobStore.Builder builder = ColumnarJobStore.builder();
+    private volatile ColumnarJobStore store = builder.build();
+    private volatile boolean ready = false;
+    private boolean restoredFromSnapshot = false;
+
+    private final Object snapshotLock = new Object();
+    private ColumnarJobStore snapshotted;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return store.size();
+    }
+
+    // Identifies the jobs served; instances holding the same jobs report the same version
+    public String contentVersion() {
+        ColumnarJobStore current = store;
+        return current.size() + "-" + Long.toHexString(current.fingerprint());
+    }
+
+    public List<JobResource> getAll() {
+        ColumnarJobStore current = store;
+        return toResources(current, current.allRows());
+    }
+
+    public Optional<JobResource> findById(String id) {
+        ColumnarJobStore current = store;
+        int row = current.rowOf(id);
+        return row < 0 ? Optional.empty() : Optional.of(current.toResource(row));
+    }
+
+    // Job with its description decompressed
+    public Optional<JobResource> findDetailById(String id) {
+        ColumnarJobStore current = store;
+        int row = current.rowOf(id);
+        if (row < 0) {
+            return Optional.empty();
+        }
+        JobResource resource = current.toResource(row);
+        resource.setDescription(current.description(row));
+        return Optional.of(resource);
+    }
+
+    public Map<String, String> findDescriptions(List<String> ids) {
+        ColumnarJobStore current = store;
+        Map<String, String> descriptions = new HashMap<>(ids.size() * 2);
+        for (String id : ids) {
+            int row = current.rowOf(id);
+            if (row >= 0) {
+                String description = current.description(row);
+                if (description != null) {
+                    descriptions.put(id, description);
+                }
+            }
+        }
+        return descriptions;
+    }
+
+    public List<JobResource> findByBoard(String jobBoard) {
+        ColumnarJobStore current = store;
+        return toResources(current, current.rowsForBoard(jobBoard));
+    }
+
+    public List<JobResource> search(SearchCriteria criteria) {
+        ColumnarJobStore current = store;
+        return toResources(current, current.search(criteria));
+    }
+
+    // Skill counts over the jobs matching the criteria, from the posting lists when there is no filter
+    public List<SkillFacetResource> skillFacets(SearchCriteria criteria) {
+        ColumnarJobStore current = store;
+        return criteria.isEmpty() ? current.skillFacets() : current.skillFacets(current.search(criteria));
+    }
+
+    // Id, title and description of every job, without building resources
+    public void forEachJobText(JobTextVisitor visitor) {
+        ColumnarJobStore current = store;
+        for (int row = 0; row < current.size(); row++) {
+            visitor.visit(current.id(row), current.title(row), current.description(row));
+        }
+    }
+
+    @FunctionalInterface
+    public interface JobTextVisitor {
+        void visit(String id, String title, String description);
+    }
+
+    // Serve reads from the last snapshot while the journal is still being replayed into the database
+    @EventListener(ApplicationStartedEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void loadSnapshot() {
+        if (!jobSnapshotStore.isEnabled()) {
+            return;
+        }
+        jobSnapshotStore.load().ifPresent(loaded -> {
+            synchronized (writeLock) {
+                builder = loaded;
+                store = loaded.build();
+                restoredFromSnapshot = true;
+            }
+            synchronized (snapshotLock) {
+                snapshotted = store;
+            }
+            ready = true;
+        });
+    }
+
+    // Load the full corpus once the application is up, or catch a restored snapshot up with the database.
+    // Ahead of other listeners, so indexes derived from the read model start from a complete corpus.
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        synchronized (writeLock) {
+            if (restoredFromSnapshot) {
+                catchUp();
+            } else {
+                rebuild();
+            }
+        }
+        ready = true;
+        log.info("Read model warmed up with {} jobs in {} ms", size(), System.currentTimeMillis() - start);
+    }
+
+    // Write the store for the next startup, unless it has not changed since the last snapshot
+    @Scheduled(fixedDelay = READ_MODEL_SNAPSHOT_INTERVAL_MS, initialDelay = READ_MODEL_SNAPSHOT_INTERVAL_MS)
+    public void writeSnapshot() {
+        if (!ready || !jobSnapshotStore.isEnabled()) {
+            return;
+        }
+        synchronized (snapshotLock) {
+            ColumnarJobStore current = store;
+            if (current == snapshotted) {
+                return;
+            }
+            try {
+                jobSnapshotStore.save(current);
+                snapshotted = current;
+            } catch (IOException e) {
+                log.warn("Could not write read model snapshot: {}", e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        writeSnapshot();
+    }
+
+    // Append newly committed jobs before any other listener sees the new data version
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onJobsIngested(JobsIngestedEvent event) {
+        synchronized (writeLock) {
+            int appended = 0;
+            for (Job job : event.getJobs()) {
+                if (builder.append(jobMapper.toSummaryResource(job), job.getDescription())) {
+                    appended++;
+                }
+            }
+            if (appended > 0) {
+                store = builder.build();
+            }
+        }
+        log.debug("Read model now holds {} jobs", size());
+    }
+
+    // Append jobs other instances committed to the shared database; returns how many were appended
+    public int catchUpWithDatabase() {
+        if (!ready) {
+            return 0;
+        }
+        synchronized (writeLock) {
+            int before = store.size();
+            catchUp();
+            return store.size() - before;
+        }
+    }
+
+    // Compare against the database and repair any drift. The scan runs without the write lock so ingestion
+    // commits are not held up behind it; jobs committed while it runs are not drift.
+    @Scheduled(fixedDelay = READ_MODEL_CHECK_INTERVAL_MS, initialDelay = READ_MODEL_CHECK_INTERVAL_MS)
+    public void verifyConsistency() {
+        if (!ready) {
+            return;
+        }
+        ColumnarJobStore before = store;
+        List<String> databaseIds = jobRepository.findAllIds();
+        ColumnarJobStore after = store;
+        // Every job held before the scan had been committed, so the scan must find all of them; a job the
+        // scan found may only be missing if it was not appended by the end of the scan either
+        int found = 0;
+        boolean missing = false;
+        for (String id : databaseIds) {
+            if (before.rowOf(id) >= 0) {
+                found++;
+            } else if (after.rowOf(id) < 0) {
+                missing = true;
+            }
+        }
+        if (found == before.size() && !missing) {
+            log.debug("Read model consistent with database ({} jobs)", databaseIds.size());
+            return;
+        }
+        log.warn("Read model out of sync (memory: {}, database: {}), re-checking under the write lock",
+                after.size(), databaseIds.size());
+        // Appends what is missing, and rebuilds only if the store still holds jobs the database does not
+        synchronized (writeLock) {
+            catchUp();
+        }
+    }
+
+    // Append database jobs the store does not have; start over if it has jobs the database does not
+    private void catchUp() {
+        List<String> databaseIds = jobRepository.findAllIds();
+        ColumnarJobStore current = store;
+        List<String> missingIds = new ArrayList<>();
+        for (String id : databaseIds) {
+            if (current.rowOf(id) < 0) {
+                missingIds.add(id);
+            }
+        }
+        if (current.size() + missingIds.size() != databaseIds.size()) {
+            log.warn("Read model holds jobs missing from the database (memory: {}, database: {}), rebuilding",
+                    current.size(), databaseIds.size());
+            rebuild();
+            return;
+        }
+        for (int from = 0; from < missingIds.size(); from += MAX_BATCH_SIZE) {
+            List<JobSummary> chunk = jobRepository.findSummariesByIdIn(
+                    missingIds.subList(from, Math.min(missingIds.size(), from + MAX_BATCH_SIZE)));
+            Map<String, String> descriptions = loadDescriptions(chunk);
+            for (JobSummary summary : chunk) {
+                builder.append(jobMapper.toResource(summary), descriptions.get(summary.id()));
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            store = builder.build();
+        }
+        log.info("Caught up read model with {} jobs from the database", missingIds.size());
+    }
+
+    // Stream summaries and their descriptions from the database in chunks into a fresh store
+    private void rebuild() {
+        synchronized (writeLock) {
+            ColumnarJobStore.Builder fresh = ColumnarJobStore.builder();
+            List<JobSummary> summaries = jobRepository.findAllSummaries();
+            for (int from = 0; from < summaries.size(); from += MAX_BATCH_SIZE) {
+                List<JobSummary> chunk = summaries.subList(from, Math.min(summaries.size(), from + MAX_BATCH_SIZE));
+                Map<String, String> descriptions = loadDescriptions(chunk);
+                for (JobSummary summary : chunk) {
+                    fresh.append(jobMapper.toResource(summary), descriptions.get(summary.id()));
+                }
+            }
+            builder = fresh;
+            store = fresh.build();
+        }
+    }
+
+    private Map<String, String> loadDescriptions(List<JobSummary> chunk) {
+        Set<String> ids = chunk.stream().map(JobSummary::id).collect(Collectors.toCollection(HashSet::new));
+        Map<String, String> descriptions = new HashMap<>(ids.size() * 2);
+        for (JobDescription description : jobRepository.findDescriptionsByIdIn(ids)) {
+            descriptions.put(description.getId(), description.getDescription());
+        }
+        return descriptions;
+    }
+
+    private static List<JobResource> toResources(ColumnarJobStore store, int[] rows) {
+        List<JobResource> resources = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            resources.add(store.toResource(row));
+        }
+        return resources;
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.job_aggregator.readmodel;
+
+import com.example.job_aggregator.config.ScraperProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * On-disk snapshot of the read model's {@link ColumnarJobStore}, so a restart serves reads from a warm
+ * corpus instead of waiting for the database to be restored and the store rebuilt from it.
+ *
+ * The file is a fixed header (magic, format version, creation time, row count, payload length and the
+ * CRC32C of the payload) followed by the store's dictionaries, columns, skill index and id table.
+ * Snapshots are written to a temporary file, fsync'd and atomically renamed over the previous one.
+ * Loading maps the file read-only and copies the columns out with bulk reads. A snapshot with another
+ * format version, a wrong length or a checksum mismatch is rejected, and the caller falls back to a
+ * full rebuild.
+ */
+@Component
+@Slf4j
+public class JobSnapshotStore {
+
+    private static final int MAGIC = 0x4A534E50; // "JSNP"
+    static final int FORMAT_VERSION = 2;
+    private static final int HEADER_SIZE = 32;
+
+    private final ScraperProperties.Snapshot config;
+
+    public JobSnapshotStore(ScraperProperties properties) {
+        this.config = properties.getSnapshot();
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    public void save(ColumnarJobStore store) throws IOException {
+        long start = System.currentTimeMillis();
+        Path target = Paths.get(config.getPath()).toAbsolutePath();
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        CRC32C crc = new CRC32C();
+        long payloadLength;
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.position(HEADER_SIZE);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new CheckedOutputStream(Channels.newOutputStream(channel), crc), 64 * 1024));
+            store.writeTo(out);
+            out.flush();
+            payloadLength = channel.position() - HEADER_SIZE;
+
+            // The header goes in last, so a snapshot cut short never carries a valid length and checksum
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putLong(System.currentTimeMillis())
+                    .putInt(store.size())
+                    .putLong(payloadLength)
+                    .putInt((int) crc.getValue())
+                    .flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("Wrote read model snapshot of {} jobs ({} KB) in {} ms", store.size(),
+                (HEADER_SIZE + payloadLength) / 1024, System.currentTimeMillis() - start);
+    }
+
+    // Builder restored from the snapshot, or empty when there is none or it cannot be trusted
+    public Optional<ColumnarJobStore.Builder> load() {
+        Path path = Paths.get(config.getPath()).toAbsolutePath();
+        if (!Files.exists(path)) {
+            log.info("No read model snapshot at {}", path);
+            return Optional.empty();
+        }
+        long start = System.currentTimeMillis();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE) {
+                return rejected(path, "truncated header");
+            }
+            if (fileSize > Integer.MAX_VALUE) {
+                return rejected(path, "larger than a single mapping");
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            if (mapped.getInt() != MAGIC) {
+                return rejected(path, "not a snapshot file");
+            }
+            int version = mapped.getInt();
+            if (version != FORMAT_VERSION) {
+                return rejected(path, "format version " + version + ", expected " + FORMAT_VERSION);
+            }
+            long createdAt = mapped.getLong();
+            int rows = mapped.getInt();
+            long payloadLength = mapped.getLong();
+            int checksum = mapped.getInt();
+            if (payloadLength != fileSize - HEADER_SIZE) {
+                return rejected(path, "payload is " + (fileSize - HEADER_SIZE) + " bytes, header says " + payloadLength);
+            }
+
+            ByteBuffer payload = mapped.slice();
+            CRC32C crc = new CRC32C();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                return rejected(path, "checksum mismatch");
+            }
+            ColumnarJobStore.Builder builder = ColumnarJobStore.readFrom(payload);
+            if (builder.size() != rows || payload.hasRemaining()) {
+                return rejected(path, "payload does not match the header");
+            }
+            log.info("Loaded read model snapshot of {} jobs taken at {} in {} ms", rows,
+                    Instant.ofEpochMilli(createdAt), System.currentTimeMillis() - start);
+            return Optional.of(builder);
+        } catch (IOException | RuntimeException e) {
+            return rejected(path, e.toString());
+        }
+    }
+
+    private static Optional<ColumnarJobStore.Builder> rejected(Path path, String reason) {
+        log.warn("Ignoring read model snapshot {} ({}); the read model will be rebuilt from the database", path, reason);
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.job_aggregator.readmodel;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Primitive encodings shared by the snapshot writers of {@link ColumnarJobStore} and
+ * {@link StringDictionary}. Strings and byte arrays are length-prefixed (-1 for null); all values are
+ * big-endian, matching {@link java.io.DataOutputStream} on the write side and {@link ByteBuffer} on the read side.
+ */
+final class SnapshotCodec {
+
+    private SnapshotCodec() {
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        writeBytes(out, value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String readString(ByteBuffer in) {
+        byte[] bytes = readBytes(in);
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+        if (bytes == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static byte[] readBytes(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return bytes;
+    }
+
+    static void writeInts(DataOutput out, int[] values, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            out.writeInt(values[i]);
+        }
+    }
+
+    // Bulk copy through an int view of the buffer, then advance the buffer past it
+    static void readInts(ByteBuffer in, int[] target, int count) {
+        in.asIntBuffer().get(target, 0, count);
+        in.position(in.position() + count * Integer.BYTES);
+    }
+
+    static void writeLongs(DataOutput out, long[] values, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            out.writeLong(values[i]);
+        }
+    }
+
+    static void readLongs(ByteBuffer in, long[] target, int count) {
+        in.asLongBuffer().get(target, 0, count);
+        in.position(in.position() + count * Long.BYTES);
+    }
+}
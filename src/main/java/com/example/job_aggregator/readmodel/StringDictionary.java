@@ -0,0 +1,140 @@
+package com.example.job_aggregator.readmodel;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Append-only dictionary mapping repeated column values (company, location, ...) to int codes.
+ * Code 0 is reserved for {@code null}.
+ *
+ * Only a single writer may call {@link #encode}; readers use immutable {@link View}s. Because values
+ * are only ever appended past the end of a view, a view stays valid while the writer keeps growing
+ * the shared arrays. Values are looked up through an open-addressing table of codes that views share
+ * the same way: a slot is only ever filled once, and codes beyond a view's size are skipped.
+ */
+final class StringDictionary {
+
+    static final int NULL_CODE = 0;
+
+    private String[] values = new String[16];
+    private String[] lowerCaseValues = new String[16];
+    private int[] codeTable = new int[32];
+    private int size = 1;
+
+    int encode(String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        int existing = findCode(codeTable, values, size, value);
+        if (existing >= 0) {
+            return existing;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+            lowerCaseValues = Arrays.copyOf(lowerCaseValues, size * 2);
+        }
+        values[size] = value;
+        lowerCaseValues[size] = value.toLowerCase(Locale.ROOT);
+        index(size);
+        return size++;
+    }
+
+    View view() {
+        return new View(values, lowerCaseValues, codeTable, size);
+    }
+
+    // Keep the code table at most half full; a resize builds a fresh array so older views keep theirs
+    private void index(int code) {
+        if (code * 2 > codeTable.length) {
+            int[] resized = new int[codeTable.length * 2];
+            for (int existing = 1; existing < code; existing++) {
+                insert(resized, existing);
+            }
+            codeTable = resized;
+        }
+        insert(codeTable, code);
+    }
+
+    private void insert(int[] table, int code) {
+        int mask = table.length - 1;
+        int slot = ColumnarJobStore.spread(values[code].hashCode()) & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = code;
+    }
+
+    // Slots hold codes; codes at or beyond the given size belong to newer views and are skipped
+    private static int findCode(int[] table, String[] values, int size, String value) {
+        int mask = table.length - 1;
+        int slot = ColumnarJobStore.spread(value.hashCode()) & mask;
+        while (true) {
+            int code = table[slot];
+            if (code == 0) {
+                return -1;
+            }
+            if (code < size && values[code].equals(value)) {
+                return code;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    // Re-encode snapshotted values in code order, so every stored code keeps its meaning
+    static StringDictionary readFrom(ByteBuffer in) {
+        int size = in.getInt();
+        if (size < 1) {
+            throw new IllegalArgumentException("Invalid dictionary size " + size);
+        }
+        StringDictionary dictionary = new StringDictionary();
+        for (int code = 1; code < size; code++) {
+            dictionary.encode(SnapshotCodec.readString(in));
+        }
+        return dictionary;
+    }
+
+    static final class View {
+        private final String[] values;
+        private final String[] lowerCaseValues;
+        private final int[] codeTable;
+        private final int size;
+
+        View(String[] values, String[] lowerCaseValues, int[] codeTable, int size) {
+            this.values = values;
+            this.lowerCaseValues = lowerCaseValues;
+            this.codeTable = codeTable;
+            this.size = size;
+        }
+
+        String decode(int code) {
+            return values[code];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void writeTo(DataOutput out) throws IOException {
+            out.writeInt(size);
+            for (int code = 1; code < size; code++) {
+                SnapshotCodec.writeString(out, values[code]);
+            }
+        }
+
+        int codeOf(String value) {
+            return value == null ? -1 : findCode(codeTable, values, size, value);
+        }
+
+        // Evaluate a substring predicate once per distinct value instead of once per row
+        boolean[] matching(String lowerCaseTerm) {
+            boolean[] matches = new boolean[size];
+            for (int code = 1; code < size; code++) {
+                matches[code] = lowerCaseValues[code].contains(lowerCaseTerm);
+            }
+            return matches;
+        }
+    }
+}
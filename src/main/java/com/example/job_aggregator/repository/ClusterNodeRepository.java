@@ -0,0 +1,26 @@
+package com.example.job_aggregator.repository;
+
+import com.example.job_aggregator.model.ClusterNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface ClusterNodeRepository extends JpaRepository<ClusterNode, String> {
+
+    @Query("SELECT n.nodeId FROM ClusterNode n WHERE n.expiresAt >= :now ORDER BY n.nodeId")
+    List<String> findLiveNodeIds(@Param("now") long now);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ClusterNode n SET n.expiresAt = :expiresAt WHERE n.nodeId = :nodeId")
+    int renew(@Param("nodeId") String nodeId, @Param("expiresAt") long expiresAt);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ClusterNode n WHERE n.expiresAt < :cutoff")
+    int deleteExpiredBefore(@Param("cutoff") long cutoff);
+}
@@ -0,0 +1,69 @@
+package com.example.job_aggregator.repository;
+
+import com.example.job_aggregator.model.CrawlLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+// State changes are conditional updates, so exactly one node wins each transition
+public interface CrawlLeaseRepository extends JpaRepository<CrawlLease, String> {
+
+    String STATE = "com.example.job_aggregator.model.CrawlLeaseState.";
+    String CLAIMABLE = "(l.state = " + STATE + "PENDING OR (l.state = " + STATE + "RUNNING AND l.expiresAt < :now))";
+
+    // Pending units, and running ones whose holder stopped renewing, oldest round first
+    @Query("SELECT l FROM CrawlLease l WHERE " + CLAIMABLE + " ORDER BY l.roundId, l.unit")
+    List<CrawlLease> findClaimable(@Param("now") long now);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CrawlLease l SET l.state = " + STATE + "RUNNING, l.owner = :owner, l.expiresAt = :expiresAt " +
+            "WHERE l.unit = :unit AND " + CLAIMABLE)
+    int claim(@Param("unit") String unit, @Param("owner") String owner, @Param("now") long now,
+              @Param("expiresAt") long expiresAt);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CrawlLease l SET l.expiresAt = :expiresAt " +
+            "WHERE l.owner = :owner AND l.state = " + STATE + "RUNNING AND l.unit IN :units")
+    int renew(@Param("units") Collection<String> units, @Param("owner") String owner, @Param("expiresAt") long expiresAt);
+
+    // Only units still held by this node count; one taken over after an expired lease belongs to the new holder
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CrawlLease l SET l.state = " + STATE + "DONE, l.completedAt = :now " +
+            "WHERE l.owner = :owner AND l.state = " + STATE + "RUNNING AND l.unit IN :units")
+    int complete(@Param("units") Collection<String> units, @Param("owner") String owner, @Param("now") long now);
+
+    // Put a crawled unit back in line for a new round; a unit still pending or running stays in its round
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CrawlLease l SET l.state = " + STATE + "PENDING, l.roundId = :roundId, l.owner = NULL, " +
+            "l.expiresAt = 0 WHERE l.unit = :unit AND l.state = " + STATE + "DONE")
+    int reschedule(@Param("unit") String unit, @Param("roundId") Long roundId);
+
+    // A plain INSERT rather than save(), which would merge over a row another node inserted meanwhile
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO crawl_leases (unit, board, url, round_id, state, owner, expires_at, completed_at) " +
+            "VALUES (:unit, :board, :url, :roundId, 'PENDING', NULL, 0, 0)", nativeQuery = true)
+    int insertPending(@Param("unit") String unit, @Param("board") String board, @Param("url") String url,
+                      @Param("roundId") Long roundId);
+
+    // Hand a leaving node's running units back without waiting for their leases to expire
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CrawlLease l SET l.state = " + STATE + "PENDING, l.owner = NULL, l.expiresAt = 0 " +
+            "WHERE l.owner = :owner AND l.state = " + STATE + "RUNNING")
+    int release(@Param("owner") String owner);
+
+    // Latest completion by any other node, to notice jobs this node's read model has not seen
+    @Query("SELECT COALESCE(MAX(l.completedAt), 0) FROM CrawlLease l " +
+            "WHERE l.state = " + STATE + "DONE AND l.owner <> :owner")
+    long lastCompletedByOthers(@Param("owner") String owner);
+}
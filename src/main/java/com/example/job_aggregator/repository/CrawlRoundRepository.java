@@ -0,0 +1,32 @@
+package com.example.job_aggregator.repository;
+
+import com.example.job_aggregator.model.CrawlRound;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CrawlRoundRepository extends JpaRepository<CrawlRound, Long> {
+
+    @Query("SELECT r FROM CrawlRound r WHERE r.unitsDone < r.units ORDER BY r.id DESC")
+    List<CrawlRound> findUnfinished();
+
+    Optional<CrawlRound> findTopByOrderByIdDesc();
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CrawlRound r SET r.units = :units WHERE r.id = :id")
+    int setUnits(@Param("id") Long id, @Param("units") int units);
+
+    // Nodes add their share as they finish, so concurrent completions never overwrite each other
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CrawlRound r SET r.unitsDone = r.unitsDone + :units, r.jobsParsed = r.jobsParsed + :jobsParsed, " +
+            "r.saved = r.saved + :saved, r.duplicates = r.duplicates + :duplicates WHERE r.id = :id")
+    int addProgress(@Param("id") Long id, @Param("units") int units, @Param("jobsParsed") int jobsParsed,
+                    @Param("saved") int saved, @Param("duplicates") int duplicates);
+}
@@ -0,0 +1,9 @@
+package com.example.job_aggregator.repository;
+
+/**
+ * Interface projection used to fetch descriptions only when a client asks for them.
+ */
+public interface JobDescription {
+    String getId();
+    String getDescription();
+}
@@ -0,0 +1,24 @@
+package com.example.job_aggregator.repository;
+
+import com.example.job_aggregator.model.JobNotification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface JobNotificationRepository extends JpaRepository<JobNotification, Long> {
+
+    @Query("SELECT n FROM JobNotification n JOIN FETCH n.job WHERE n.user.id = :userId " +
+            "AND (:unreadOnly = false OR n.read = false) ORDER BY n.createdAt DESC, n.id DESC")
+    List<JobNotification> findByUserId(@Param("userId") Long userId, @Param("unreadOnly") boolean unreadOnly);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobNotification n SET n.read = true WHERE n.user.id = :userId AND n.read = false")
+    int markAllAsRead(@Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM JobNotification n WHERE n.savedSearch.id = :savedSearchId")
+    int deleteBySavedSearchId(@Param("savedSearchId") Long savedSearchId);
+}
@@ -10,6 +10,9 @@ import java.util.List;
 
 public interface JobRepository extends JpaRepository<Job, String> {
 
+    String SUMMARY_SELECT = "SELECT new com.example.job_aggregator.repository.JobSummary(" +
+            "j.id, j.title, j.company, j.location, j.sourceUrl, j.jobBoard, j.salary, j.scrapedAt, j.postedAt, j.skills) FROM Job j";
+
     @Query("SELECT j FROM Job j WHERE " +
             "(?1 IS NULL OR LOWER(j.title) LIKE LOWER(CONCAT('%', ?1, '%'))) AND " +
             "(?2 IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', ?2, '%'))) AND " +
@@ -18,4 +21,27 @@ public interface JobRepository extends JpaRepository<Job, String> {
 
     @Query("SELECT j.id FROM Job j WHERE j.id IN :ids")
     List<String> findAllIdsByIdIn(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT j.id FROM Job j")
+    List<String> findAllIds();
+
+    // Projections that skip entity hydration and the description column
+
+    @Query(SUMMARY_SELECT)
+    List<JobSummary> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + " WHERE j.id IN :ids")
+    List<JobSummary> findSummariesByIdIn(@Param("ids") Collection<String> ids);
+
+    @Query(SUMMARY_SELECT + " WHERE j.jobBoard = :jobBoard")
+    List<JobSummary> findSummariesByJobBoard(@Param("jobBoard") String jobBoard);
+
+    @Query(SUMMARY_SELECT + " WHERE " +
+            "(?1 IS NULL OR LOWER(j.title) LIKE LOWER(CONCAT('%', ?1, '%'))) AND " +
+            "(?2 IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', ?2, '%'))) AND " +
+            "(?3 IS NULL OR LOWER(j.company) LIKE LOWER(CONCAT('%', ?3, '%')))")
+    List<JobSummary> searchSummaries(String keyword, String location, String company);
+
+    @Query("SELECT j.id AS id, j.description AS description FROM Job j WHERE j.id IN :ids")
+    List<JobDescription> findDescriptionsByIdIn(@Param("ids") Collection<String> ids);
 }
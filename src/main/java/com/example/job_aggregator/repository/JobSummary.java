@@ -0,0 +1,19 @@
+package com.example.job_aggregator.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Constructor-expression projection of {@code Job} without its description.
+ */
+public record JobSummary(
+        String id,
+        String title,
+        String company,
+        String location,
+        String sourceUrl,
+        String jobBoard,
+        String salary,
+        LocalDateTime scrapedAt,
+        LocalDateTime postedAt,
+        String skills) {
+}
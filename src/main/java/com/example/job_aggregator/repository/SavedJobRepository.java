@@ -2,6 +2,12 @@ package com.example.job_aggregator.repository;
 
 import com.example.job_aggregator.model.SavedJob;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,4 +15,38 @@ public interface SavedJobRepository extends JpaRepository<SavedJob, Long> {
     List<SavedJob> findByUserId(Long userId);
     List<SavedJob> findByUserIdAndApplied(Long userId, boolean applied);
     Optional<SavedJob> findByUserIdAndJobId(Long userId, String jobId);
+
+    // Batch operations - each of these is a single statement regardless of the number of IDs
+
+    @Query("SELECT s.job.id FROM SavedJob s WHERE s.user.id = :userId AND s.job.id IN :jobIds")
+    List<String> findSavedJobIdsByUserIdAndJobIdIn(@Param("userId") Long userId,
+                                                    @Param("jobIds") Collection<String> jobIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO saved_jobs (user_id, job_id, saved_at, applied) " +
+            "SELECT :userId, j.id, :savedAt, FALSE FROM jobs j WHERE j.id IN (:jobIds) " +
+            "AND NOT EXISTS (SELECT 1 FROM saved_jobs s WHERE s.user_id = :userId AND s.job_id = j.id)",
+            nativeQuery = true)
+    int insertAllForUser(@Param("userId") Long userId,
+                         @Param("jobIds") Collection<String> jobIds,
+                         @Param("savedAt") LocalDateTime savedAt);
+
+    @Query("SELECT s FROM SavedJob s JOIN FETCH s.job JOIN FETCH s.user " +
+            "WHERE s.user.id = :userId AND s.job.id IN :jobIds")
+    List<SavedJob> findAllWithJobByUserIdAndJobIdIn(@Param("userId") Long userId,
+                                                    @Param("jobIds") Collection<String> jobIds);
+
+    @Query("SELECT s FROM SavedJob s JOIN FETCH s.job JOIN FETCH s.user WHERE s.id IN :ids")
+    List<SavedJob> findAllWithJobByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SavedJob s SET s.applied = true, s.appliedAt = :appliedAt WHERE s.id IN :ids")
+    int markAllAsApplied(@Param("ids") Collection<Long> ids, @Param("appliedAt") LocalDateTime appliedAt);
+
+    @Query("SELECT s.id FROM SavedJob s WHERE s.id IN :ids")
+    List<Long> findAllIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM SavedJob s WHERE s.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,13 @@
+package com.example.job_aggregator.repository;
+
+import com.example.job_aggregator.model.SavedSearch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import java.util.List;
+
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+    List<SavedSearch> findByUserId(Long userId);
+
+    @Query("SELECT s.id FROM SavedSearch s")
+    List<Long> findAllIds();
+}
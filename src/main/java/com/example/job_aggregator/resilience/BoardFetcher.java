@@ -0,0 +1,347 @@
+package com.example.job_aggregator.resilience;
+
+import com.example.job_aggregator.config.ScraperProperties;
+import com.example.job_aggregator.profiling.BoardFetchEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Connection;
+import org.jsoup.HttpStatusException;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.job_aggregator.constants.ScrapingConstants.*;
+
+/**
+ * Fetches job-board pages through a per-board resilience layer:
+ * <ul>
+ *     <li>a {@link CircuitBreaker} so a dead board fails fast instead of waiting out timeouts,</li>
+ *     <li>bounded retries with full-jitter exponential backoff, capped by an overall deadline,</li>
+ *     <li>optional hedging: once a request has taken longer than the board's recent latency percentile,
+ *     a second identical request is sent and the first successful response wins.</li>
+ * </ul>
+ * Breaker state, transitions, retries, hedges and fetch latency are published as Micrometer metrics, and
+ * every fetch is recorded as a {@link BoardFetchEvent} when a flight recording is running.
+ */
+@Component
+@Slf4j
+public class BoardFetcher {
+
+    private static final int LATENCY_SAMPLES = 100;
+
+    private final ScraperProperties.Resilience config;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, BoardState> boards = new ConcurrentHashMap<>();
+    private final ExecutorService hedgeExecutor;
+
+    public BoardFetcher(ScraperProperties properties, MeterRegistry meterRegistry) {
+        this.config = properties.getResilience();
+        this.meterRegistry = meterRegistry;
+        AtomicInteger threadCount = new AtomicInteger();
+        // No queue: a fetch that finds every thread busy is sent unhedged rather than waiting for one
+        this.hedgeExecutor = new ThreadPoolExecutor(0, config.getHedgeMaxThreads(), 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "Hedge-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hedgeExecutor.shutdownNow();
+    }
+
+    public CircuitBreaker.State getState(String board) {
+        return state(board).breaker.getState();
+    }
+
+    // Fetch and parse one page of the given board
+    public Document fetch(String board, String url) throws IOException {
+        BoardFetchEvent event = new BoardFetchEvent();
+        event.begin();
+        String outcome = "failure";
+        try {
+            Page page = fetchWithRetries(board, url, event);
+            outcome = "success";
+            event.setBytes(page.bytes());
+            return page.document();
+        } catch (BoardUnavailableException e) {
+            outcome = "rejected";
+            throw e;
+        } finally {
+            if (event.shouldCommit()) {
+                event.setBoard(board);
+                event.setUrl(url);
+                event.setOutcome(outcome);
+                event.commit();
+            }
+        }
+    }
+
+    private Page fetchWithRetries(String board, String url, BoardFetchEvent event) throws IOException {
+        BoardState state = state(board);
+        long deadline = System.currentTimeMillis() + config.getDeadlineMs();
+        IOException lastFailure = null;
+
+        for (int attempt = 1; attempt <= config.getMaxAttempts(); attempt++) {
+            event.setAttempts(attempt);
+            if (!state.breaker.tryAcquirePermission()) {
+                state.rejected.increment();
+                throw new BoardUnavailableException("Circuit breaker for " + board + " is open, skipping " + url);
+            }
+
+            int timeoutMs = (int) Math.min(config.getTimeoutMs(), deadline - System.currentTimeMillis());
+            long start = System.nanoTime();
+            try {
+                Page page = fetchHedged(state, url, Math.max(1, timeoutMs));
+                long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                state.breaker.onSuccess();
+                state.latency.record(elapsedMs);
+                state.successTimer.record(elapsedMs, TimeUnit.MILLISECONDS);
+                return page;
+            } catch (IOException e) {
+                state.failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                lastFailure = e;
+                if (!countsAsFailure(e)) {
+                    // The board answered; a 404 for one URL says nothing about the board's health
+                    state.breaker.onSuccess();
+                    throw e;
+                }
+                state.breaker.onFailure();
+                if (!isRetryable(e) || attempt == config.getMaxAttempts()) {
+                    break;
+                }
+                long backoffMs = backoff(attempt);
+                if (System.currentTimeMillis() + backoffMs >= deadline) {
+                    log.debug("No time left to retry {} within the {} ms deadline", url, config.getDeadlineMs());
+                    break;
+                }
+                log.info("Fetching {} failed (attempt {}/{}): {}; retrying in {} ms",
+                        url, attempt, config.getMaxAttempts(), e.getMessage(), backoffMs);
+                state.retries.increment();
+                sleep(backoffMs);
+            }
+        }
+        throw lastFailure;
+    }
+
+    private Page fetchHedged(BoardState state, String url, int timeoutMs) throws IOException {
+        long hedgeDelayMs = config.isHedgeEnabled()
+                ? state.latency.percentile(config.getHedgePercentile(), config.getHedgeMinSamples())
+                : -1;
+        if (hedgeDelayMs < 0 || hedgeDelayMs >= timeoutMs) {
+            return get(url, timeoutMs);
+        }
+
+        CompletableFuture<Page> primary;
+        try {
+            primary = getAsync(url, timeoutMs);
+        } catch (RejectedExecutionException e) {
+            return get(url, timeoutMs);
+        }
+        try {
+            return primary.get(hedgeDelayMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Fall through to hedging
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            primary.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while fetching " + url, e);
+        }
+
+        // The attempt as a whole stays within timeoutMs, which is already capped by the fetch deadline
+        int remainingMs = (int) (timeoutMs - hedgeDelayMs);
+        CompletableFuture<Page> winner;
+        try {
+            CompletableFuture<Page> hedge = getAsync(url, remainingMs);
+            state.hedges.increment();
+            log.debug("{} slower than p{} ({} ms), sent hedged request",
+                    url, Math.round(config.getHedgePercentile() * 100), hedgeDelayMs);
+            winner = firstSuccessful(primary, hedge);
+        } catch (RejectedExecutionException e) {
+            winner = primary;
+        }
+        try {
+            return winner.get(remainingMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new SocketTimeoutException("Timed out fetching " + url + " after " + timeoutMs + " ms");
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while fetching " + url, e);
+        } finally {
+            // Abandon whichever request has not finished, so it stops holding a hedge thread where it can
+            winner.cancel(true);
+        }
+    }
+
+    // Cancelling the returned future interrupts the request, or drops it if it has not started
+    private CompletableFuture<Page> getAsync(String url, int timeoutMs) {
+        CompletableFuture<Page> result = new CompletableFuture<>();
+        Future<?> task = hedgeExecutor.submit(() -> {
+            try {
+                result.complete(get(url, timeoutMs));
+            } catch (IOException e) {
+                result.completeExceptionally(e);
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        result.whenComplete((page, error) -> {
+            if (result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    // The body is buffered before parsing, which parsing did anyway, so its size is known
+    private static Page get(String url, int timeoutMs) throws IOException {
+        Connection.Response response = Jsoup.connect(url)
+                .userAgent(USER_AGENT)
+                .header("Accept", HEADER_ACCEPT)
+                .header("Accept-Language", HEADER_ACCEPT_LANGUAGE)
+                .timeout(timeoutMs)
+                .execute();
+        try {
+            int bytes = response.bodyAsBytes().length;
+            return new Page(response.parse(), bytes);
+        } catch (org.jsoup.UncheckedIOException e) {
+            // jsoup reports a body that fails mid-read (e.g. a read timeout) unchecked; it is a failed fetch
+            // like any other, so the breaker, metrics and retries must see it
+            throw e.ioException() != null ? e.ioException() : new IOException(e.getMessage(), e);
+        }
+    }
+
+    // Completes with the first success, or with a failure once both requests failed; cancelling it cancels both
+    private static <T> CompletableFuture<T> firstSuccessful(CompletableFuture<T> first, CompletableFuture<T> second) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        first.whenComplete((value, error) -> complete(result, failures, value, error));
+        second.whenComplete((value, error) -> complete(result, failures, value, error));
+        result.whenComplete((value, error) -> {
+            first.cancel(true);
+            second.cancel(true);
+        });
+        return result;
+    }
+
+    private static <T> void complete(CompletableFuture<T> result, AtomicInteger failures, T value, Throwable error) {
+        if (error == null) {
+            result.complete(value);
+        } else if (failures.incrementAndGet() == 2) {
+            result.completeExceptionally(error);
+        }
+    }
+
+    private static IOException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof IOException io) {
+            return io;
+        }
+        return new IOException(cause);
+    }
+
+    // 403/429 mean the board is refusing us; other 4xx are about the specific URL
+    private static boolean countsAsFailure(IOException e) {
+        if (e instanceof HttpStatusException status) {
+            int code = status.getStatusCode();
+            return code >= 500 || code == 403 || code == 429;
+        }
+        return true;
+    }
+
+    private static boolean isRetryable(IOException e) {
+        if (e instanceof HttpStatusException status) {
+            int code = status.getStatusCode();
+            return code >= 500 || code == 429;
+        }
+        return true;
+    }
+
+    // Full jitter: uniform in [0, min(max, base * 2^(attempt - 1))]
+    private long backoff(int attempt) {
+        long ceiling = Math.min(config.getMaxBackoffMs(), config.getBaseBackoffMs() << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static void sleep(long millis) throws IOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted during retry backoff", e);
+        }
+    }
+
+    private BoardState state(String board) {
+        return boards.computeIfAbsent(board, this::register);
+    }
+
+    private BoardState register(String board) {
+        CircuitBreaker breaker = new CircuitBreaker(board,
+                config.getFailureRateThreshold(),
+                config.getSlidingWindowSize(),
+                config.getMinimumCalls(),
+                config.getOpenDurationMs(),
+                config.getHalfOpenPermittedCalls(),
+                System::currentTimeMillis,
+                (from, to) -> {
+                    log.warn("Circuit breaker for {} changed from {} to {}", board, from, to);
+                    Counter.builder("scraper.circuit.transitions")
+                            .tag("board", board)
+                            .tag("from", from.name())
+                            .tag("to", to.name())
+                            .register(meterRegistry)
+                            .increment();
+                });
+
+        Gauge.builder("scraper.circuit.state", breaker, b -> b.getState().ordinal())
+                .description("0 = closed, 1 = open, 2 = half-open")
+                .tag("board", board)
+                .register(meterRegistry);
+
+        return new BoardState(breaker,
+                new LatencyTracker(LATENCY_SAMPLES),
+                Counter.builder("scraper.fetch.retries").tag("board", board).register(meterRegistry),
+                Counter.builder("scraper.fetch.hedges").tag("board", board).register(meterRegistry),
+                Counter.builder("scraper.fetch.rejected").tag("board", board).register(meterRegistry),
+                Timer.builder("scraper.fetch").tag("board", board).tag("outcome", "success").register(meterRegistry),
+                Timer.builder("scraper.fetch").tag("board", board).tag("outcome", "failure").register(meterRegistry));
+    }
+
+    private record Page(Document document, int bytes) {
+    }
+
+    private record BoardState(CircuitBreaker breaker, LatencyTracker latency, Counter retries, Counter hedges,
+                              Counter rejected, Timer successTimer, Timer failureTimer) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.job_aggregator.resilience;
+
+import java.io.IOException;
+
+/**
+ * Thrown without any network call when a board's circuit breaker is open.
+ */
+public class BoardUnavailableException extends IOException {
+    public BoardUnavailableException(String message) {
+        super(message);
+    }
+}
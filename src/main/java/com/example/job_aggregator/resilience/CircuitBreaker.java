@@ -0,0 +1,135 @@
+package com.example.job_aggregator.resilience;
+
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker.
+ *
+ * CLOSED records the outcome of the last {@code slidingWindowSize} calls and opens once at least
+ * {@code minimumCalls} were recorded and the failure rate reaches the threshold. OPEN rejects every call
+ * until {@code openDurationMs} has passed, then HALF_OPEN lets a few trial calls through: one failure
+ * reopens the breaker, all trials succeeding closes it.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationMs;
+    private final int halfOpenPermittedCalls;
+    private final LongSupplier clock;
+    private final BiConsumer<State, State> transitionListener;
+
+    private final boolean[] window;
+    private int windowIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermitsIssued;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(String name, double failureRateThreshold, int slidingWindowSize, int minimumCalls,
+                          long openDurationMs, int halfOpenPermittedCalls, LongSupplier clock,
+                          BiConsumer<State, State> transitionListener) {
+        this.name = name;
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = Math.min(minimumCalls, slidingWindowSize);
+        this.openDurationMs = openDurationMs;
+        this.halfOpenPermittedCalls = halfOpenPermittedCalls;
+        this.clock = clock;
+        this.transitionListener = transitionListener;
+        this.window = new boolean[slidingWindowSize];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openDurationMs) {
+            transitionTo(State.HALF_OPEN);
+        }
+        return state;
+    }
+
+    // Ask to make a call; every granted permission must be followed by onSuccess or onFailure
+    public synchronized boolean tryAcquirePermission() {
+        switch (getState()) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (halfOpenPermitsIssued < halfOpenPermittedCalls) {
+                    halfOpenPermitsIssued++;
+                    return true;
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= halfOpenPermittedCalls) {
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recordedCalls >= minimumCalls && (double) failedCalls / recordedCalls >= failureRateThreshold) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == window.length) {
+            if (window[windowIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        window[windowIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(State newState) {
+        State previous = state;
+        state = newState;
+        switch (newState) {
+            case OPEN:
+                openedAt = clock.getAsLong();
+                break;
+            case HALF_OPEN:
+                halfOpenPermitsIssued = 0;
+                halfOpenSuccesses = 0;
+                break;
+            case CLOSED:
+                recordedCalls = 0;
+                failedCalls = 0;
+                windowIndex = 0;
+                break;
+        }
+        transitionListener.accept(previous, newState);
+    }
+}
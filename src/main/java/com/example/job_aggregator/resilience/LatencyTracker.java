@@ -0,0 +1,40 @@
+package com.example.job_aggregator.resilience;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the most recent successful call latencies to derive a hedging threshold.
+ */
+public class LatencyTracker {
+
+    private final long[] samples;
+    private int next;
+    private int count;
+
+    public LatencyTracker(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    public synchronized void record(long latencyMs) {
+        samples[next] = latencyMs;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+    }
+
+    public synchronized int count() {
+        return count;
+    }
+
+    // Latency at the given percentile (0..1), or -1 while fewer than minSamples were recorded
+    public synchronized long percentile(double percentile, int minSamples) {
+        if (count == 0 || count < minSamples) {
+            return -1;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * count) - 1;
+        return sorted[Math.max(0, Math.min(count - 1, index))];
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.job_aggregator.resource;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResource {
+    private String id;
+    private BatchItemStatus status;
+    private String message;
+    private SavedJobResource savedJob;
+}
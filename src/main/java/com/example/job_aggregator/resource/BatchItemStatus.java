@@ -0,0 +1,9 @@
+package com.example.job_aggregator.resource;
+
+public enum BatchItemStatus {
+    SAVED,
+    ALREADY_SAVED,
+    APPLIED,
+    DELETED,
+    NOT_FOUND
+}
@@ -0,0 +1,18 @@
+package com.example.job_aggregator.resource;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResultResource {
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private List<BatchItemResource> results;
+}
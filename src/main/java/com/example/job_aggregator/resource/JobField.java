@@ -0,0 +1,80 @@
+package com.example.job_aggregator.resource;
+
+import com.example.job_aggregator.exception.BadRequestException;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Fields selectable through the {@code fields=} parameter of the job list endpoints.
+ */
+public enum JobField {
+    ID,
+    TITLE,
+    COMPANY,
+    LOCATION,
+    DESCRIPTION,
+    SOURCE_URL,
+    JOB_BOARD,
+    SALARY,
+    SCRAPED_AT,
+    POSTED_AT,
+    SKILLS;
+
+    // Everything except the description, which list views do not show
+    public static final Set<JobField> SUMMARY = Collections.unmodifiableSet(EnumSet.complementOf(EnumSet.of(DESCRIPTION)));
+
+    // Writes every field of a JobResource; the default of the application's object mappers
+    public static final FilterProvider ALL_FIELDS = new SimpleFilterProvider()
+            .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+
+    // Writes exactly the given fields of a JobResource, null ones included
+    public static FilterProvider only(Set<JobField> fields) {
+        Set<String> names = fields.stream().map(JobField::propertyName).collect(Collectors.toSet());
+        return new SimpleFilterProvider()
+                .addFilter(JobResource.FIELD_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(names));
+    }
+
+    // The JSON property name, e.g. "jobBoard" for JOB_BOARD
+    public String propertyName() {
+        String[] words = name().toLowerCase(Locale.ROOT).split("_");
+        StringBuilder name = new StringBuilder(words[0]);
+        for (int i = 1; i < words.length; i++) {
+            name.append(Character.toUpperCase(words[i].charAt(0))).append(words[i], 1, words[i].length());
+        }
+        return name.toString();
+    }
+
+    // Parse a comma-separated list of JSON property names, e.g. "id,title,jobBoard"
+    public static Set<JobField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return SUMMARY;
+        }
+        EnumSet<JobField> selected = EnumSet.noneOf(JobField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                selected.add(fromPropertyName(trimmed));
+            }
+        }
+        if (selected.isEmpty()) {
+            return SUMMARY;
+        }
+        return selected;
+    }
+
+    private static JobField fromPropertyName(String propertyName) {
+        String constant = propertyName.replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+        try {
+            return JobField.valueOf(constant);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unknown job field: " + propertyName);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.job_aggregator.resource;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobNotificationResource {
+    private Long id;
+    private Long savedSearchId;
+    private JobResource job;
+    private LocalDateTime createdAt;
+    private boolean read;
+}
@@ -4,15 +4,20 @@ import lombok.Data;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
-import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
-@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonFilter(JobResource.FIELD_FILTER)
 public class JobResource {
+
+    // Lets the list endpoints write only the fields= selection; every other response writes all fields
+    public static final String FIELD_FILTER = "jobFields";
+
     private String id;
     private String title;
     private String company;
@@ -22,4 +27,6 @@ public class JobResource {
     private String jobBoard;
     private String salary;
     private LocalDateTime scrapedAt;
+    private LocalDateTime postedAt;
+    private List<String> skills;
 }
@@ -0,0 +1,22 @@
+package com.example.job_aggregator.resource;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+// State of the on-demand flight recording; state NONE until one has been started
+@Data
+@Builder
+public class RecordingResource {
+    private Long id;
+    private String state;
+    private String settings;
+    private Instant startedAt;
+    private Long durationSeconds;
+    private Long maxSizeBytes;
+    // Bytes recorded so far
+    private Long sizeBytes;
+    // GET /api/actuator/jfr/{id} downloads the recording, also while it is still running
+    private String file;
+}
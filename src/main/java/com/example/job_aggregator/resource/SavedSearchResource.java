@@ -0,0 +1,21 @@
+package com.example.job_aggregator.resource;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SavedSearchResource {
+    private Long id;
+    private String keyword;
+    private String location;
+    private String company;
+    private LocalDateTime createdAt;
+}
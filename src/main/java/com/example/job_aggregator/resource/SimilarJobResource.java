@@ -0,0 +1,16 @@
+package com.example.job_aggregator.resource;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimilarJobResource {
+    private JobResource job;
+    // Cosine similarity of the TF-IDF vectors, 0 to 1
+    private float score;
+}
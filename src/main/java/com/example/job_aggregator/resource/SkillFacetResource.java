@@ -0,0 +1,16 @@
+package com.example.job_aggregator.resource;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkillFacetResource {
+    private String skill;
+    // Jobs matching the query that are tagged with this skill
+    private int count;
+}
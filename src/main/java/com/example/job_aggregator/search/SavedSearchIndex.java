@@ -0,0 +1,145 @@
+package com.example.job_aggregator.search;
+
+import com.example.job_aggregator.model.Job;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reverse (percolator-style) index over saved searches.
+ *
+ * Each saved search is registered under a single anchor: a short substring of its longest term,
+ * keyed by the field it applies to. A job can only match a search if the job's field contains that
+ * anchor, so matching a job means enumerating the 1-3 character substrings of its title, location
+ * and company, looking each one up, and verifying the few candidates found. The cost is proportional
+ * to the size of the ingested batch, not to the number of saved searches.
+ */
+@Component
+@Slf4j
+public class SavedSearchIndex {
+
+    private static final int MAX_ANCHOR_LENGTH = 3;
+
+    private static final char FIELD_TITLE = 't';
+    private static final char FIELD_LOCATION = 'l';
+    private static final char FIELD_COMPANY = 'c';
+
+    private final Map<Long, Registration> registrations = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    public void add(Long savedSearchId, Long userId, SearchCriteria criteria) {
+        if (criteria.isEmpty()) {
+            throw new IllegalArgumentException("Saved search must have at least one criterion");
+        }
+        remove(savedSearchId);
+        Registration registration = new Registration(savedSearchId, userId, criteria, anchorKey(criteria));
+        registrations.put(savedSearchId, registration);
+        postings.computeIfAbsent(registration.anchorKey, key -> ConcurrentHashMap.newKeySet()).add(savedSearchId);
+    }
+
+    public void remove(Long savedSearchId) {
+        Registration registration = registrations.remove(savedSearchId);
+        if (registration != null) {
+            postings.computeIfPresent(registration.anchorKey, (key, ids) -> {
+                ids.remove(savedSearchId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    public void clear() {
+        registrations.clear();
+        postings.clear();
+    }
+
+    public int size() {
+        return registrations.size();
+    }
+
+    public Set<Long> ids() {
+        return new HashSet<>(registrations.keySet());
+    }
+
+    // Find every (saved search, job) pair where the job satisfies the saved search
+    public List<Match> match(Collection<Job> jobs) {
+        List<Match> matches = new ArrayList<>();
+        if (registrations.isEmpty()) {
+            return matches;
+        }
+
+        Set<Long> candidates = new HashSet<>();
+        Set<String> keys = new HashSet<>();
+        for (Job job : jobs) {
+            candidates.clear();
+            keys.clear();
+            collectKeys(FIELD_TITLE, job.getTitle(), keys);
+            collectKeys(FIELD_LOCATION, job.getLocation(), keys);
+            collectKeys(FIELD_COMPANY, job.getCompany(), keys);
+
+            for (String key : keys) {
+                Set<Long> ids = postings.get(key);
+                if (ids != null) {
+                    candidates.addAll(ids);
+                }
+            }
+
+            for (Long candidateId : candidates) {
+                Registration registration = registrations.get(candidateId);
+                if (registration != null
+                        && registration.criteria.matches(job.getTitle(), job.getLocation(), job.getCompany())) {
+                    matches.add(new Match(registration.savedSearchId, registration.userId, job));
+                }
+            }
+        }
+
+        log.debug("Matched {} jobs against {} saved searches: {} hits", jobs.size(), registrations.size(), matches.size());
+        return matches;
+    }
+
+    // Anchor on the longest term: a longer term yields a more selective middle substring
+    private static String anchorKey(SearchCriteria criteria) {
+        char field = FIELD_TITLE;
+        String term = criteria.getKeyword();
+        if (criteria.getCompany() != null && (term == null || criteria.getCompany().length() > term.length())) {
+            field = FIELD_COMPANY;
+            term = criteria.getCompany();
+        }
+        if (criteria.getLocation() != null && (term == null || criteria.getLocation().length() > term.length())) {
+            field = FIELD_LOCATION;
+            term = criteria.getLocation();
+        }
+
+        if (term.length() <= MAX_ANCHOR_LENGTH) {
+            return field + term;
+        }
+        int start = (term.length() - MAX_ANCHOR_LENGTH) / 2;
+        return field + term.substring(start, start + MAX_ANCHOR_LENGTH);
+    }
+
+    private static void collectKeys(char field, String value, Set<String> keys) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        String text = value.toLowerCase(Locale.ROOT);
+        for (int start = 0; start < text.length(); start++) {
+            int maxEnd = Math.min(text.length(), start + MAX_ANCHOR_LENGTH);
+            for (int end = start + 1; end <= maxEnd; end++) {
+                keys.add(field + text.substring(start, end));
+            }
+        }
+    }
+
+    public record Match(Long savedSearchId, Long userId, Job job) {
+    }
+
+    private record Registration(Long savedSearchId, Long userId, SearchCriteria criteria, String anchorKey) {
+    }
+}
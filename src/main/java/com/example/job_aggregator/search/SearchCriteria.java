@@ -0,0 +1,87 @@
+package com.example.job_aggregator.search;
+
+import com.example.job_aggregator.skills.SkillTags;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Normalized keyword/location/company filter with the same semantics as {@code JobRepository.searchJobs}:
+ * every non-null term must be a case-insensitive substring of its field. Skills are exact tags, and a job
+ * must carry all of them; they are answered from the skill index, so {@link #matches} ignores them.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class SearchCriteria {
+
+    private final String keyword;
+    private final String location;
+    private final String company;
+    // Normalized skill tags, sorted; empty means "no filter"
+    private final List<String> skills;
+
+    private SearchCriteria(String keyword, String location, String company, List<String> skills) {
+        this.keyword = keyword;
+        this.location = location;
+        this.company = company;
+        this.skills = skills;
+    }
+
+    public static SearchCriteria of(String keyword, String location, String company) {
+        return of(keyword, location, company, null);
+    }
+
+    public static SearchCriteria of(String keyword, String location, String company, Collection<String> skills) {
+        return new SearchCriteria(normalize(keyword), normalize(location), normalize(company),
+                SkillTags.normalizeAll(skills));
+    }
+
+    public boolean isEmpty() {
+        return keyword == null && location == null && company == null && skills.isEmpty();
+    }
+
+    public boolean hasTextTerms() {
+        return keyword != null || location != null || company != null;
+    }
+
+    // True if the job's tags include every requested skill
+    public boolean matchesSkills(Collection<String> jobSkills) {
+        return skills.isEmpty() || (jobSkills != null && jobSkills.containsAll(skills));
+    }
+
+    public boolean matches(String title, String jobLocation, String jobCompany) {
+        return contains(title, keyword) && contains(jobLocation, location) && contains(jobCompany, company);
+    }
+
+    // Same as matches() for values that are already lower-cased
+    public boolean matchesLowerCase(String title, String jobLocation, String jobCompany) {
+        return containsLowerCase(title, keyword)
+                && containsLowerCase(jobLocation, location)
+                && containsLowerCase(jobCompany, company);
+    }
+
+    // Trim and lower-case a term; blank terms mean "no filter"
+    public static String normalize(String term) {
+        if (term == null) {
+            return null;
+        }
+        String trimmed = term.trim();
+        return trimmed.isEmpty() ? null : trimmed.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean containsLowerCase(String value, String term) {
+        return term == null || (value != null && value.contains(term));
+    }
+
+    private static boolean contains(String value, String term) {
+        if (term == null) {
+            return true;
+        }
+        return value != null && value.toLowerCase(Locale.ROOT).contains(term);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.job_aggregator.service;
+
+import com.example.job_aggregator.event.JobsIngestedEvent;
+import com.example.job_aggregator.readmodel.JobReadModel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ETags for the job corpus, which let list/search endpoints answer {@code If-None-Match} with 304 without
+ * touching the database.
+ *
+ * Once the read model is ready they are derived from the jobs it holds, so they change with every
+ * ingestion, catch-up or rebuild, survive restarts, and match across instances behind a load balancer
+ * once those have caught up with the shared database. Until then responses come from the database and the
+ * ETag falls back to a generation counter bumped after every ingestion commit, scoped to this process by
+ * a boot id.
+ *
+ * The ETags are weak: Tomcat does not compress a response carrying a strong ETag, since the compressed
+ * bytes differ from the ones the validator promises, and GET revalidation only needs weak comparison.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DataVersionService {
+
+    private final JobReadModel jobReadModel;
+
+    private final String bootId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong version = new AtomicLong();
+
+    // Weak ETag for one representation of the jobs currently served
+    public String etag(String... parts) {
+        StringBuilder key = new StringBuilder();
+        for (String part : parts) {
+            key.append(part == null ? "" : part).append('\u0000');
+        }
+        String digest = DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8));
+        String generation = jobReadModel.isReady()
+                ? jobReadModel.contentVersion()
+                : bootId + "-" + version.get();
+        return "W/\"" + generation + "-" + digest + "\"";
+    }
+
+    // Runs after the other ingestion listeners so a new ETag is never paired with stale data
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onJobsIngested(JobsIngestedEvent event) {
+        long newVersion = version.incrementAndGet();
+        log.debug("Job data version is now {}", newVersion);
+    }
+}
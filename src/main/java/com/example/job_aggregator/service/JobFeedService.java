@@ -0,0 +1,221 @@
+package com.example.job_aggregator.service;
+
+import com.example.job_aggregator.event.JobsIngestedEvent;
+import com.example.job_aggregator.mapper.JobMapper;
+import com.example.job_aggregator.model.Job;
+import com.example.job_aggregator.resource.JobResource;
+import com.example.job_aggregator.search.SearchCriteria;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.example.job_aggregator.constants.ScrapingConstants.*;
+
+/**
+ * Server-Sent Events feed of newly ingested jobs.
+ *
+ * Every committed job gets a sequence number and is kept in a fixed-size replay ring, so a client that
+ * reconnects with its last seen sequence ({@code Last-Event-ID} or {@code since}) receives what it missed.
+ * Each subscriber owns a bounded queue drained by the shared feed executor; a subscriber whose queue
+ * overflows is disconnected instead of buffering without limit. Idle subscribers hold no thread.
+ *
+ * Only drain tasks touch an emitter once it is subscribed: {@code send()} and {@code complete()} lock the
+ * same emitter, so completing it from the publishing thread would wait out a write to a stalled client.
+ */
+@Service
+@Slf4j
+public class JobFeedService {
+
+    private static final String EVENT_JOB = "job";
+    private static final String EVENT_RESET = "reset";
+
+    private final JobMapper jobMapper;
+    private final Executor feedExecutor;
+
+    private final Object lock = new Object();
+    private final FeedEvent[] ring = new FeedEvent[FEED_REPLAY_CAPACITY];
+    private long lastSequence = 0;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    public JobFeedService(JobMapper jobMapper, @Qualifier("feedExecutor") Executor feedExecutor) {
+        this.jobMapper = jobMapper;
+        this.feedExecutor = feedExecutor;
+    }
+
+    // Register a subscriber, replaying buffered events after the given cursor
+    public SseEmitter subscribe(SearchCriteria criteria, Long cursor) {
+        SseEmitter emitter = new SseEmitter(FEED_EMITTER_TIMEOUT_MS);
+        Subscriber subscriber = new Subscriber(emitter, criteria);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        synchronized (lock) {
+            if (cursor != null && cursor > lastSequence) {
+                // Cursor from before a restart: sequences started over, so the client must resync
+                enqueue(subscriber, new FeedEvent(lastSequence, EVENT_RESET, null));
+            } else if (cursor != null && cursor < lastSequence) {
+                replay(subscriber, cursor);
+            }
+            subscribers.add(subscriber);
+        }
+        schedule(subscriber);
+
+        log.info("Feed subscriber connected (cursor: {}, filter: {}), {} active", cursor, criteria, subscribers.size());
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    // Publish committed jobs to the replay ring and every matching subscriber
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsIngested(JobsIngestedEvent event) {
+        if (event.getJobs().isEmpty()) {
+            return;
+        }
+        List<JobResource> resources = new ArrayList<>(event.getJobs().size());
+        for (Job job : event.getJobs()) {
+            resources.add(jobMapper.toResource(job));
+        }
+
+        synchronized (lock) {
+            for (JobResource resource : resources) {
+                FeedEvent feedEvent = new FeedEvent(++lastSequence, EVENT_JOB, resource);
+                ring[(int) (feedEvent.sequence % ring.length)] = feedEvent;
+                for (Subscriber subscriber : subscribers) {
+                    if (subscriber.accepts(resource)) {
+                        enqueue(subscriber, feedEvent);
+                    }
+                }
+            }
+        }
+        subscribers.forEach(this::schedule);
+    }
+
+    // Keep idle connections alive and detect clients that went away
+    @Scheduled(fixedRate = FEED_HEARTBEAT_INTERVAL_MS)
+    public void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue.isEmpty()) {
+                enqueue(subscriber, FeedEvent.HEARTBEAT);
+                schedule(subscriber);
+            }
+        }
+    }
+
+    private void replay(Subscriber subscriber, long cursor) {
+        long oldest = Math.max(1, lastSequence - ring.length + 1);
+        if (cursor + 1 < oldest) {
+            // The client missed more than the ring holds; tell it to resync with a full fetch
+            enqueue(subscriber, new FeedEvent(lastSequence, EVENT_RESET, null));
+            return;
+        }
+        for (long sequence = cursor + 1; sequence <= lastSequence; sequence++) {
+            FeedEvent feedEvent = ring[(int) (sequence % ring.length)];
+            if (subscriber.accepts(feedEvent.resource) && !enqueue(subscriber, feedEvent)) {
+                return;
+            }
+        }
+    }
+
+    private boolean enqueue(Subscriber subscriber, FeedEvent feedEvent) {
+        if (subscriber.queue.offer(feedEvent)) {
+            return true;
+        }
+        log.warn("Feed subscriber fell more than {} events behind, disconnecting", FEED_SUBSCRIBER_BUFFER_SIZE);
+        subscribers.remove(subscriber);
+        subscriber.queue.clear();
+        // The drain task completes the emitter, after any write to this slow client still in progress
+        subscriber.closed.set(true);
+        schedule(subscriber);
+        return false;
+    }
+
+    private void schedule(Subscriber subscriber) {
+        boolean pending = !subscriber.queue.isEmpty() || (subscriber.closed.get() && !subscriber.completed.get());
+        if (pending && subscriber.draining.compareAndSet(false, true)) {
+            feedExecutor.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            FeedEvent feedEvent;
+            while (!subscriber.closed.get() && (feedEvent = subscriber.queue.poll()) != null) {
+                send(subscriber.emitter, feedEvent);
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Feed subscriber disconnected: {}", e.getMessage());
+            subscribers.remove(subscriber);
+            subscriber.queue.clear();
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (subscriber.closed.get()) {
+            if (subscriber.completed.compareAndSet(false, true)) {
+                subscriber.queue.clear();
+                subscriber.emitter.complete();
+            }
+            return;
+        }
+        // An event may have been queued after the last poll but before the flag was cleared
+        schedule(subscriber);
+    }
+
+    private static void send(SseEmitter emitter, FeedEvent feedEvent) throws IOException {
+        if (feedEvent == FeedEvent.HEARTBEAT) {
+            emitter.send(SseEmitter.event().comment("keepalive"));
+        } else if (feedEvent.resource == null) {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(feedEvent.sequence))
+                    .name(feedEvent.name)
+                    .data(""));
+        } else {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(feedEvent.sequence))
+                    .name(feedEvent.name)
+                    .data(feedEvent.resource, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private record FeedEvent(long sequence, String name, JobResource resource) {
+        static final FeedEvent HEARTBEAT = new FeedEvent(0, null, null);
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final SearchCriteria criteria;
+        private final BlockingQueue<FeedEvent> queue = new ArrayBlockingQueue<>(FEED_SUBSCRIBER_BUFFER_SIZE);
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        // Disconnected for falling behind; completed once the drain task has closed the emitter
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        private final AtomicBoolean completed = new AtomicBoolean(false);
+
+        private Subscriber(SseEmitter emitter, SearchCriteria criteria) {
+            this.emitter = emitter;
+            this.criteria = criteria;
+        }
+
+        private boolean accepts(JobResource resource) {
+            return resource == null
+                    || criteria.matches(resource.getTitle(), resource.getLocation(), resource.getCompany());
+        }
+    }
+}
@@ -1,35 +1,67 @@
 package com.example.job_aggregator.service;
 
+import com.example.job_aggregator.cluster.ScrapeCoordinator;
+import com.example.job_aggregator.concurrency.SingleFlight;
+import com.example.job_aggregator.event.JobsIngestedEvent;
+import com.example.job_aggregator.exception.BadRequestException;
 import com.example.job_aggregator.exception.ResourceNotFoundException;
+import com.example.job_aggregator.ingestion.FeedImportResult;
+import com.example.job_aggregator.ingestion.FeedImporter;
+import com.example.job_aggregator.ingestion.IngestionPipeline;
+import com.example.job_aggregator.ingestion.IngestionResult;
+import com.example.job_aggregator.ingestion.IngestionRun;
 import com.example.job_aggregator.mapper.JobMapper;
 import com.example.job_aggregator.mapper.SavedJobMapper;
+import com.example.job_aggregator.model.CrawlRound;
 import com.example.job_aggregator.model.Job;
 import com.example.job_aggregator.model.SavedJob;
 import com.example.job_aggregator.model.User;
+import com.example.job_aggregator.profiling.ExportEvent;
+import com.example.job_aggregator.profiling.SearchQueryEvent;
+import com.example.job_aggregator.readmodel.JobReadModel;
+import com.example.job_aggregator.repository.JobDescription;
 import com.example.job_aggregator.repository.JobRepository;
 import com.example.job_aggregator.repository.SavedJobRepository;
-import com.example.job_aggregator.repository.UserRepository;
+import com.example.job_aggregator.resource.BatchItemResource;
+import com.example.job_aggregator.resource.BatchItemStatus;
+import com.example.job_aggregator.resource.BatchResultResource;
+import com.example.job_aggregator.resource.JobField;
 import com.example.job_aggregator.resource.JobResource;
 import com.example.job_aggregator.resource.SavedJobResource;
+import com.example.job_aggregator.resource.SimilarJobResource;
+import com.example.job_aggregator.resource.SkillFacetResource;
+import com.example.job_aggregator.search.SearchCriteria;
+import com.example.job_aggregator.similarity.SimilarJobIndex;
+import com.example.job_aggregator.similarity.TfIdfIndex;
+import com.example.job_aggregator.skills.SkillExtractor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import com.opencsv.CSVWriter;
 
+import java.io.InputStream;
 import java.io.StringWriter;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import static com.example.job_aggregator.constants.ScrapingConstants.*;
@@ -42,32 +74,202 @@ public class JobService {
 
     private final JobRepository jobRepository;
     private final SavedJobRepository savedJobRepository;
-    private final UserRepository userRepository;
+    private final UserService userService;
     private final JobMapper jobMapper;
     private final SavedJobMapper savedJobMapper;
     private final ScraperService scraperService;  // Injected ScraperService
+    private final ApplicationEventPublisher eventPublisher;
+    private final JobReadModel jobReadModel;
+    private final IngestionPipeline ingestionPipeline;
+    private final SkillExtractor skillExtractor;
+    private final SimilarJobIndex similarJobIndex;
+    private final FeedImporter feedImporter;
+    private final ScrapeCoordinator scrapeCoordinator;
 
-    // Search jobs with filters
-    public List<JobResource> searchJobs(String keyword, String location, String company) {
-        log.info("Searching jobs with keyword: {}, location: {}, company: {}", keyword, location, company);
-        List<Job> jobs = jobRepository.searchJobs(keyword, location, company);
-        return jobMapper.toResourceList(jobs);
+    // Identical list/search requests running at the same time share one query
+    private final SingleFlight<QueryKey, List<JobResource>> queries = new SingleFlight<>();
+
+    private final Object scrapeLock = new Object();
+    private IngestionRun currentRun;
+
+    private record QueryKey(SearchCriteria criteria, String jobBoard, Set<JobField> fields) {
+    }
+
+    // Search jobs with filters, served from the read model once it is warm
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<JobResource> searchJobs(String keyword, String location, String company, Set<JobField> fields) {
+        return searchJobs(keyword, location, company, List.of(), fields);
+    }
+
+    // Search jobs with filters, also requiring every given skill tag
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<JobResource> searchJobs(String keyword, String location, String company, List<String> skills,
+                                        Set<JobField> fields) {
+        log.info("Searching jobs with keyword: {}, location: {}, company: {}, skills: {}", keyword, location, company, skills);
+        SearchCriteria criteria = SearchCriteria.of(keyword, location, company, skills);
+        return queries.execute(new QueryKey(criteria, null, fields), () -> {
+            SearchQueryEvent event = new SearchQueryEvent();
+            event.begin();
+            boolean fromReadModel = jobReadModel.isReady();
+            List<JobResource> jobs = fromReadModel ? jobReadModel.search(criteria) : searchDatabase(criteria);
+            if (event.shouldCommit()) {
+                event.setKeyword(criteria.getKeyword());
+                event.setLocation(criteria.getLocation());
+                event.setCompany(criteria.getCompany());
+                event.setSkills(String.join(",", criteria.getSkills()));
+                commitQuery(event, fromReadModel, jobs.size());
+            }
+            return withFields(jobs, fields);
+        });
+    }
+
+    // Number of matching jobs per skill, most frequent first
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<SkillFacetResource> getSkillFacets(String keyword, String location, String company, List<String> skills,
+                                                   int limit) {
+        if (limit < 1) {
+            throw new BadRequestException("limit must be at least 1");
+        }
+        SearchCriteria criteria = SearchCriteria.of(keyword, location, company, skills);
+        List<SkillFacetResource> facets = jobReadModel.isReady()
+                ? jobReadModel.skillFacets(criteria)
+                : countSkills(searchDatabase(criteria));
+        return facets.size() > limit ? facets.subList(0, limit) : facets;
+    }
+
+    // Text terms in SQL, skills on the stored tags of the returned summaries
+    private List<JobResource> searchDatabase(SearchCriteria criteria) {
+        List<JobResource> jobs = jobMapper.toSummaryResourceList(
+                jobRepository.searchSummaries(criteria.getKeyword(), criteria.getLocation(), criteria.getCompany()));
+        if (criteria.getSkills().isEmpty()) {
+            return jobs;
+        }
+        return jobs.stream()
+                .filter(job -> criteria.matchesSkills(job.getSkills()))
+                .collect(Collectors.toList());
+    }
+
+    private static List<SkillFacetResource> countSkills(List<JobResource> jobs) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (JobResource job : jobs) {
+            for (String skill : job.getSkills()) {
+                counts.merge(skill, 1, Integer::sum);
+            }
+        }
+        return counts.entrySet().stream()
+                .map(entry -> new SkillFacetResource(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingInt(SkillFacetResource::getCount).reversed()
+                        .thenComparing(SkillFacetResource::getSkill))
+                .collect(Collectors.toList());
+    }
+
+    // Get all jobs, optionally limited to one job board
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<JobResource> getAllJobs(String jobBoard, Set<JobField> fields) {
+        return queries.execute(new QueryKey(null, jobBoard, fields), () -> {
+            SearchQueryEvent event = new SearchQueryEvent();
+            event.begin();
+            boolean fromReadModel = jobReadModel.isReady();
+            List<JobResource> jobs;
+            if (fromReadModel) {
+                log.info("Fetching all jobs from read model");
+                jobs = jobBoard == null ? jobReadModel.getAll() : jobReadModel.findByBoard(jobBoard);
+            } else {
+                log.info("Fetching all jobs from database");
+                jobs = jobMapper.toSummaryResourceList(jobBoard == null
+                        ? jobRepository.findAllSummaries()
+                        : jobRepository.findSummariesByJobBoard(jobBoard));
+            }
+            if (event.shouldCommit()) {
+                event.setJobBoard(jobBoard);
+                commitQuery(event, fromReadModel, jobs.size());
+            }
+            return withFields(jobs, fields);
+        });
+    }
+
+    private static void commitQuery(SearchQueryEvent event, boolean fromReadModel, int rows) {
+        event.setSource(fromReadModel ? "read model" : "database");
+        event.setRows(rows);
+        event.commit();
     }
 
-    // Get all jobs from database
-    public List<JobResource> getAllJobs() {
-        log.info("Fetching all jobs from database");
-        List<Job> jobs = jobRepository.findAll();
-        return jobMapper.toResourceList(jobs);
+    // Get a single job by ID, including its description
+    @Transactional(readOnly = true)
+    public JobResource getJob(String jobId) {
+        if (jobReadModel.isReady()) {
+            return jobReadModel.findDetailById(jobId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Job not found with ID: " + jobId));
+        }
+        return jobRepository.findById(jobId)
+                .map(jobMapper::toResource)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found with ID: " + jobId));
+    }
+
+    // Jobs whose title and description are closest to the given job's, best first
+    @Transactional(readOnly = true)
+    public List<SimilarJobResource> getSimilarJobs(String jobId, int limit) {
+        if (limit < 1 || limit > SIMILAR_JOBS_MAX_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + SIMILAR_JOBS_MAX_LIMIT);
+        }
+        boolean exists = jobReadModel.isReady() ? jobReadModel.findById(jobId).isPresent() : jobRepository.existsById(jobId);
+        if (!exists) {
+            throw new ResourceNotFoundException("Job not found with ID: " + jobId);
+        }
+        if (!similarJobIndex.isReady()) {
+            log.info("Similarity index not built yet, no similar jobs for {}", jobId);
+            return List.of();
+        }
+        List<SimilarJobResource> similar = new ArrayList<>(limit);
+        for (TfIdfIndex.Match match : similarJobIndex.findSimilar(jobId, limit)) {
+            jobReadModel.findById(match.id()).ifPresent(job -> similar.add(SimilarJobResource.builder()
+                    .job(job)
+                    .score(match.score())
+                    .build()));
+        }
+        return similar;
+    }
+
+    // Narrow summaries to the requested fields, loading descriptions only when asked for
+    private List<JobResource> withFields(List<JobResource> jobs, Set<JobField> fields) {
+        if (fields.equals(JobField.SUMMARY)) {
+            return jobs;
+        }
+        Map<String, String> descriptions = fields.contains(JobField.DESCRIPTION) ? loadDescriptions(jobs) : Map.of();
+        List<JobResource> projected = new ArrayList<>(jobs.size());
+        for (JobResource job : jobs) {
+            JobResource resource = job;
+            if (!descriptions.isEmpty()) {
+                resource = job.toBuilder().description(descriptions.get(job.getId())).build();
+            }
+            projected.add(jobMapper.project(resource, fields));
+        }
+        return projected;
+    }
+
+    private Map<String, String> loadDescriptions(List<JobResource> jobs) {
+        if (jobReadModel.isReady()) {
+            return jobReadModel.findDescriptions(jobs.stream().map(JobResource::getId).collect(Collectors.toList()));
+        }
+        Map<String, String> descriptions = new HashMap<>(jobs.size() * 2);
+        for (int from = 0; from < jobs.size(); from += MAX_BATCH_SIZE) {
+            List<String> ids = jobs.subList(from, Math.min(jobs.size(), from + MAX_BATCH_SIZE)).stream()
+                    .map(JobResource::getId)
+                    .collect(Collectors.toList());
+            for (JobDescription description : jobRepository.findDescriptionsByIdIn(ids)) {
+                if (description.getDescription() != null) {
+                    descriptions.put(description.getId(), description.getDescription());
+                }
+            }
+        }
+        return descriptions;
     }
 
     // Save a job for user
     public SavedJobResource saveJob(String jobId) {
         log.info("Saving job with ID: {}", jobId);
 
-        // Find by username instead of hardcoded ID
-        User user = userRepository.findByUsername("default_user")
-                .orElseGet(() -> createDefaultUser());
+        User user = userService.getDefaultUser();
 
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found with ID: " + jobId));
@@ -136,10 +338,142 @@ public class JobService {
         log.info("Saved job deleted successfully");
     }
 
+    // Save many jobs for user in one transaction
+    public BatchResultResource saveJobs(List<String> jobIds) {
+        Set<String> requestedIds = toBatch(jobIds);
+        log.info("Batch saving {} jobs", requestedIds.size());
+
+        User user = userService.getDefaultUser();
+
+        Set<String> existingJobIds = new HashSet<>(jobRepository.findAllIdsByIdIn(requestedIds));
+        Set<String> alreadySavedIds = new HashSet<>(
+                savedJobRepository.findSavedJobIdsByUserIdAndJobIdIn(user.getId(), requestedIds));
+
+        List<String> toInsert = existingJobIds.stream()
+                .filter(id -> !alreadySavedIds.contains(id))
+                .collect(Collectors.toList());
+        if (!toInsert.isEmpty()) {
+            savedJobRepository.insertAllForUser(user.getId(), toInsert, LocalDateTime.now());
+        }
+
+        Map<String, SavedJob> savedByJobId = existingJobIds.isEmpty()
+                ? Map.of()
+                : savedJobRepository.findAllWithJobByUserIdAndJobIdIn(user.getId(), existingJobIds).stream()
+                        .collect(Collectors.toMap(savedJob -> savedJob.getJob().getId(), savedJob -> savedJob));
+
+        List<BatchItemResource> results = new ArrayList<>(requestedIds.size());
+        for (String jobId : requestedIds) {
+            SavedJob savedJob = savedByJobId.get(jobId);
+            if (savedJob == null) {
+                results.add(notFound(jobId, "Job not found with ID: " + jobId));
+            } else {
+                results.add(BatchItemResource.builder()
+                        .id(jobId)
+                        .status(alreadySavedIds.contains(jobId) ? BatchItemStatus.ALREADY_SAVED : BatchItemStatus.SAVED)
+                        .savedJob(savedJobMapper.toResource(savedJob))
+                        .build());
+            }
+        }
+
+        log.info("Batch saved {} new jobs, {} already saved", toInsert.size(), alreadySavedIds.size());
+        return toBatchResult(results);
+    }
+
+    // Mark many saved jobs as applied with a single update
+    public BatchResultResource markAllAsApplied(List<Long> savedJobIds) {
+        Set<Long> requestedIds = toBatch(savedJobIds);
+        log.info("Batch marking {} saved jobs as applied", requestedIds.size());
+
+        int updated = savedJobRepository.markAllAsApplied(requestedIds, LocalDateTime.now());
+
+        Map<Long, SavedJob> savedById = updated == 0
+                ? Map.of()
+                : savedJobRepository.findAllWithJobByIdIn(requestedIds).stream()
+                        .collect(Collectors.toMap(SavedJob::getId, savedJob -> savedJob));
+
+        List<BatchItemResource> results = new ArrayList<>(requestedIds.size());
+        for (Long id : requestedIds) {
+            SavedJob savedJob = savedById.get(id);
+            if (savedJob == null) {
+                results.add(notFound(String.valueOf(id), "Saved job not found with ID: " + id));
+            } else {
+                results.add(BatchItemResource.builder()
+                        .id(String.valueOf(id))
+                        .status(BatchItemStatus.APPLIED)
+                        .savedJob(savedJobMapper.toResource(savedJob))
+                        .build());
+            }
+        }
+
+        log.info("Batch marked {} saved jobs as applied", updated);
+        return toBatchResult(results);
+    }
+
+    // Delete many saved jobs with a single delete
+    public BatchResultResource deleteSavedJobs(List<Long> savedJobIds) {
+        Set<Long> requestedIds = toBatch(savedJobIds);
+        log.info("Batch deleting {} saved jobs", requestedIds.size());
+
+        Set<Long> existingIds = new HashSet<>(savedJobRepository.findAllIdsByIdIn(requestedIds));
+        if (!existingIds.isEmpty()) {
+            savedJobRepository.deleteAllByIdIn(existingIds);
+        }
+
+        List<BatchItemResource> results = new ArrayList<>(requestedIds.size());
+        for (Long id : requestedIds) {
+            if (existingIds.contains(id)) {
+                results.add(BatchItemResource.builder()
+                        .id(String.valueOf(id))
+                        .status(BatchItemStatus.DELETED)
+                        .build());
+            } else {
+                results.add(notFound(String.valueOf(id), "Saved job not found with ID: " + id));
+            }
+        }
+
+        log.info("Batch deleted {} saved jobs", existingIds.size());
+        return toBatchResult(results);
+    }
+
+    // Validate batch size and drop null and duplicate IDs while keeping request order
+    private static <T> Set<T> toBatch(List<T> ids) {
+        if (ids != null && ids.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("Batch size must not exceed " + MAX_BATCH_SIZE + " IDs");
+        }
+        Set<T> unique = ids == null ? new LinkedHashSet<>() : new LinkedHashSet<>(ids);
+        unique.remove(null);
+        if (unique.isEmpty()) {
+            throw new BadRequestException("At least one ID is required");
+        }
+        return unique;
+    }
+
+    private static BatchItemResource notFound(String id, String message) {
+        return BatchItemResource.builder()
+                .id(id)
+                .status(BatchItemStatus.NOT_FOUND)
+                .message(message)
+                .build();
+    }
+
+    private static BatchResultResource toBatchResult(List<BatchItemResource> results) {
+        int failed = (int) results.stream()
+                .filter(item -> item.getStatus() == BatchItemStatus.NOT_FOUND)
+                .count();
+        return BatchResultResource.builder()
+                .requested(results.size())
+                .succeeded(results.size() - failed)
+                .failed(failed)
+                .results(results)
+                .build();
+    }
+
     // Export applied jobs as CSV
     public ResponseEntity<Resource> exportAppliedJobsCsv() {
         log.info("Exporting applied jobs to CSV");
 
+        ExportEvent event = new ExportEvent();
+        event.begin();
         Long userId = 1L; // Default user
         List<SavedJob> appliedJobs = savedJobRepository.findByUserIdAndApplied(userId, true);
 
@@ -149,6 +483,12 @@ public class JobService {
             csvWriter.close();
 
             ByteArrayResource resource = new ByteArrayResource(writer.toString().getBytes());
+            if (event.shouldCommit()) {
+                event.setFormat("csv");
+                event.setRows(appliedJobs.size());
+                event.setBytes(resource.contentLength());
+                event.commit();
+            }
 
             return ResponseEntity.ok()
                     .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=applied-jobs.csv")
@@ -185,52 +525,89 @@ public class JobService {
         return csvWriter;
     }
 
-    // Trigger job scraping - delegates to ScraperService
-    @Transactional
+    // Trigger job scraping - streams board pages through the ingestion pipeline
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String scrapeJobs() {
-        log.info("Triggering job scraping process. Will take 10 seconds");
+        log.info("Triggering job scraping process. Will wait up to {} seconds", SCRAPING_WAIT_TIMEOUT_SECONDS);
+
+        if (scrapeCoordinator.isEnabled()) {
+            return scrapeAcrossCluster();
+        }
 
-        CompletableFuture<List<Job>> future = scraperService.scrapeAllJobBoards();
+        IngestionRun run = joinOrStartRun();
 
         try {
-            List<Job> scrapedJobs = future.get(SCRAPING_WAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            IngestionResult result = run.getCompletion().get(SCRAPING_WAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
 
-            if (scrapedJobs.isEmpty()) {
+            if (result.getJobsParsed() == 0) {
                 return "Scraping completed but no jobs found.";
             }
 
-            // Extract all IDs from scraped jobs
-            Set<String> scrapedIds = scrapedJobs.stream()
-                    .map(Job::getId)
-                    .collect(Collectors.toSet());
-
-            // Find which IDs already exist in DB (single query)
-            Set<String> existingIds = new HashSet<>(jobRepository.findAllIdsByIdIn(scrapedIds));
+            log.info("Saved {} new jobs, skipped {} duplicates", result.getSaved(), result.getDuplicates());
 
-            // Filter to get only new jobs
-            List<Job> newJobs = scrapedJobs.stream()
-                    .filter(job -> !existingIds.contains(job.getId()))
-                    .collect(Collectors.toList());
+            return String.format("Scraping completed! Saved %d new jobs, skipped %d duplicates.",
+                    result.getSaved(), result.getDuplicates());
+
+        } catch (TimeoutException e) {
+            // Batches keep committing in the background; report progress so far
+            IngestionResult progress = run.snapshot();
+            return String.format("Scraping still running. Saved %d new jobs so far, skipped %d duplicates.",
+                    progress.getSaved(), progress.getDuplicates());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "Scraping interrupted";
+        } catch (Exception e) {
+            log.error("Error during scraping", e);
+            return "Scraping failed: " + e.getMessage();
+        }
+    }
 
-            // Save new jobs
-            if (!newJobs.isEmpty()) {
-                jobRepository.saveAll(newJobs);
+    // Shard the pages over every instance sharing the database, and wait for the whole round
+    private String scrapeAcrossCluster() {
+        try {
+            long roundId = scrapeCoordinator.startRound(scraperService.searchPages());
+            Optional<CrawlRound> round = scrapeCoordinator.awaitRound(roundId,
+                    TimeUnit.SECONDS.toMillis(SCRAPING_WAIT_TIMEOUT_SECONDS));
+            if (round.isEmpty()) {
+                return "Scraping failed: crawl round " + roundId + " not found";
+            }
+            CrawlRound result = round.get();
+            if (!result.isFinished()) {
+                return String.format("Scraping still running. Saved %d new jobs so far, skipped %d duplicates.",
+                        result.getSaved(), result.getDuplicates());
+            }
+            if (result.getJobsParsed() == 0) {
+                return "Scraping completed but no jobs found.";
             }
 
-            int savedCount = newJobs.size();
-            int duplicateCount = scrapedJobs.size() - savedCount;
-
-            log.info("Saved {} new jobs, skipped {} duplicates", savedCount, duplicateCount);
+            log.info("Crawl round {} saved {} new jobs, skipped {} duplicates", roundId, result.getSaved(),
+                    result.getDuplicates());
 
             return String.format("Scraping completed! Saved %d new jobs, skipped %d duplicates.",
-                    savedCount, duplicateCount);
+                    result.getSaved(), result.getDuplicates());
 
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "Scraping interrupted";
         } catch (Exception e) {
             log.error("Error during scraping", e);
             return "Scraping failed: " + e.getMessage();
         }
     }
 
+    // Attach to the crawl already in progress, if any, so simultaneous triggers never crawl a board twice.
+    // A run outlives the wait in scrapeJobs(), so triggers after a timeout still join it.
+    private IngestionRun joinOrStartRun() {
+        synchronized (scrapeLock) {
+            if (currentRun != null && !currentRun.getCompletion().isDone()) {
+                log.info("Scrape already running, waiting for it instead of starting another");
+                return currentRun;
+            }
+            currentRun = ingestionPipeline.start(scraperService.searchPages());
+            return currentRun;
+        }
+    }
+
     // Trigger mock job scraping for testing
     @Transactional
     public String scrapeMockJobs() {
@@ -240,7 +617,11 @@ public class JobService {
 
         future.thenAccept(jobs -> {
             log.info("Received {} mock jobs, saving to database", jobs.size());
+            if (skillExtractor.isEnabled()) {
+                jobs.forEach(skillExtractor::tag);
+            }
             jobRepository.saveAll(jobs);
+            eventPublisher.publishEvent(new JobsIngestedEvent(jobs));
             log.info("Mock jobs saved successfully");
         }).exceptionally(ex -> {
             log.error("Error saving mock jobs", ex);
@@ -250,24 +631,14 @@ public class JobService {
         return "Mock job scraping initiated";
     }
 
-    // Helper method to create default user
-    private User createDefaultUser() {
-        log.info("Creating or finding default user");
-
-        // First check if ANY user exists
-        Optional<User> existingUser = userRepository.findByUsername(DEFAULT_USER);
-        if (existingUser.isPresent()) {
-            log.info("Default user already exists");
-            return existingUser.get();
+    // Import an NDJSON feed upload chunk by chunk; each chunk commits in its own transaction
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FeedImportResult importJobs(InputStream feed, String source) throws InterruptedException {
+        String jobBoard = source == null ? "" : source.trim();
+        if (jobBoard.isEmpty() || jobBoard.length() > MAX_COLUMN_LENGTH) {
+            throw new BadRequestException("source must be between 1 and " + MAX_COLUMN_LENGTH + " characters");
         }
-
-        // Only create if doesn't exist
-        User user = new User();
-        user.setUsername(DEFAULT_USER);
-        user.setPassword(DEFAULT_USER_PASSWORD);
-        User savedUser = userRepository.save(user);
-        log.info("Created default user with ID: {}", savedUser.getId());
-        return savedUser;
+        return feedImporter.importFeed(feed, jobBoard);
     }
 
-}
\ No newline at end of file
+}
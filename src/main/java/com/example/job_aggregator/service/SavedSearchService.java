@@ -0,0 +1,181 @@
+package com.example.job_aggregator.service;
+
+import com.example.job_aggregator.event.JobsIngestedEvent;
+import com.example.job_aggregator.exception.BadRequestException;
+import com.example.job_aggregator.exception.ResourceNotFoundException;
+import com.example.job_aggregator.mapper.JobNotificationMapper;
+import com.example.job_aggregator.mapper.SavedSearchMapper;
+import com.example.job_aggregator.model.JobNotification;
+import com.example.job_aggregator.model.SavedSearch;
+import com.example.job_aggregator.model.User;
+import com.example.job_aggregator.repository.JobNotificationRepository;
+import com.example.job_aggregator.repository.JobRepository;
+import com.example.job_aggregator.repository.SavedSearchRepository;
+import com.example.job_aggregator.repository.UserRepository;
+import com.example.job_aggregator.resource.JobNotificationResource;
+import com.example.job_aggregator.resource.SavedSearchResource;
+import com.example.job_aggregator.search.SavedSearchIndex;
+import com.example.job_aggregator.search.SearchCriteria;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class SavedSearchService {
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final JobNotificationRepository notificationRepository;
+    private final JobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final SavedSearchMapper savedSearchMapper;
+    private final JobNotificationMapper notificationMapper;
+    private final SavedSearchIndex savedSearchIndex;
+
+    // Load persisted saved searches into the reverse index
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildIndex() {
+        savedSearchIndex.clear();
+        for (SavedSearch savedSearch : savedSearchRepository.findAll()) {
+            savedSearchIndex.add(savedSearch.getId(), savedSearch.getUser().getId(), toCriteria(savedSearch));
+        }
+        log.info("Loaded {} saved searches into the alert index", savedSearchIndex.size());
+    }
+
+    // Pick up saved searches created or deleted through other instances sharing the database
+    @Transactional(readOnly = true)
+    public void syncIndex() {
+        Set<Long> persisted = new HashSet<>(savedSearchRepository.findAllIds());
+        Set<Long> indexed = savedSearchIndex.ids();
+        int removed = 0;
+        for (Long id : indexed) {
+            if (!persisted.contains(id)) {
+                savedSearchIndex.remove(id);
+                removed++;
+            }
+        }
+        persisted.removeAll(indexed);
+        for (SavedSearch savedSearch : savedSearchRepository.findAllById(persisted)) {
+            savedSearchIndex.add(savedSearch.getId(), savedSearch.getUser().getId(), toCriteria(savedSearch));
+        }
+        if (removed > 0 || !persisted.isEmpty()) {
+            log.info("Synced alert index with the database: {} saved searches added, {} removed",
+                    persisted.size(), removed);
+        }
+    }
+
+    // Create a saved search for the default user
+    public SavedSearchResource createSavedSearch(String keyword, String location, String company) {
+        SearchCriteria criteria = SearchCriteria.of(keyword, location, company);
+        if (criteria.isEmpty()) {
+            throw new BadRequestException("At least one of keyword, location or company is required");
+        }
+        log.info("Creating saved search: {}", criteria);
+
+        User user = userService.getDefaultUser();
+
+        SavedSearch savedSearch = new SavedSearch();
+        savedSearch.setUser(user);
+        savedSearch.setKeyword(criteria.getKeyword());
+        savedSearch.setLocation(criteria.getLocation());
+        savedSearch.setCompany(criteria.getCompany());
+        savedSearch.setCreatedAt(LocalDateTime.now());
+        savedSearch = savedSearchRepository.save(savedSearch);
+
+        Long savedSearchId = savedSearch.getId();
+        afterCommit(() -> savedSearchIndex.add(savedSearchId, user.getId(), criteria));
+        return savedSearchMapper.toResource(savedSearch);
+    }
+
+    // Get the default user's saved searches
+    @Transactional(readOnly = true)
+    public List<SavedSearchResource> getSavedSearches() {
+        User user = userService.getDefaultUser();
+        return savedSearchMapper.toResourceList(savedSearchRepository.findByUserId(user.getId()));
+    }
+
+    // Delete a saved search together with its notifications
+    public void deleteSavedSearch(Long savedSearchId) {
+        log.info("Deleting saved search with ID: {}", savedSearchId);
+
+        SavedSearch savedSearch = savedSearchRepository.findById(savedSearchId)
+                .orElseThrow(() -> new ResourceNotFoundException("Saved search not found with ID: " + savedSearchId));
+
+        notificationRepository.deleteBySavedSearchId(savedSearchId);
+        savedSearchRepository.deleteById(savedSearch.getId());
+        afterCommit(() -> savedSearchIndex.remove(savedSearchId));
+    }
+
+    // Get the default user's notifications, newest first
+    @Transactional(readOnly = true)
+    public List<JobNotificationResource> getNotifications(boolean unreadOnly) {
+        User user = userService.getDefaultUser();
+        return notificationMapper.toResourceList(notificationRepository.findByUserId(user.getId(), unreadOnly));
+    }
+
+    // Mark all of the default user's notifications as read
+    public int markNotificationsAsRead() {
+        User user = userService.getDefaultUser();
+        int updated = notificationRepository.markAllAsRead(user.getId());
+        log.info("Marked {} notifications as read", updated);
+        return updated;
+    }
+
+    // Match newly committed jobs against every saved search and record notifications
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onJobsIngested(JobsIngestedEvent event) {
+        List<SavedSearchIndex.Match> matches = savedSearchIndex.match(event.getJobs());
+        if (matches.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<JobNotification> notifications = new ArrayList<>(matches.size());
+        for (SavedSearchIndex.Match match : matches) {
+            JobNotification notification = new JobNotification();
+            notification.setUser(userRepository.getReferenceById(match.userId()));
+            notification.setSavedSearch(savedSearchRepository.getReferenceById(match.savedSearchId()));
+            notification.setJob(jobRepository.getReferenceById(match.job().getId()));
+            notification.setCreatedAt(now);
+            notifications.add(notification);
+        }
+        notificationRepository.saveAll(notifications);
+        log.info("Recorded {} saved-search notifications for {} new jobs", notifications.size(), event.getJobs().size());
+    }
+
+    // Change the alert index only once the change is committed, so a rolled-back one leaves no trace in it
+    private static void afterCommit(Runnable indexUpdate) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            indexUpdate.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                indexUpdate.run();
+            }
+        });
+    }
+
+    private static SearchCriteria toCriteria(SavedSearch savedSearch) {
+        return SearchCriteria.of(savedSearch.getKeyword(), savedSearch.getLocation(), savedSearch.getCompany());
+    }
+}
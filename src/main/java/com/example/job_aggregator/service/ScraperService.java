@@ -1,6 +1,14 @@
 package com.example.job_aggregator.service;
 
+import com.example.job_aggregator.config.ScraperProperties;
+import com.example.job_aggregator.ingestion.FetchedPage;
+import com.example.job_aggregator.ingestion.JobDetails;
+import com.example.job_aggregator.ingestion.PageRequest;
 import com.example.job_aggregator.model.Job;
+import com.example.job_aggregator.profiling.CardParseEvent;
+import com.example.job_aggregator.resilience.BoardFetcher;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
@@ -10,9 +18,15 @@ import org.jsoup.select.Elements;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.regex.Matcher;
@@ -25,98 +39,208 @@ import static com.example.job_aggregator.constants.ScrapingConstants.*;
 @RequiredArgsConstructor
 public class ScraperService {
 
-    // Main method that orchestrates all scrapers
-    @Async
-    public CompletableFuture<List<Job>> scrapeAllJobBoards() {
-        log.info("Starting parallel job scraping from all boards");
-
-        // Run all scrapers in parallel
-        CompletableFuture<List<Job>> diceFuture = scrapeDice();
-
-        // Wait for all to complete and combine results
-        return CompletableFuture.allOf(diceFuture)
-                .thenApply(v -> {
-                    List<Job> allJobs = new ArrayList<>();
-                    try {
-                        allJobs.addAll(diceFuture.get());
-                        log.info("Total jobs scraped: {}", allJobs.size());
-                    } catch (Exception e) {
-                        log.error("Error combining scraping results", e);
-                    }
-                    return allJobs;
-                });
+    private static final Pattern JOB_ID_PATTERN = Pattern.compile(DICE_JOB_ID_PATTERN);
+    private static final Pattern UUID_PATTERN = Pattern.compile(DICE_UUID_PATTERN);
+
+    private final BoardFetcher boardFetcher;
+    private final ScraperProperties scraperProperties;
+    private final ObjectMapper objectMapper;
+
+    // Search-result pages of every board, in crawl order
+    public List<PageRequest> searchPages() {
+        List<PageRequest> pages = new ArrayList<>();
+        ScraperProperties.Dice dice = scraperProperties.getDice();
+        String searchUrl = dice.getBaseUrl() + dice.getSearchPath();
+        for (int page = 1; page <= dice.getPages(); page++) {
+            pages.add(new PageRequest(BOARD_DICE, page == 1 ? searchUrl : searchUrl + "&page=" + page));
+        }
+        return pages;
     }
 
-    // Scrape Dice.com
-    @Async
-    public CompletableFuture<List<Job>> scrapeDice() {
-        log.info("Scraping Dice.com...");
+    // Download one search-result page through the board's circuit breaker
+    public FetchedPage fetch(PageRequest page) throws IOException {
+        Document doc = boardFetcher.fetch(page.board(), page.url());
+        log.info("Connected to {}. Page title: {}", page.board(), doc.title());
+        return new FetchedPage(page.board(), page.url(), doc);
+    }
+
+    // Turn a search-result page into raw jobs; cleanup happens in the normalize stage
+    public List<Job> parse(FetchedPage page) {
+        CardParseEvent event = new CardParseEvent();
+        event.begin();
+        List<Job> jobs;
+        if (BOARD_DICE.equals(page.board())) {
+            jobs = parseDice(page.document(), event);
+        } else {
+            log.warn("No parser for job board {}", page.board());
+            jobs = List.of();
+        }
+        if (event.shouldCommit()) {
+            event.setBoard(page.board());
+            event.setUrl(page.url());
+            event.setJobs(jobs.size());
+            event.commit();
+        }
+        return jobs;
+    }
+
+    // Download a job's detail page and pull out what the search card lacks
+    public JobDetails fetchDetails(Job job) throws IOException {
+        Document doc = boardFetcher.fetch(job.getJobBoard() + DETAIL_PAGE_SUFFIX, job.getSourceUrl());
+        JobDetails details = parseJsonLd(doc);
+        if (details == null && BOARD_DICE.equals(job.getJobBoard())) {
+            details = parseDiceDetail(doc);
+        }
+        return details;
+    }
+
+    // Parse Dice.com search results
+    private List<Job> parseDice(Document doc, CardParseEvent event) {
         List<Job> jobs = new ArrayList<>();
 
-        try {
+        // Get all job title links
+        Elements jobTitleLinks = doc.select(DICE_JOB_LINK_SELECTOR);
+
+        log.info("Found {} job cards", jobTitleLinks.size());
+        event.setCards(jobTitleLinks.size());
+
+        for (Element titleLink : jobTitleLinks) {
+            try {
+                // Get title and URL from the link, resolved against the page URL
+                String title = titleLink.text();
+                String jobUrl = titleLink.absUrl("href");
+                if (jobUrl.isEmpty()) {
+                    jobUrl = scraperProperties.getDice().getBaseUrl() + titleLink.attr("href");
+                }
+                String jobId = extractJobIdFromUrl(jobUrl);
+                if (jobId == null) {
+                    log.warn("Skipping job card without a job ID: {}", jobUrl);
+                    continue;
+                }
 
-            Document doc = Jsoup.connect(DICE_SEARCH_URL)
-                    .userAgent(USER_AGENT)
-                    .header("Accept", HEADER_ACCEPT)
-                    .header("Accept-Language", HEADER_ACCEPT_LANGUAGE)
-                    .timeout(SCRAPER_TIMEOUT_MS)
-                    .get();
-
-            log.info("Connected to Dice. Page title: {}", doc.title());
-
-            // Get all job title links
-            Elements jobTitleLinks = doc.select(DICE_JOB_LINK_SELECTOR);
-
-            log.info("Found {} job cards", jobTitleLinks.size());
-
-            for (Element titleLink : jobTitleLinks) {
-                try {
-                    Job job = new Job();
-                    // Get title and URL from the link
-                    String title = titleLink.text();
-                    String jobUrl = titleLink.attr("href");
-                    String jobId = extractJobIdFromUrl(jobUrl);
-                    job.setId(ID_PREFIX_DICE + jobId);
-
-                    // Navigate to the parent card container to get other details
-                    Element cardContainer = titleLink.closest("article");
-                    if (cardContainer == null) {
-                        cardContainer = titleLink.parent().parent().parent().parent(); // Go up until we find the card
-                    }
-
-                    // Extract company, location, and description using the class names you found
-                    // Use attribute selector to match the exact class
-                    String company = cardContainer.select(DICE_COMPANY_SELECTOR).text();
-                    // Get only the first element with this class
-                    String location = cardContainer.select(DICE_LOCATION_SELECTOR).first().text();
-                    String description = cardContainer.select(DICE_DESCRIPTION_SELECTOR).text();
-
-                    // Clean up the data
-                    job.setTitle(title.isEmpty() ? "Developer Position" : title.trim());
-                    job.setCompany(company.isEmpty() ? "Company Not Listed" : company.trim());
-                    job.setLocation(location.isEmpty() ? "Location Not Specified" : location.trim());
-                    job.setDescription(description.isEmpty() ? "See job posting for details" : description.trim());
-                    job.setJobBoard(BOARD_DICE);
-                    job.setScrapedAt(LocalDateTime.now());
-                    job.setSourceUrl(jobUrl.startsWith("http") ? jobUrl : DICE_BASE_URL + jobUrl);
-
-                    jobs.add(job);
-
-                    log.debug("Added job: {} at {} in {}", title, company, location);
-
-                } catch (Exception e) {
-                    log.warn("Error parsing individual job card: {}", e.getMessage());
+                // Navigate to the parent card container to get other details
+                Element cardContainer = titleLink.closest("article");
+                if (cardContainer == null) {
+                    cardContainer = titleLink.parent().parent().parent().parent(); // Go up until we find the card
                 }
+
+                // Extract company, location, and description using the class names you found
+                // Use attribute selector to match the exact class
+                String company = cardContainer.select(DICE_COMPANY_SELECTOR).text();
+                // Get only the first element with this class
+                Element location = cardContainer.selectFirst(DICE_LOCATION_SELECTOR);
+                String description = cardContainer.select(DICE_DESCRIPTION_SELECTOR).text();
+
+                Job job = new Job();
+                job.setId(ID_PREFIX_DICE + jobId);
+                job.setTitle(title);
+                job.setCompany(company);
+                job.setLocation(location == null ? null : location.text());
+                job.setDescription(description);
+                job.setJobBoard(BOARD_DICE);
+                job.setScrapedAt(LocalDateTime.now());
+                job.setSourceUrl(jobUrl);
+
+                jobs.add(job);
+
+                log.debug("Added job: {} at {} in {}", title, company, job.getLocation());
+
+            } catch (Exception e) {
+                log.warn("Error parsing individual job card: {}", e.getMessage());
             }
+        }
 
-            log.info("Successfully scraped {} jobs from Dice", jobs.size());
+        return jobs;
+    }
 
-        } catch (Exception e) {
-            log.error("Error scraping Dice: {}", e.getMessage());
-            e.printStackTrace();
+    // Read the schema.org JobPosting block most boards embed for search engines
+    private JobDetails parseJsonLd(Document doc) {
+        for (Element script : doc.select(JSON_LD_SELECTOR)) {
+            try {
+                JsonNode posting = findJobPosting(objectMapper.readTree(script.data()));
+                if (posting != null) {
+                    String html = posting.path("description").asText(null);
+                    return new JobDetails(
+                            html == null ? null : Jsoup.parse(html).text(),
+                            formatSalary(posting.path("baseSalary")),
+                            parseDate(posting.path("datePosted").asText(null)));
+                }
+            } catch (IOException e) {
+                log.debug("Ignoring malformed JSON-LD block: {}", e.getMessage());
+            }
         }
+        return null;
+    }
 
-        return CompletableFuture.completedFuture(jobs);
+    private static JsonNode findJobPosting(JsonNode node) {
+        if (node.isArray()) {
+            for (JsonNode element : node) {
+                JsonNode posting = findJobPosting(element);
+                if (posting != null) {
+                    return posting;
+                }
+            }
+            return null;
+        }
+        if ("JobPosting".equals(node.path("@type").asText())) {
+            return node;
+        }
+        return node.has("@graph") ? findJobPosting(node.get("@graph")) : null;
+    }
+
+    // e.g. "$120,000 - $150,000" or "EUR 60 - 70 per hour"
+    private static String formatSalary(JsonNode baseSalary) {
+        JsonNode value = baseSalary.path("value");
+        JsonNode min = value.has("minValue") ? value.get("minValue") : value.get("value");
+        if (min == null || !min.isNumber()) {
+            return null;
+        }
+        JsonNode max = value.get("maxValue");
+        String currency = baseSalary.path("currency").asText("USD");
+        String prefix = "USD".equals(currency) ? "$" : currency + " ";
+        String salary = prefix + String.format(Locale.US, "%,d", min.asLong());
+        if (max != null && max.isNumber() && max.asLong() != min.asLong()) {
+            salary += " - " + prefix + String.format(Locale.US, "%,d", max.asLong());
+        }
+        String unit = value.path("unitText").asText("YEAR");
+        return "YEAR".equalsIgnoreCase(unit) ? salary : salary + " per " + unit.toLowerCase(Locale.ROOT);
+    }
+
+    // Dice detail pages without JSON-LD
+    private static JobDetails parseDiceDetail(Document doc) {
+        Element description = doc.selectFirst(DICE_DETAIL_DESCRIPTION_SELECTOR);
+        Element salary = doc.selectFirst(DICE_DETAIL_SALARY_SELECTOR);
+        Element posted = doc.selectFirst(DICE_DETAIL_POSTED_SELECTOR);
+        if (description == null && salary == null && posted == null) {
+            return null;
+        }
+        return new JobDetails(
+                description == null ? null : description.text(),
+                salary == null ? null : salary.text(),
+                posted == null ? null : parseDate(posted.attr("datetime")));
+    }
+
+    // ISO date or date-time, with or without offset
+    private static LocalDateTime parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value).atZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
+        } catch (DateTimeParseException e) {
+            // fall through
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            // fall through
+        }
+        try {
+            return LocalDate.parse(value).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            log.debug("Unrecognized posting date: {}", value);
+            return null;
+        }
     }
 
     // Mock scraper for testing (when real sites block you)
@@ -151,16 +275,14 @@ public class ScraperService {
     private String extractJobIdFromUrl(String url) {
         // Pattern to match UUID after /job-detail/
         // Example: /job-detail/79b3eb0a-19e5-4cb6-ae05-6dfe4b6d000f
-        Pattern pattern = Pattern.compile(DICE_JOB_ID_PATTERN);
-        Matcher matcher = pattern.matcher(url);
+        Matcher matcher = JOB_ID_PATTERN.matcher(url);
 
         if (matcher.find()) {
             return matcher.group(1);  // Returns: 79b3eb0a-19e5-4cb6-ae05-6dfe4b6d000f
         }
 
         // Fallback: try to find any UUID pattern in the URL
-        Pattern uuidPattern = Pattern.compile(DICE_UUID_PATTERN);
-        Matcher uuidMatcher = uuidPattern.matcher(url);
+        Matcher uuidMatcher = UUID_PATTERN.matcher(url);
 
         if (uuidMatcher.find()) {
             return uuidMatcher.group(1);
@@ -0,0 +1,35 @@
+package com.example.job_aggregator.service;
+
+import com.example.job_aggregator.model.User;
+import com.example.job_aggregator.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.example.job_aggregator.constants.ScrapingConstants.*;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class UserService {
+
+    private final UserRepository userRepository;
+
+    // Find the default user, creating it on first use
+    public User getDefaultUser() {
+        return userRepository.findByUsername(DEFAULT_USER)
+                .orElseGet(this::createDefaultUser);
+    }
+
+    private User createDefaultUser() {
+        log.info("Creating default user");
+        User user = new User();
+        user.setUsername(DEFAULT_USER);
+        user.setPassword(DEFAULT_USER_PASSWORD);
+        User savedUser = userRepository.save(user);
+        log.info("Created default user with ID: {}", savedUser.getId());
+        return savedUser;
+    }
+}
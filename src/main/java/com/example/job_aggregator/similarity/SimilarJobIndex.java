@@ -0,0 +1,136 @@
+package com.example.job_aggregator.similarity;
+
+import com.example.job_aggregator.event.JobsIngestedEvent;
+import com.example.job_aggregator.model.Job;
+import com.example.job_aggregator.readmodel.JobReadModel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.example.job_aggregator.constants.ScrapingConstants.*;
+
+/**
+ * TF-IDF vectors of every job and the inverted index used to find similar ones ({@link TfIdfIndex}).
+ *
+ * Built from the read model once it is warm, then extended incrementally as ingestion commits new jobs.
+ * Posting weights are recomputed whenever the corpus has grown by {@code SIMILAR_JOBS_REWEIGHT_GROWTH}
+ * since the last time, so the IDFs never drift far. Queries share a read lock; adding a batch or
+ * reweighting takes the write lock. Full rebuilds run outside the lock and replay the jobs ingested in
+ * the meantime before swapping the new index in.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SimilarJobIndex {
+
+    private final JobReadModel jobReadModel;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private TfIdfIndex index = newIndex();
+    // Jobs ingested while a rebuild is running; null otherwise
+    private List<Job> ingestedDuringRebuild;
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<TfIdfIndex.Match> findSimilar(String jobId, int limit) {
+        lock.readLock().lock();
+        try {
+            return index.similar(jobId, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Runs after the read model has warmed up, which listens to the same event at a higher precedence
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+        ready = true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsIngested(JobsIngestedEvent event) {
+        lock.writeLock().lock();
+        try {
+            addAll(index, event.getJobs());
+            if (ingestedDuringRebuild != null) {
+                ingestedDuringRebuild.addAll(event.getJobs());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // The read model repairs itself by rebuilding; follow it when the job counts no longer agree
+    @Scheduled(fixedDelay = READ_MODEL_CHECK_INTERVAL_MS, initialDelay = READ_MODEL_CHECK_INTERVAL_MS)
+    public void verifyConsistency() {
+        if (ready && jobReadModel.isReady() && size() != jobReadModel.size()) {
+            log.warn("Similarity index out of sync (index: {}, read model: {}), rebuilding", size(), jobReadModel.size());
+            rebuild();
+        }
+    }
+
+    // Start recording ingested jobs before reading the read model: the read model hears about a batch
+    // before this index does, so every job is either in what we read or in the recorded list
+    private synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            ingestedDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        TfIdfIndex fresh = newIndex();
+        try {
+            jobReadModel.forEachJobText(fresh::add);
+            fresh.reweight();
+        } finally {
+            lock.writeLock().lock();
+            try {
+                addAll(fresh, ingestedDuringRebuild);
+                index = fresh;
+                ingestedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Similarity index built for {} jobs in {} ms", size(), System.currentTimeMillis() - start);
+    }
+
+    private static void addAll(TfIdfIndex target, List<Job> jobs) {
+        for (Job job : jobs) {
+            target.add(job.getId(), job.getTitle(), job.getDescription());
+        }
+        if (target.needsReweight(SIMILAR_JOBS_REWEIGHT_GROWTH)) {
+            long start = System.currentTimeMillis();
+            target.reweight();
+            log.info("Reweighted similarity index of {} jobs in {} ms", target.size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    private static TfIdfIndex newIndex() {
+        return new TfIdfIndex(SIMILAR_JOBS_TERMS_PER_JOB, SIMILAR_JOBS_QUERY_TERMS, SIMILAR_JOBS_MAX_DOCUMENT_FRACTION);
+    }
+}
@@ -0,0 +1,412 @@
+package com.example.job_aggregator.similarity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sparse TF-IDF vectors of job titles and descriptions, with an inverted index for top-k cosine retrieval.
+ *
+ * Each job keeps at most {@code maxTermsPerJob} terms (its highest TF-IDF weights when it was added), stored
+ * as a run of term ids and sublinear term frequencies in flat {@code int[]}/{@code float[]} arrays. Title
+ * terms count {@link #TITLE_WEIGHT} times. Every term has a posting list of (job, normalized weight) pairs,
+ * again as primitive arrays. A query walks only the postings of the job's own strongest terms, skipping
+ * terms so common that they say little about similarity, and accumulates dot products for the jobs it
+ * meets; no other job is touched.
+ *
+ * Posting weights use the document frequencies of the moment a job was added. {@link #reweight()}
+ * recomputes all of them from the stored frequencies; callers do that whenever the corpus has grown
+ * enough for the IDFs to drift ({@link #needsReweight}).
+ *
+ * Not thread-safe: one writer at a time, and no reads while writing.
+ */
+public final class TfIdfIndex {
+
+    static final int TITLE_WEIGHT = 3;
+    // Small corpora walk every posting list; the document-fraction cut-off only applies above this
+    private static final int MIN_POSTINGS_WALKED = 1000;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "about", "all", "also", "an", "and", "any", "are", "as", "at", "be", "been", "but", "by", "can",
+            "do", "for", "from", "has", "have", "if", "in", "into", "is", "it", "its", "more", "must", "no", "not",
+            "of", "on", "or", "other", "our", "out", "over", "so", "such", "than", "that", "the", "their", "them",
+            "then", "there", "these", "they", "this", "to", "up", "us", "was", "we", "well", "were", "what", "when",
+            "which", "who", "will", "with", "within", "work", "you", "your");
+
+    private final int maxTermsPerJob;
+    private final int maxQueryTerms;
+    private final double maxDocumentFraction;
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private int termCount;
+    private int[] documentFrequencies = new int[1024];
+
+    private final Map<String, Integer> jobRows = new HashMap<>();
+    private String[] ids = new String[16];
+    private int size;
+    // Terms of job r are jobTerms[offsets[r]] .. jobTerms[offsets[r + 1] - 1], sorted by term id
+    private int[] offsets = new int[17];
+    private int[] jobTerms = new int[256];
+    private float[] termFrequencies = new float[256];
+
+    // Per-job term counting without boxing: counts by term id, and the ids touched
+    private int[] scratchCounts = new int[1024];
+    private int[] scratchTerms = new int[256];
+    private int scratchSize;
+
+    private int[][] postingJobs = new int[1024][];
+    private float[][] postingWeights = new float[1024][];
+    private int[] postingSizes = new int[1024];
+    private int weightedSize;
+
+    public TfIdfIndex(int maxTermsPerJob, int maxQueryTerms, double maxDocumentFraction) {
+        this.maxTermsPerJob = maxTermsPerJob;
+        this.maxQueryTerms = maxQueryTerms;
+        this.maxDocumentFraction = maxDocumentFraction;
+    }
+
+    /** A job and its cosine similarity to the query job. */
+    public record Match(String id, float score) {
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(String id) {
+        return jobRows.containsKey(id);
+    }
+
+    // Vectorize and index one job; returns false if it is already indexed
+    public boolean add(String id, String title, String description) {
+        if (jobRows.containsKey(id)) {
+            return false;
+        }
+        scratchSize = 0;
+        countTerms(title, TITLE_WEIGHT);
+        countTerms(description, 1);
+
+        int row = size++;
+        ensureJobCapacity(size);
+        ids[row] = id;
+        jobRows.put(id, row);
+
+        int distinct = scratchSize;
+        int[] terms = Arrays.copyOf(scratchTerms, distinct);
+        float[] frequencies = new float[distinct];
+        for (int i = 0; i < distinct; i++) {
+            int term = terms[i];
+            frequencies[i] = (float) (1 + Math.log(scratchCounts[term]));
+            scratchCounts[term] = 0;
+            documentFrequencies[term]++;
+        }
+        int kept = keepStrongest(terms, frequencies, distinct);
+        sortByTerm(terms, frequencies, kept);
+
+        int start = offsets[row];
+        ensureTermCapacity(start + kept);
+        System.arraycopy(terms, 0, jobTerms, start, kept);
+        System.arraycopy(frequencies, 0, termFrequencies, start, kept);
+        offsets[row + 1] = start + kept;
+        addPostings(row);
+        return true;
+    }
+
+    // The jobs most similar to the given one, best first; empty if it is not indexed
+    public List<Match> similar(String id, int limit) {
+        Integer query = jobRows.get(id);
+        if (query == null || limit < 1) {
+            return List.of();
+        }
+        int from = offsets[query];
+        int length = offsets[query + 1] - from;
+        float[] weights = new float[length];
+        double norm = 0;
+        for (int i = 0; i < length; i++) {
+            weights[i] = termFrequencies[from + i] * idf(jobTerms[from + i]);
+            norm += weights[i] * weights[i];
+        }
+        if (norm == 0) {
+            return List.of();
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+
+        // Strongest terms first; terms in a large share of all jobs are not worth walking
+        int[] order = byWeightDescending(weights, length);
+        int maxPostings = (int) Math.max(MIN_POSTINGS_WALKED, size * maxDocumentFraction);
+        int[] walked = new int[Math.min(length, maxQueryTerms)];
+        int walkedCount = 0;
+        for (int i = 0; i < length && walkedCount < walked.length; i++) {
+            if (postingSizes[jobTerms[from + order[i]]] <= maxPostings) {
+                walked[walkedCount++] = order[i];
+            }
+        }
+        // A job made only of common terms still gets an answer from its strongest one
+        if (walkedCount == 0) {
+            walked[walkedCount++] = order[0];
+        }
+
+        float[] scores = new float[size];
+        int[] touched = new int[64];
+        int touchedCount = 0;
+        for (int i = 0; i < walkedCount; i++) {
+            int term = jobTerms[from + walked[i]];
+            int postings = postingSizes[term];
+            float weight = weights[walked[i]] * scale;
+            int[] jobs = postingJobs[term];
+            float[] jobWeights = postingWeights[term];
+            for (int p = 0; p < postings; p++) {
+                int job = jobs[p];
+                if (scores[job] == 0) {
+                    if (touchedCount == touched.length) {
+                        touched = Arrays.copyOf(touched, touchedCount * 2);
+                    }
+                    touched[touchedCount++] = job;
+                }
+                scores[job] += weight * jobWeights[p];
+            }
+        }
+        return topMatches(scores, touched, touchedCount, query, limit);
+    }
+
+    // True once the corpus has grown by the given factor since weights were last computed
+    public boolean needsReweight(double growth) {
+        return size > weightedSize * growth;
+    }
+
+    // Recompute every posting weight with the current document frequencies
+    public void reweight() {
+        Arrays.fill(postingSizes, 0, termCount, 0);
+        for (int row = 0; row < size; row++) {
+            addPostings(row);
+        }
+        weightedSize = size;
+    }
+
+    private void addPostings(int row) {
+        int from = offsets[row];
+        int to = offsets[row + 1];
+        double norm = 0;
+        for (int i = from; i < to; i++) {
+            float weight = termFrequencies[i] * idf(jobTerms[i]);
+            norm += weight * weight;
+        }
+        if (norm == 0) {
+            return;
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = from; i < to; i++) {
+            int term = jobTerms[i];
+            int next = postingSizes[term];
+            if (postingJobs[term] == null) {
+                postingJobs[term] = new int[4];
+                postingWeights[term] = new float[4];
+            } else if (next == postingJobs[term].length) {
+                postingJobs[term] = Arrays.copyOf(postingJobs[term], next * 2);
+                postingWeights[term] = Arrays.copyOf(postingWeights[term], next * 2);
+            }
+            postingJobs[term][next] = row;
+            postingWeights[term][next] = termFrequencies[i] * idf(term) * scale;
+            postingSizes[term] = next + 1;
+        }
+    }
+
+    // Smoothed, so a term in every job still weighs a little
+    private float idf(int term) {
+        return (float) (Math.log((1.0 + size) / (1.0 + documentFrequencies[term])) + 1);
+    }
+
+    // Move the maxTermsPerJob highest-weighted terms to the front; returns how many were kept
+    private int keepStrongest(int[] terms, float[] frequencies, int count) {
+        if (count <= maxTermsPerJob) {
+            return count;
+        }
+        float[] weights = new float[count];
+        for (int i = 0; i < count; i++) {
+            weights[i] = frequencies[i] * idf(terms[i]);
+        }
+        int[] order = byWeightDescending(weights, count);
+        int[] keptTerms = new int[maxTermsPerJob];
+        float[] keptFrequencies = new float[maxTermsPerJob];
+        for (int i = 0; i < maxTermsPerJob; i++) {
+            keptTerms[i] = terms[order[i]];
+            keptFrequencies[i] = frequencies[order[i]];
+        }
+        System.arraycopy(keptTerms, 0, terms, 0, maxTermsPerJob);
+        System.arraycopy(keptFrequencies, 0, frequencies, 0, maxTermsPerJob);
+        return maxTermsPerJob;
+    }
+
+    // Indexes of the (positive) weights, largest first. Positive floats order like their bit patterns,
+    // so (bits, index) pairs packed into longs sort without boxing.
+    private static int[] byWeightDescending(float[] weights, int count) {
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = ((long) Float.floatToIntBits(weights[i]) << 32) | i;
+        }
+        Arrays.sort(keys);
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = (int) keys[count - 1 - i];
+        }
+        return order;
+    }
+
+    private static void sortByTerm(int[] terms, float[] frequencies, int count) {
+        for (int i = 1; i < count; i++) {
+            int term = terms[i];
+            float frequency = frequencies[i];
+            int j = i - 1;
+            while (j >= 0 && terms[j] > term) {
+                terms[j + 1] = terms[j];
+                frequencies[j + 1] = frequencies[j];
+                j--;
+            }
+            terms[j + 1] = term;
+            frequencies[j + 1] = frequency;
+        }
+    }
+
+    // Min-heap of the best `limit` scores, then sorted best first
+    private List<Match> topMatches(float[] scores, int[] touched, int touchedCount, int query, int limit) {
+        int[] heap = new int[Math.min(limit, touchedCount)];
+        int heapSize = 0;
+        for (int i = 0; i < touchedCount; i++) {
+            int job = touched[i];
+            if (job == query) {
+                continue;
+            }
+            if (heapSize < heap.length) {
+                heap[heapSize] = job;
+                siftUp(heap, heapSize++, scores);
+            } else if (heap.length > 0 && scores[job] > scores[heap[0]]) {
+                heap[0] = job;
+                siftDown(heap, heapSize, scores);
+            }
+        }
+        List<Match> matches = new ArrayList<>(heapSize);
+        for (int i = 0; i < heapSize; i++) {
+            matches.add(new Match(ids[heap[i]], Math.min(1f, scores[heap[i]])));
+        }
+        matches.sort((a, b) -> Float.compare(b.score(), a.score()));
+        return matches;
+    }
+
+    private static void siftUp(int[] heap, int index, float[] scores) {
+        int job = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (scores[heap[parent]] <= scores[job]) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = job;
+    }
+
+    private static void siftDown(int[] heap, int heapSize, float[] scores) {
+        int job = heap[0];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && scores[heap[child + 1]] < scores[heap[child]]) {
+                child++;
+            }
+            if (scores[job] <= scores[heap[child]]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = job;
+    }
+
+    // Lower-cased runs of letters, digits, '+' and '#' ("c++", "c#"), without stop words and numbers
+    private void countTerms(String text, int weight) {
+        if (text == null) {
+            return;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int length = lower.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean inToken = i < length && isTokenChar(lower.charAt(i));
+            if (inToken && start < 0) {
+                start = i;
+            } else if (!inToken && start >= 0) {
+                String token = lower.substring(start, i);
+                if (isTerm(token)) {
+                    count(termId(token), weight);
+                }
+                start = -1;
+            }
+        }
+    }
+
+    private void count(int term, int weight) {
+        if (scratchCounts[term] == 0) {
+            if (scratchSize == scratchTerms.length) {
+                scratchTerms = Arrays.copyOf(scratchTerms, scratchSize * 2);
+            }
+            scratchTerms[scratchSize++] = term;
+        }
+        scratchCounts[term] += weight;
+    }
+
+    private static boolean isTokenChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '+' || c == '#';
+    }
+
+    private static boolean isTerm(String token) {
+        if (token.length() < 2 || STOP_WORDS.contains(token)) {
+            return false;
+        }
+        for (int i = 0; i < token.length(); i++) {
+            if (!Character.isDigit(token.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int termId(String term) {
+        Integer id = termIds.get(term);
+        if (id != null) {
+            return id;
+        }
+        if (termCount == documentFrequencies.length) {
+            int capacity = termCount * 2;
+            documentFrequencies = Arrays.copyOf(documentFrequencies, capacity);
+            postingJobs = Arrays.copyOf(postingJobs, capacity);
+            postingWeights = Arrays.copyOf(postingWeights, capacity);
+            postingSizes = Arrays.copyOf(postingSizes, capacity);
+            scratchCounts = Arrays.copyOf(scratchCounts, capacity);
+        }
+        termIds.put(term, termCount);
+        return termCount++;
+    }
+
+    private void ensureJobCapacity(int required) {
+        if (required > ids.length) {
+            int capacity = Math.max(required, ids.length * 2);
+            ids = Arrays.copyOf(ids, capacity);
+            offsets = Arrays.copyOf(offsets, capacity + 1);
+        }
+    }
+
+    private void ensureTermCapacity(int required) {
+        if (required > jobTerms.length) {
+            int capacity = Math.max(required, jobTerms.length * 2);
+            jobTerms = Arrays.copyOf(jobTerms, capacity);
+            termFrequencies = Arrays.copyOf(termFrequencies, capacity);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.job_aggregator.skills;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.IntConsumer;
+
+/**
+ * Aho-Corasick automaton that finds every occurrence of a fixed set of patterns in one pass over the text.
+ *
+ * Matching is case-insensitive, treats any whitespace character as a space, and is whole-word: a match
+ * counts only if the characters on either side of it are not letters or digits, so "java" does not fire
+ * inside "javascript". A dot with a letter or digit beyond it joins words, so "js" does not fire inside
+ * "node.js" either. The trie is compiled into a dense transition table over the characters that occur
+ * in the patterns; any other character sends the automaton back to the root. Each state lists the patterns ending there, including those inherited
+ * along its failure links, so a scan is O(text length + matches).
+ */
+public final class AhoCorasick {
+
+    private static final int ROOT = 0;
+
+    // Column of each char in the transition table; 0 for chars no pattern contains
+    private final short[] columns;
+    private final int width;
+    private final int[] transitions;
+    private final int[][] outputs;
+    private final int[] patternLengths;
+
+    private AhoCorasick(short[] columns, int width, int[] transitions, int[][] outputs, int[] patternLengths) {
+        this.columns = columns;
+        this.width = width;
+        this.transitions = transitions;
+        this.outputs = outputs;
+        this.patternLengths = patternLengths;
+    }
+
+    // Pattern ids are their indexes in the list
+    public static AhoCorasick build(List<String> patterns) {
+        short[] columns = new short[Character.MAX_VALUE + 1];
+        int width = 1;
+        for (String pattern : patterns) {
+            for (char c : fold(pattern).toCharArray()) {
+                if (columns[c] == 0) {
+                    if (width == Short.MAX_VALUE) {
+                        throw new IllegalArgumentException("Too many distinct characters in patterns");
+                    }
+                    columns[c] = (short) width++;
+                }
+            }
+        }
+
+        // Trie with sparse children first; compiled into the dense table below
+        List<Map<Integer, Integer>> children = new ArrayList<>();
+        List<List<Integer>> ends = new ArrayList<>();
+        children.add(new HashMap<>());
+        ends.add(new ArrayList<>());
+        int[] patternLengths = new int[patterns.size()];
+        for (int id = 0; id < patterns.size(); id++) {
+            String pattern = fold(patterns.get(id));
+            if (pattern.isEmpty()) {
+                throw new IllegalArgumentException("Empty pattern at index " + id);
+            }
+            patternLengths[id] = pattern.length();
+            int state = ROOT;
+            for (char c : pattern.toCharArray()) {
+                Integer next = children.get(state).get((int) columns[c]);
+                if (next == null) {
+                    next = children.size();
+                    children.get(state).put((int) columns[c], next);
+                    children.add(new HashMap<>());
+                    ends.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            ends.get(state).add(id);
+        }
+
+        int states = children.size();
+        int[] transitions = new int[states * width];
+        int[] failure = new int[states];
+        int[][] outputs = new int[states][];
+        outputs[ROOT] = toArray(ends.get(ROOT));
+
+        // Breadth-first, so a state's failure target is complete before the state itself
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (Map.Entry<Integer, Integer> child : children.get(ROOT).entrySet()) {
+            transitions[child.getKey()] = child.getValue();
+            failure[child.getValue()] = ROOT;
+            queue.add(child.getValue());
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            int fail = failure[state];
+            outputs[state] = merge(toArray(ends.get(state)), outputs[fail]);
+            for (int column = 1; column < width; column++) {
+                Integer child = children.get(state).get(column);
+                if (child == null) {
+                    transitions[state * width + column] = transitions[fail * width + column];
+                } else {
+                    transitions[state * width + column] = child;
+                    failure[child] = transitions[fail * width + column];
+                    queue.add(child);
+                }
+            }
+        }
+        return new AhoCorasick(columns, width, transitions, outputs, patternLengths);
+    }
+
+    // Report the id of every whole-word match; a pattern occurring several times is reported each time
+    public void scan(CharSequence text, IntConsumer onMatch) {
+        int state = ROOT;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            state = transitions[state * width + columns[fold(text.charAt(i))]];
+            int[] matches = outputs[state];
+            for (int id : matches) {
+                int start = i - patternLengths[id] + 1;
+                if (isBoundary(text, start - 1, -1) && isBoundary(text, i + 1, 1)) {
+                    onMatch.accept(id);
+                }
+            }
+        }
+    }
+
+    public int stateCount() {
+        return outputs.length;
+    }
+
+    // Whether text[index], just outside a match, separates it from the next word in direction step
+    private static boolean isBoundary(CharSequence text, int index, int step) {
+        if (index < 0 || index >= text.length()) {
+            return true;
+        }
+        char c = text.charAt(index);
+        if (Character.isLetterOrDigit(c)) {
+            return false;
+        }
+        int beyond = index + step;
+        return c != '.' || beyond < 0 || beyond >= text.length() || !Character.isLetterOrDigit(text.charAt(beyond));
+    }
+
+    private static String fold(String value) {
+        StringBuilder folded = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            folded.append(fold(value.charAt(i)));
+        }
+        return folded.toString();
+    }
+
+    // Per-char folding keeps text and pattern offsets aligned; any whitespace matches a space
+    private static char fold(char c) {
+        return Character.isWhitespace(c) ? ' ' : Character.toLowerCase(c);
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] merge(int[] own, int[] inherited) {
+        if (inherited.length == 0) {
+            return own;
+        }
+        if (own.length == 0) {
+            return inherited;
+        }
+        int[] merged = Arrays.copyOf(own, own.length + inherited.length);
+        System.arraycopy(inherited, 0, merged, own.length, inherited.length);
+        return merged;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.job_aggregator.skills;
+
+import com.example.job_aggregator.config.ScraperProperties;
+import com.example.job_aggregator.model.Job;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Tags jobs with the skills their title and description mention.
+ *
+ * The dictionary ({@code scraper.skills.dictionary}) has one skill per line: the tag, optionally followed
+ * by ':' and comma-separated aliases, e.g. {@code spring-boot: Spring Boot, SpringBoot}. The tag itself
+ * is always an alias, with '-' read as a space. All aliases are compiled into one {@link AhoCorasick}
+ * automaton, so tagging a job is a single pass over its text however many skills the dictionary holds.
+ */
+@Component
+@Slf4j
+public class SkillExtractor {
+
+    private final boolean enabled;
+    private final AhoCorasick automaton;
+    // Tag of each automaton pattern, as an index into tags
+    private final int[] patternTags;
+    // Sorted, so extracted tags come out sorted too
+    private final String[] tags;
+
+    public SkillExtractor(ScraperProperties properties, ResourceLoader resourceLoader) {
+        ScraperProperties.Skills config = properties.getSkills();
+        this.enabled = config.isEnabled();
+        Map<String, Set<String>> dictionary = enabled ? load(resourceLoader.getResource(config.getDictionary())) : Map.of();
+
+        this.tags = dictionary.keySet().toArray(new String[0]);
+        List<String> patterns = new ArrayList<>();
+        List<Integer> owners = new ArrayList<>();
+        for (int tag = 0; tag < tags.length; tag++) {
+            for (String alias : dictionary.get(tags[tag])) {
+                patterns.add(alias);
+                owners.add(tag);
+            }
+        }
+        this.automaton = AhoCorasick.build(patterns);
+        this.patternTags = owners.stream().mapToInt(Integer::intValue).toArray();
+        if (enabled) {
+            log.info("Loaded {} skills ({} aliases, {} automaton states) from {}", tags.length, patterns.size(),
+                    automaton.stateCount(), config.getDictionary());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Every tag in the dictionary, sorted
+    public List<String> getTags() {
+        return List.of(tags);
+    }
+
+    // Sorted tags of the skills mentioned in any of the texts; null texts are skipped
+    public List<String> extract(String... texts) {
+        if (!enabled || tags.length == 0) {
+            return List.of();
+        }
+        boolean[] found = new boolean[tags.length];
+        for (String text : texts) {
+            if (text != null) {
+                automaton.scan(text, pattern -> found[patternTags[pattern]] = true);
+            }
+        }
+        List<String> extracted = new ArrayList<>();
+        for (int tag = 0; tag < tags.length; tag++) {
+            if (found[tag]) {
+                extracted.add(tags[tag]);
+            }
+        }
+        return extracted;
+    }
+
+    // Store the job's skills, replacing any it had
+    public void tag(Job job) {
+        job.setSkills(SkillTags.join(extract(job.getTitle(), job.getDescription())));
+    }
+
+    private static Map<String, Set<String>> load(Resource resource) {
+        Map<String, Set<String>> dictionary = new TreeMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                int colon = line.indexOf(':');
+                String tag = SkillTags.normalize(colon < 0 ? line : line.substring(0, colon));
+                if (tag == null) {
+                    throw new IllegalStateException("Skill without a tag at " + resource.getDescription() + " line " + lineNumber);
+                }
+                Set<String> aliases = dictionary.computeIfAbsent(tag, key -> new LinkedHashSet<>());
+                aliases.add(tag);
+                aliases.add(tag.replace('-', ' '));
+                if (colon >= 0) {
+                    for (String alias : line.substring(colon + 1).split(",")) {
+                        if (!alias.isBlank()) {
+                            aliases.add(alias.strip().replaceAll("\\s+", " "));
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read skills dictionary " + resource.getDescription(), e);
+        }
+        return dictionary;
+    }
+}
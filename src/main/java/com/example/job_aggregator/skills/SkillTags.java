@@ -0,0 +1,58 @@
+package com.example.job_aggregator.skills;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+
+/**
+ * Canonical form of skill tags and their storage encoding on {@code Job.skills}: lower-case, whitespace
+ * replaced by '-', sorted and joined with ','.
+ */
+public final class SkillTags {
+
+    private static final String SEPARATOR = ",";
+
+    private SkillTags() {
+    }
+
+    // "Spring Boot" -> "spring-boot"; null for blank input
+    public static String normalize(String tag) {
+        if (tag == null) {
+            return null;
+        }
+        String trimmed = tag.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        return trimmed.toLowerCase(Locale.ROOT).replaceAll("\\s+", "-").replace(SEPARATOR, "");
+    }
+
+    // Normalized, de-duplicated and sorted; blank entries are dropped
+    public static List<String> normalizeAll(Collection<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return List.of();
+        }
+        TreeSet<String> normalized = new TreeSet<>();
+        for (String tag : tags) {
+            String value = normalize(tag);
+            if (value != null && !value.isEmpty()) {
+                normalized.add(value);
+            }
+        }
+        return List.copyOf(normalized);
+    }
+
+    // Column value for already normalized tags, or null when there are none
+    public static String join(List<String> tags) {
+        return tags == null || tags.isEmpty() ? null : String.join(SEPARATOR, tags);
+    }
+
+    public static List<String> split(String column) {
+        if (column == null || column.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.asList(column.split(SEPARATOR));
+    }
+}
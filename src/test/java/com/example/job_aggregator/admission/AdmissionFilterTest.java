@@ -0,0 +1,197 @@
+package com.example.job_aggregator.admission;
+
+import com.example.job_aggregator.config.AdmissionProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives {@link AdmissionFilter} with mock requests and a filter chain that can be held open to simulate
+ * requests in flight.
+ */
+class AdmissionFilterTest {
+
+    private AdmissionProperties properties;
+    private SimpleMeterRegistry registry;
+    private final AtomicInteger passed = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        properties = new AdmissionProperties();
+        properties.setRead(new AdmissionProperties.Budget(1, 5, 4, 0));
+        properties.setHeavy(new AdmissionProperties.Budget(0.01, 2, 3, 0));
+        properties.setExportConcurrency(1);
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void clientOverItsReadRateGets429() throws Exception {
+        AdmissionFilter filter = filter();
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, call(filter, "GET", "/api/jobs/search", "10.0.0.1").getStatus());
+        }
+        MockHttpServletResponse rejected = call(filter, "GET", "/api/jobs/search", "10.0.0.1");
+        assertEquals(429, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+        assertTrue(rejected.getContentAsString().contains("\"status\":429"));
+
+        // Budgets are per client
+        assertEquals(200, call(filter, "GET", "/api/jobs/search", "10.0.0.2").getStatus());
+        assertEquals(1.0, registry.get("http.server.admission.rejected").tag("reason", "rate").counter().count());
+    }
+
+    @Test
+    void heavyCallsHaveTheirOwnBudget() throws Exception {
+        AdmissionFilter filter = filter();
+        assertEquals(200, call(filter, "POST", "/api/jobs/scrape", "10.0.0.1").getStatus());
+        assertEquals(200, call(filter, "GET", "/api/saved-jobs/export", "10.0.0.1").getStatus());
+
+        MockHttpServletResponse rejected = call(filter, "POST", "/api/jobs/scrape", "10.0.0.1");
+        assertEquals(429, rejected.getStatus());
+        assertEquals(100, Long.parseLong(rejected.getHeader("Retry-After")));
+
+        // Reads of the same client are unaffected
+        assertEquals(200, call(filter, "GET", "/api/jobs", "10.0.0.1").getStatus());
+    }
+
+    @Test
+    void busyEndpointSheds503WhileReadsPass() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AdmissionFilter filter = filter();
+        FilterChain blocking = (request, response) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        CompletableFuture<MockHttpServletResponse> slowExport = CompletableFuture.supplyAsync(() -> {
+            try {
+                return call(filter, "GET", "/api/saved-jobs/export", "10.0.0.1", blocking);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        MockHttpServletResponse shed = call(filter, "GET", "/api/saved-jobs/export", "10.0.0.2");
+        assertEquals(503, shed.getStatus());
+        assertNotNull(shed.getHeader("Retry-After"));
+        assertEquals(200, call(filter, "GET", "/api/jobs/search", "10.0.0.2").getStatus());
+
+        release.countDown();
+        assertEquals(200, slowExport.get(5, TimeUnit.SECONDS).getStatus());
+        assertEquals(200, call(filter, "GET", "/api/saved-jobs/export", "10.0.0.3").getStatus());
+    }
+
+    @Test
+    void shedRequestsKeepTheClientsTokens() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AdmissionFilter filter = filter();
+
+        CompletableFuture<MockHttpServletResponse> slowExport = CompletableFuture.supplyAsync(() -> {
+            try {
+                return call(filter, "GET", "/api/saved-jobs/export", "10.0.0.1", (request, response) -> {
+                    entered.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(503, call(filter, "GET", "/api/saved-jobs/export", "10.0.0.2").getStatus());
+        }
+        release.countDown();
+        assertEquals(200, slowExport.get(5, TimeUnit.SECONDS).getStatus());
+
+        // The whole burst of two heavy calls is still there
+        assertEquals(200, call(filter, "GET", "/api/saved-jobs/export", "10.0.0.2").getStatus());
+        assertEquals(200, call(filter, "GET", "/api/saved-jobs/export", "10.0.0.2").getStatus());
+        assertEquals(429, call(filter, "GET", "/api/saved-jobs/export", "10.0.0.2").getStatus());
+    }
+
+    @Test
+    void readConcurrencyCapSheds503() throws Exception {
+        properties.setRead(new AdmissionProperties.Budget(100, 100, 1, 0));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AdmissionFilter filter = filter();
+
+        CompletableFuture<MockHttpServletResponse> slowRead = CompletableFuture.supplyAsync(() -> {
+            try {
+                return call(filter, "GET", "/api/jobs", "10.0.0.1", (request, response) -> {
+                    entered.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        assertEquals(503, call(filter, "GET", "/api/jobs", "10.0.0.2").getStatus());
+        release.countDown();
+        assertEquals(200, slowRead.get(5, TimeUnit.SECONDS).getStatus());
+    }
+
+    @Test
+    void unlimitedRequestsAlwaysPass() throws Exception {
+        properties.setRead(new AdmissionProperties.Budget(0, 1, 1, 0));
+        AdmissionFilter filter = filter();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(200, call(filter, "GET", "/api/actuator/health", "10.0.0.1").getStatus());
+            assertEquals(200, call(filter, "POST", "/api/saved-jobs/batch", "10.0.0.1").getStatus());
+        }
+        assertEquals(20, passed.get());
+    }
+
+    @Test
+    void disabledFilterAdmitsEverything() throws Exception {
+        properties.setEnabled(false);
+        AdmissionFilter filter = filter();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(200, call(filter, "POST", "/api/jobs/scrape", "10.0.0.1").getStatus());
+        }
+    }
+
+    private AdmissionFilter filter() {
+        return new AdmissionFilter(properties, new ObjectMapper(), registry);
+    }
+
+    private MockHttpServletResponse call(AdmissionFilter filter, String method, String uri, String client) throws Exception {
+        return call(filter, method, uri, client, (request, response) -> passed.incrementAndGet());
+    }
+
+    private static MockHttpServletResponse call(AdmissionFilter filter, String method, String uri, String client,
+                                                FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(client);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
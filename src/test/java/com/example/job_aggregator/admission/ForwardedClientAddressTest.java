@@ -0,0 +1,67 @@
+package com.example.job_aggregator.admission;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Behind a proxy on a trusted address, each forwarded client gets its own read budget instead of all of
+ * them sharing the proxy's.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "admission.read.requests-per-second=0.01",
+        "admission.read.burst=2"
+})
+class ForwardedClientAddressTest {
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:forwarded-" + UUID.randomUUID());
+        registry.add("scraper.journal.directory", () -> tempDirectory("journal"));
+        registry.add("scraper.journal.fsync", () -> "false");
+        registry.add("scraper.snapshot.enabled", () -> "false");
+    }
+
+    @Test
+    void forwardedClientsAreLimitedSeparately() throws Exception {
+        assertEquals(200, get("203.0.113.7"));
+        assertEquals(200, get("203.0.113.7"));
+        assertEquals(429, get("203.0.113.7"));
+
+        // The test client connects from loopback, a trusted proxy address, like every forwarded request
+        assertEquals(200, get("198.51.100.20"));
+    }
+
+    private int get(String forwardedFor) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/jobs"))
+                .header("X-Forwarded-For", forwardedFor)
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static String tempDirectory(String prefix) {
+        try {
+            return Files.createTempDirectory(prefix).toString();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
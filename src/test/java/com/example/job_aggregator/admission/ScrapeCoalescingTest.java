@@ -0,0 +1,89 @@
+package com.example.job_aggregator.admission;
+
+import com.example.job_aggregator.support.MockDiceServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Scrapes triggered through the admission filter while a crawl of a slow {@link MockDiceServer} is running
+ * join that crawl instead of being shed, under the shipped admission defaults.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ScrapeCoalescingTest {
+
+    private static final int PAGES = 4;
+    private static final int TRIGGERS = 3;
+
+    private static MockDiceServer board;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) throws IOException {
+        board = MockDiceServer.builder().pages(PAGES).jobsPerPage(5).latencyMs(1000).build().start();
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:scrape-coalescing-" + UUID.randomUUID());
+        registry.add("scraper.journal.directory", () -> tempDirectory("journal"));
+        registry.add("scraper.journal.fsync", () -> "false");
+        registry.add("scraper.snapshot.enabled", () -> "false");
+        registry.add("scraper.resilience.hedge-enabled", () -> "false");
+        registry.add("scraper.dice.base-url", board::getBaseUrl);
+        registry.add("scraper.dice.pages", () -> PAGES);
+    }
+
+    @AfterAll
+    static void stopBoard() {
+        board.close();
+    }
+
+    @Test
+    void concurrentScrapesShareOneCrawl() throws Exception {
+        List<CompletableFuture<MockHttpServletResponse>> triggers = new ArrayList<>();
+        for (int i = 0; i < TRIGGERS; i++) {
+            triggers.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return mockMvc.perform(post("/api/jobs/scrape")).andReturn().getResponse();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+
+        List<String> messages = new ArrayList<>();
+        for (CompletableFuture<MockHttpServletResponse> trigger : triggers) {
+            MockHttpServletResponse response = trigger.get(60, TimeUnit.SECONDS);
+            assertEquals(200, response.getStatus(), response.getContentAsString());
+            messages.add(response.getContentAsString());
+        }
+        assertTrue(messages.get(0).startsWith("Scraping completed! Saved " + PAGES * 5 + " new jobs"), messages.get(0));
+        assertEquals(1, messages.stream().distinct().count(), messages.toString());
+        assertEquals(PAGES, board.getSearchRequests());
+    }
+
+    private static String tempDirectory(String prefix) {
+        try {
+            return Files.createTempDirectory(prefix).toString();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
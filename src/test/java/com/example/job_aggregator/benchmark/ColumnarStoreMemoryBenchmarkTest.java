@@ -0,0 +1,116 @@
+package com.example.job_aggregator.benchmark;
+
+import com.example.job_aggregator.model.Job;
+import com.example.job_aggregator.readmodel.ColumnarJobStore;
+import com.example.job_aggregator.resource.JobResource;
+import com.example.job_aggregator.search.SearchCriteria;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Retained heap per job for hydrated {@link Job} entities versus the dictionary-encoded
+ * {@link ColumnarJobStore}. Run with {@code mvn test -Pbenchmark} (the profile raises -Xmx).
+ */
+@Tag("benchmark")
+class ColumnarStoreMemoryBenchmarkTest {
+
+    private static final int DESCRIPTION_LENGTH = 400;
+
+    @ParameterizedTest
+    @ValueSource(ints = {100_000, 1_000_000})
+    void bytesPerJob(int jobCount) {
+        long baseline = usedHeap();
+        List<Job> entities = new ArrayList<>(jobCount);
+        Random random = new Random(7);
+        for (int i = 0; i < jobCount; i++) {
+            entities.add(sampleJob(i, random));
+        }
+        long entityBytes = usedHeap() - baseline;
+        entities = null;
+
+        baseline = usedHeap();
+        ColumnarJobStore.Builder builder = ColumnarJobStore.builder();
+        random = new Random(7);
+        for (int i = 0; i < jobCount; i++) {
+            Job job = sampleJob(i, random);
+            builder.append(toResource(job), job.getDescription());
+        }
+        ColumnarJobStore store = builder.build();
+        long columnarBytes = usedHeap() - baseline;
+
+        long start = System.nanoTime();
+        int hits = store.search(SearchCriteria.of("java", "remote", null)).length;
+        double searchMs = (System.nanoTime() - start) / 1_000_000.0;
+
+        System.out.printf("%n%,d jobs: entities %,d bytes/job, columnar %,d bytes/job (%.1fx smaller), " +
+                        "columnar search %.1f ms (%,d hits)%n",
+                jobCount, entityBytes / jobCount, columnarBytes / jobCount,
+                (double) entityBytes / columnarBytes, searchMs, hits);
+
+        assertThat(store.size()).isEqualTo(jobCount);
+        assertThat(columnarBytes).isLessThan(entityBytes);
+    }
+
+    // Every field is a fresh String, as it would be after JDBC hydration
+    private static Job sampleJob(int i, Random random) {
+        Job job = new Job();
+        job.setId("dice-" + new UUID(random.nextLong(), random.nextLong()));
+        job.setTitle(new String(TITLES[random.nextInt(TITLES.length)] + " " + LEVELS[random.nextInt(LEVELS.length)]));
+        job.setCompany(new String("Company " + random.nextInt(2_000)));
+        job.setLocation(new String(LOCATIONS[random.nextInt(LOCATIONS.length)]));
+        job.setJobBoard(new String(i % 10 == 0 ? "MockBoard" : "Dice"));
+        job.setSalary(i % 3 == 0 ? null : new String("$" + (80 + random.nextInt(20) * 5) + ",000"));
+        job.setSourceUrl("https://www.dice.com/job-detail/" + job.getId().substring(5));
+        job.setScrapedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(i));
+        StringBuilder description = new StringBuilder(DESCRIPTION_LENGTH + 16);
+        while (description.length() < DESCRIPTION_LENGTH) {
+            description.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        job.setDescription(description.toString());
+        return job;
+    }
+
+    private static JobResource toResource(Job job) {
+        return JobResource.builder()
+                .id(job.getId())
+                .title(job.getTitle())
+                .company(job.getCompany())
+                .location(job.getLocation())
+                .sourceUrl(job.getSourceUrl())
+                .jobBoard(job.getJobBoard())
+                .salary(job.getSalary())
+                .scrapedAt(job.getScrapedAt())
+                .build();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static final String[] TITLES = {"Java Developer", "Python Engineer", "Full Stack Developer",
+            "DevOps Engineer", "Data Scientist", "Backend Engineer", "Frontend Developer", "SRE", "QA Engineer"};
+    private static final String[] LEVELS = {"I", "II", "III", "Senior", "Staff", "Lead", "Principal"};
+    private static final String[] LOCATIONS = {"Remote", "New York, NY", "San Francisco, CA", "Seattle, WA",
+            "Austin, TX", "Boston, MA", "Chicago, IL", "Denver, CO", "Atlanta, GA", "Remote or Hybrid"};
+    private static final String[] WORDS = {"java", "spring", "boot", "microservices", "kubernetes", "team",
+            "experience", "design", "scalable", "systems", "cloud", "aws", "build", "deliver", "customers",
+            "ownership", "testing", "agile", "sql", "api", "years", "required", "preferred", "benefits"};
+}
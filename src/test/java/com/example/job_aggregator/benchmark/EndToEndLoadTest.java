@@ -0,0 +1,333 @@
+package com.example.job_aggregator.benchmark;
+
+import com.example.job_aggregator.repository.JobRepository;
+import com.example.job_aggregator.support.MockDiceServer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load test: the application scrapes a local {@link MockDiceServer} over real HTTP while other
+ * clients search, list, save, apply and export against the running server, all at the same time.
+ *
+ * Reports per-operation throughput and latency percentiles, ingestion rate and heap usage. Duration and
+ * corpus size come from system properties ({@code loadtest.seconds}, {@code loadtest.pages},
+ * {@code loadtest.jobsPerPage}, {@code loadtest.readers}). Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class EndToEndLoadTest {
+
+    private static final int SECONDS = Integer.getInteger("loadtest.seconds", 60);
+    private static final int PAGES = Integer.getInteger("loadtest.pages", 20);
+    private static final int JOBS_PER_PAGE = Integer.getInteger("loadtest.jobsPerPage", 50);
+    private static final int READERS = Integer.getInteger("loadtest.readers", 8);
+    private static final String[] KEYWORDS = {"java", "spring", "kafka", "remote", "engineer", "aws", "react"};
+
+    private static final MockDiceServer BOARD;
+    private static final Path JOURNAL_DIRECTORY;
+
+    static {
+        try {
+            BOARD = MockDiceServer.builder()
+                    .pages(PAGES)
+                    .jobsPerPage(JOBS_PER_PAGE)
+                    .latencyMs(40)
+                    .detailLatencyMs(15)
+                    .build()
+                    .start();
+            JOURNAL_DIRECTORY = Files.createTempDirectory("loadtest-journal");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @DynamicPropertySource
+    static void mockBoard(DynamicPropertyRegistry registry) {
+        registry.add("scraper.dice.base-url", BOARD::getBaseUrl);
+        registry.add("scraper.dice.pages", () -> PAGES);
+        registry.add("scraper.journal.directory", JOURNAL_DIRECTORY::toString);
+        registry.add("scraper.journal.fsync", () -> false);
+        // Per-statement SQL logging would dominate every measurement
+        registry.add("spring.jpa.show-sql", () -> false);
+        registry.add("logging.level.org.hibernate.SQL", () -> "WARN");
+        registry.add("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", () -> "WARN");
+        // Every client thread shares one address, so per-client rates are lifted; in-flight caps still apply
+        registry.add("admission.read.requests-per-second", () -> 1_000_000);
+        registry.add("admission.read.burst", () -> 1_000_000);
+        registry.add("admission.heavy.requests-per-second", () -> 1_000);
+        registry.add("admission.heavy.burst", () -> 1_000);
+    }
+
+    @AfterAll
+    static void stopBoard() {
+        BOARD.close();
+    }
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    JobRepository jobRepository;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    @Test
+    void scrapeSearchAndExportUnderLoad() throws Exception {
+        HeapSampler heap = new HeapSampler();
+        heap.start();
+
+        // Seed the corpus so readers have something to work with from the start
+        call("scrape", post("/api/jobs/scrape", ""));
+        long seeded = jobRepository.count();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SECONDS);
+
+        ExecutorService clients = Executors.newFixedThreadPool(READERS + 2);
+        List<Future<?>> futures = new ArrayList<>();
+        long ingestStart = System.nanoTime();
+        futures.add(clients.submit(() -> scrapeLoop(deadline)));
+        futures.add(clients.submit(() -> saveApplyExportLoop(deadline)));
+        for (int i = 0; i < READERS; i++) {
+            int reader = i;
+            futures.add(clients.submit(() -> readLoop(deadline, reader)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        clients.shutdown();
+        double ingestSeconds = (System.nanoTime() - ingestStart) / 1e9;
+        heap.stop();
+
+        long total = jobRepository.count();
+        report(total, seeded, ingestSeconds, heap);
+
+        assertThat(seeded).isGreaterThan(0);
+        assertThat(total).isGreaterThan(seeded);
+        assertThat(stats.get("search").errors.get()).isZero();
+        assertThat(stats.get("list").errors.get()).isZero();
+        assertThat(stats.get("get").errors.get()).isZero();
+    }
+
+    // Each run sees a fresh window of jobs, so every scrape ingests a full corpus
+    private Void scrapeLoop(long deadline) throws Exception {
+        while (System.nanoTime() < deadline) {
+            BOARD.shiftJobs(PAGES * JOBS_PER_PAGE);
+            call("scrape", post("/api/jobs/scrape", ""));
+        }
+        return null;
+    }
+
+    private Void readLoop(long deadline, int reader) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<String> ids = new ArrayList<>();
+        int iteration = 0;
+        while (System.nanoTime() < deadline) {
+            call("search", get("/api/jobs/search?keyword=" + KEYWORDS[random.nextInt(KEYWORDS.length)]));
+            if (iteration++ % 10 == reader % 10) {
+                HttpResponse<String> list = call("list", get("/api/jobs?fields=id,title,company"));
+                if (list != null && list.statusCode() == 200) {
+                    ids = ids(objectMapper.readTree(list.body()));
+                }
+            }
+            if (!ids.isEmpty()) {
+                call("get", get("/api/jobs/" + ids.get(random.nextInt(ids.size()))));
+            }
+        }
+        return null;
+    }
+
+    private Void saveApplyExportLoop(long deadline) throws Exception {
+        while (System.nanoTime() < deadline) {
+            HttpResponse<String> list = call("list", get("/api/jobs?fields=id"));
+            if (list == null || list.statusCode() != 200) {
+                continue;
+            }
+            List<String> ids = ids(objectMapper.readTree(list.body()));
+            if (ids.isEmpty()) {
+                continue;
+            }
+            int from = ThreadLocalRandom.current().nextInt(Math.max(1, ids.size() - 20));
+            List<String> batch = ids.subList(from, Math.min(ids.size(), from + 20));
+            HttpResponse<String> saved = call("save", post("/api/saved-jobs/batch",
+                    objectMapper.writeValueAsString(batch)));
+            if (saved == null || saved.statusCode() >= 300) {
+                continue;
+            }
+            List<Long> savedIds = new ArrayList<>();
+            for (JsonNode result : objectMapper.readTree(saved.body()).path("results")) {
+                JsonNode id = result.path("savedJob").path("id");
+                if (id.isNumber()) {
+                    savedIds.add(id.asLong());
+                }
+            }
+            call("apply", put("/api/saved-jobs/batch/apply", objectMapper.writeValueAsString(savedIds)));
+            call("export", get("/api/saved-jobs/export"));
+        }
+        return null;
+    }
+
+    private static List<String> ids(JsonNode jobs) {
+        List<String> ids = new ArrayList<>(jobs.size());
+        for (JsonNode job : jobs) {
+            ids.add(job.path("id").asText());
+        }
+        return ids;
+    }
+
+    private HttpResponse<String> call(String operation, HttpRequest request) {
+        Stats operationStats = stats.computeIfAbsent(operation, o -> new Stats());
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            operationStats.record(System.nanoTime() - start, response.statusCode());
+            return response;
+        } catch (IOException e) {
+            operationStats.record(System.nanoTime() - start, -1);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).timeout(Duration.ofSeconds(60)).GET().build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(uri(path)).timeout(Duration.ofMinutes(2))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)).build();
+    }
+
+    private HttpRequest put(String path, String json) {
+        return HttpRequest.newBuilder(uri(path)).timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(json)).build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private void report(long total, long seeded, double seconds, HeapSampler heap) {
+        System.out.printf("%nEnd-to-end load test: %d s, %d readers, board of %d pages x %d jobs%n",
+                SECONDS, READERS, PAGES, JOBS_PER_PAGE);
+        System.out.printf("%-8s %8s %7s %7s %9s %9s %9s %9s %9s%n",
+                "op", "count", "errors", "shed", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        stats.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
+            Stats s = entry.getValue();
+            long[] latencies = s.sorted();
+            System.out.printf("%-8s %8d %7d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", entry.getKey(), latencies.length,
+                    s.errors.get(), s.shed.get(), latencies.length / seconds, percentile(latencies, 50), percentile(latencies, 95),
+                    percentile(latencies, 99), percentile(latencies, 100));
+        });
+        System.out.printf("Ingested %d jobs (%d seeded) at %.0f jobs/s; board served %d search and %d detail pages%n",
+                total, seeded, (total - seeded) / seconds, BOARD.getSearchRequests(), BOARD.getDetailRequests());
+        System.out.printf("Heap: baseline %d MB, peak %d MB, after GC %d MB%n",
+                heap.baseline / (1024 * 1024), heap.peak.get() / (1024 * 1024), heap.afterGc() / (1024 * 1024));
+    }
+
+    private static double percentile(long[] sortedNanos, int percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1e6;
+    }
+
+    // Latencies of one operation; 429/503 from admission control count as shed, not as errors
+    private static final class Stats {
+        private final List<Long> latencies = new ArrayList<>();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong shed = new AtomicLong();
+
+        synchronized void record(long nanos, int status) {
+            latencies.add(nanos);
+            if (status == 429 || status == 503) {
+                shed.incrementAndGet();
+            } else if (status < 0 || status >= 400) {
+                errors.incrementAndGet();
+            }
+        }
+
+        synchronized long[] sorted() {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+
+    // Samples used heap every 100 ms on a daemon thread
+    private static final class HeapSampler {
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final AtomicLong peak = new AtomicLong();
+        private final long baseline;
+        private volatile boolean running = true;
+        private final Thread thread = new Thread(this::sample, "heap-sampler");
+
+        HeapSampler() {
+            this.baseline = afterGc();
+            thread.setDaemon(true);
+        }
+
+        void start() {
+            thread.start();
+        }
+
+        void stop() throws InterruptedException {
+            running = false;
+            thread.join();
+        }
+
+        private void sample() {
+            while (running) {
+                peak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+
+        long afterGc() {
+            System.gc();
+            return memory.getHeapMemoryUsage().getUsed();
+        }
+    }
+}
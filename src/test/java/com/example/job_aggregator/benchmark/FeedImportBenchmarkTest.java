@@ -0,0 +1,150 @@
+package com.example.job_aggregator.benchmark;
+
+import com.example.job_aggregator.config.AsyncConfig;
+import com.example.job_aggregator.config.ScraperProperties;
+import com.example.job_aggregator.ingestion.FeedImportResult;
+import com.example.job_aggregator.ingestion.FeedImporter;
+import com.example.job_aggregator.ingestion.JobBatchCommitter;
+import com.example.job_aggregator.ingestion.JobNormalizer;
+import com.example.job_aggregator.model.Job;
+import com.example.job_aggregator.skills.SkillExtractor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput and live heap of {@link FeedImporter} on a generated NDJSON feed of a million records
+ * (override with {@code -Dfeed.records=}). The feed is produced on the fly and committed jobs are only
+ * counted, so the heap measured is the importer's own. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class FeedImportBenchmarkTest {
+
+    private static final int RECORDS = Integer.getInteger("feed.records", 1_000_000);
+    private static final String[] TITLES = {"Java Developer", "Backend Engineer", "Data Engineer", "DevOps Engineer",
+            "Full Stack Developer", "Platform Engineer"};
+    private static final String[] WORDS = {"java", "spring", "boot", "kafka", "kubernetes", "aws", "postgresql", "team",
+            "design", "scalable", "systems", "docker", "react", "python", "agile", "microservices", "api", "cloud"};
+
+    @Test
+    void importsMillionRecordsWithFlatHeap() throws Exception {
+        ScraperProperties properties = new ScraperProperties();
+        CountingCommitter committer = new CountingCommitter(RECORDS / properties.getFeed().getChunkSize() / 10);
+        ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) new AsyncConfig().feedImportExecutor(properties);
+        FeedImporter importer = new FeedImporter(new ObjectMapper(), new JobNormalizer(), committer,
+                new SkillExtractor(properties, new DefaultResourceLoader()), properties, executor);
+
+        long start = System.nanoTime();
+        FeedImportResult result = importer.importFeed(new GeneratedFeed(RECORDS), "Benchmark");
+        double seconds = (System.nanoTime() - start) / 1e9;
+        executor.shutdown();
+
+        System.out.printf("%n%,d records imported in %.1f s (%,.0f records/s), live heap %,d KB after the first chunks, "
+                        + "at most %,d KB later%n", RECORDS, seconds, RECORDS / seconds,
+                committer.firstLiveHeap.get() / 1024, committer.maxLiveHeap.get() / 1024);
+
+        assertThat(result.getSaved()).isEqualTo(RECORDS);
+        assertThat(result.getRejected()).isZero();
+        assertThat(committer.maxLiveHeap.get() - committer.firstLiveHeap.get()).isLessThan(64L * 1024 * 1024);
+    }
+
+    // Counts jobs instead of storing them, and samples the live heap every few chunks
+    private static final class CountingCommitter extends JobBatchCommitter {
+
+        private final int sampleEvery;
+        private final AtomicInteger chunks = new AtomicInteger();
+        private final AtomicLong firstLiveHeap = new AtomicLong();
+        private final AtomicLong maxLiveHeap = new AtomicLong();
+
+        CountingCommitter(int sampleEvery) {
+            super(null, null, null);
+            this.sampleEvery = Math.max(1, sampleEvery);
+        }
+
+        @Override
+        public List<Job> withoutExisting(List<Job> jobs) {
+            return jobs;
+        }
+
+        @Override
+        public List<Job> commit(List<Job> batch) {
+            int chunk = chunks.incrementAndGet();
+            if (chunk % sampleEvery == 0) {
+                long live = liveHeap();
+                firstLiveHeap.compareAndSet(0, live);
+                maxLiveHeap.accumulateAndGet(live, Math::max);
+            }
+            return batch;
+        }
+
+        private static long liveHeap() {
+            Runtime runtime = Runtime.getRuntime();
+            System.gc();
+            return runtime.totalMemory() - runtime.freeMemory();
+        }
+    }
+
+    // NDJSON records generated as they are read, so the feed itself takes no heap
+    private static final class GeneratedFeed extends InputStream {
+
+        private final int records;
+        private final Random random = new Random(11);
+        private int next;
+        private byte[] line = new byte[0];
+        private int position;
+
+        GeneratedFeed(int records) {
+            this.records = records;
+        }
+
+        @Override
+        public int read() {
+            if (position == line.length && !advance()) {
+                return -1;
+            }
+            return line[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (position == line.length && !advance()) {
+                return -1;
+            }
+            int count = Math.min(length, line.length - position);
+            System.arraycopy(line, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+
+        private boolean advance() {
+            if (next == records) {
+                return false;
+            }
+            int i = next++;
+            StringBuilder description = new StringBuilder(400);
+            while (description.length() < 400) {
+                description.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            line = ("{\"id\":\"feed-" + i + "\",\"title\":\"" + TITLES[i % TITLES.length] + "\",\"company\":\"Company "
+                    + (i % 5000) + "\",\"location\":\"Remote\",\"sourceUrl\":\"https://partner.example.com/jobs/" + i
+                    + "\",\"salary\":\"$120,000\",\"postedAt\":\"2024-05-01\",\"description\":\"" + description
+                    + "\"}\n").getBytes(StandardCharsets.UTF_8);
+            position = 0;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.job_aggregator.benchmark;
+
+import com.example.job_aggregator.config.ScraperProperties;
+import com.example.job_aggregator.journal.IngestionJournal;
+import com.example.job_aggregator.journal.JournalRange;
+import com.example.job_aggregator.model.Job;
+import com.example.job_aggregator.resource.JobResource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Journal append throughput for pipeline-sized batches, with and without fsync and with one or several
+ * concurrent appenders (fsyncs are shared between appenders through group commit).
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class JournalAppendBenchmarkTest {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int BATCHES = 200;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void measureAppendThroughput() throws Exception {
+        List<Job> batch = sampleBatch();
+
+        System.out.printf("%n%-24s %8s %12s %12s %10s%n", "mode", "threads", "jobs/s", "MB/s", "replayed");
+        for (boolean fsync : new boolean[]{false, true}) {
+            for (int threads : new int[]{1, 4}) {
+                String name = (fsync ? "fsync" : "no-fsync") + "-" + threads;
+                IngestionJournal journal = openJournal(tempDir.resolve(name), fsync);
+
+                // Warm up, then measure
+                for (int i = 0; i < 10; i++) {
+                    journal.append(batch);
+                }
+                long startPosition = journal.getEnd();
+                long start = System.nanoTime();
+                appendConcurrently(journal, batch, threads);
+                double seconds = (System.nanoTime() - start) / 1e9;
+                long bytes = journal.getEnd() - startPosition;
+
+                AtomicInteger replayed = new AtomicInteger();
+                journal.read(0, journal.getEnd(), 1000, chunk -> replayed.addAndGet(chunk.size()));
+                journal.close();
+
+                int jobs = BATCHES * BATCH_SIZE;
+                System.out.printf("%-24s %8d %12.0f %12.1f %10d%n",
+                        fsync ? "fsync (group commit)" : "no fsync", threads, jobs / seconds,
+                        bytes / seconds / (1024 * 1024), replayed.get());
+                assertThat(replayed.get()).isEqualTo(jobs + 10 * BATCH_SIZE);
+            }
+        }
+    }
+
+    private static void appendConcurrently(IngestionJournal journal, List<Job> batch, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < BATCHES / threads; i++) {
+                        JournalRange range = journal.append(batch);
+                        journal.committed(range);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static IngestionJournal openJournal(Path directory, boolean fsync) throws Exception {
+        ScraperProperties properties = new ScraperProperties();
+        properties.getJournal().setDirectory(directory.toString());
+        properties.getJournal().setFsync(fsync);
+        IngestionJournal journal = new IngestionJournal(properties);
+        journal.open();
+        return journal;
+    }
+
+    private static List<Job> sampleBatch() {
+        List<Job> jobs = new ArrayList<>(BATCH_SIZE);
+        for (JobResource resource : SerializationBenchmarkTest.sampleJobs(BATCH_SIZE)) {
+            Job job = new Job();
+            job.setId(resource.getId());
+            job.setTitle(resource.getTitle());
+            job.setCompany(resource.getCompany());
+            job.setLocation(resource.getLocation());
+            job.setDescription(resource.getDescription());
+            job.setSourceUrl(resource.getSourceUrl());
+            job.setJobBoard(resource.getJobBoard());
+            job.setScrapedAt(resource.getScrapedAt());
+            jobs.add(job);
+        }
+        return jobs;
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.job_aggregator.benchmark;
+
+import com.example.job_aggregator.resource.JobField;
+import com.example.job_aggregator.resource.JobResource;
+import com.example.job_aggregator.resource.SavedJobResource;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bytes on the wire and encode/decode time for job lists in each negotiated format.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class SerializationBenchmarkTest {
+
+    private static final int JOB_COUNT = 1000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+
+    @Test
+    void compareJobListEncodings() throws Exception {
+        List<JobResource> jobs = sampleJobs(JOB_COUNT);
+        List<SavedJobResource> savedJobs = new ArrayList<>();
+        for (int i = 0; i < jobs.size(); i++) {
+            savedJobs.add(SavedJobResource.builder()
+                    .id((long) i)
+                    .job(jobs.get(i))
+                    .savedAt(LocalDateTime.now())
+                    .applied(i % 3 == 0)
+                    .build());
+        }
+
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put("json (indented, before)", mapper(new JsonFactory(), true));
+        mappers.put("json (compact)", mapper(new JsonFactory(), false));
+        mappers.put("smile", mapper(new SmileFactory(), false));
+        mappers.put("cbor", mapper(new CBORFactory(), false));
+
+        System.out.printf("%n%-26s %12s %12s %12s %12s%n", "format", "jobs bytes", "encode ms", "decode ms", "saved bytes");
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        for (Map.Entry<String, ObjectMapper> entry : mappers.entrySet()) {
+            ObjectMapper mapper = entry.getValue();
+            JavaType listType = mapper.getTypeFactory().constructCollectionType(List.class, JobResource.class);
+
+            byte[] encoded = mapper.writeValueAsBytes(jobs);
+            byte[] savedEncoded = mapper.writeValueAsBytes(savedJobs);
+            List<JobResource> decoded = mapper.readValue(encoded, listType);
+            assertThat(decoded).hasSize(JOB_COUNT);
+            assertThat(decoded.get(0)).isEqualTo(jobs.get(0));
+
+            double encodeMs = time(() -> mapper.writeValueAsBytes(jobs));
+            double decodeMs = time(() -> mapper.readValue(encoded, listType));
+            sizes.put(entry.getKey(), encoded.length);
+
+            System.out.printf("%-26s %12d %12.2f %12.2f %12d%n",
+                    entry.getKey(), encoded.length, encodeMs, decodeMs, savedEncoded.length);
+        }
+
+        assertThat(sizes.get("json (compact)")).isLessThan(sizes.get("json (indented, before)"));
+        assertThat(sizes.get("smile")).isLessThan(sizes.get("json (compact)"));
+        assertThat(sizes.get("cbor")).isLessThan(sizes.get("json (compact)"));
+    }
+
+    // Same configuration as the application's converters: Boot-style builder, ISO dates
+    private static ObjectMapper mapper(JsonFactory factory, boolean indent) {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .filters(JobField.ALL_FIELDS);
+        if (indent) {
+            builder.featuresToEnable(SerializationFeature.INDENT_OUTPUT);
+        }
+        return builder.build();
+    }
+
+    private static double time(ThrowingRunnable action) throws Exception {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            action.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            action.run();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / MEASURED_ROUNDS;
+    }
+
+    static List<JobResource> sampleJobs(int count) {
+        Random random = new Random(42);
+        String[] words = {"java", "spring", "boot", "microservices", "kubernetes", "team", "experience", "design",
+                "scalable", "systems", "cloud", "aws", "build", "deliver", "customers", "remote", "senior", "api"};
+        List<JobResource> jobs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder description = new StringBuilder(5000);
+            while (description.length() < 4990) {
+                description.append(words[random.nextInt(words.length)]).append(' ');
+            }
+            jobs.add(JobResource.builder()
+                    .id("dice-" + i)
+                    .title("Senior Java Developer " + (i % 50))
+                    .company("Company " + (i % 200))
+                    .location(i % 2 == 0 ? "Remote" : "New York, NY")
+                    .description(description.toString())
+                    .sourceUrl("https://www.dice.com/job-detail/" + i)
+                    .jobBoard("Dice")
+                    .scrapedAt(LocalDateTime.of(2024, 1, 15, 10, 30).plusMinutes(i))
+                    .build());
+        }
+        return jobs;
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.job_aggregator.benchmark;
+
+import com.example.job_aggregator.similarity.TfIdfIndex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.example.job_aggregator.constants.ScrapingConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Build time, heap and top-10 query latency of the similar-jobs index over synthetic jobs drawn from a
+ * Zipf-like vocabulary. Run with {@code mvn test -Pbenchmark}; {@code -Dsimilarity.jobs} sets the corpus size.
+ */
+@Tag("benchmark")
+class SimilarJobsBenchmarkTest {
+
+    private static final int VOCABULARY = 50_000;
+    private static final int DESCRIPTION_WORDS = 120;
+    private static final int QUERIES = 2_000;
+
+    @Test
+    void topTenLatency() {
+        int jobs = Integer.getInteger("similarity.jobs", 1_000_000);
+        String[] words = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            words[i] = "term" + Integer.toString(i, 36);
+        }
+        Random random = new Random(11);
+
+        long baseline = usedHeap();
+        long start = System.nanoTime();
+        TfIdfIndex index = new TfIdfIndex(SIMILAR_JOBS_TERMS_PER_JOB, SIMILAR_JOBS_QUERY_TERMS,
+                SIMILAR_JOBS_MAX_DOCUMENT_FRACTION);
+        StringBuilder description = new StringBuilder();
+        for (int i = 0; i < jobs; i++) {
+            description.setLength(0);
+            for (int w = 0; w < DESCRIPTION_WORDS; w++) {
+                description.append(words[zipf(random)]).append(' ');
+            }
+            index.add("job-" + i, words[zipf(random)] + " " + words[zipf(random)] + " engineer", description.toString());
+            if (index.needsReweight(SIMILAR_JOBS_REWEIGHT_GROWTH)) {
+                index.reweight();
+            }
+        }
+        double buildSeconds = (System.nanoTime() - start) / 1e9;
+        long bytes = usedHeap() - baseline;
+
+        long[] latencies = new long[QUERIES];
+        int found = 0;
+        for (int q = 0; q < QUERIES; q++) {
+            String id = "job-" + random.nextInt(jobs);
+            long queryStart = System.nanoTime();
+            found += index.similar(id, 10).size();
+            latencies[q] = System.nanoTime() - queryStart;
+        }
+        Arrays.sort(latencies);
+
+        System.out.printf("%n%,d jobs: built in %.1f s, %,d bytes/job; top-10 query p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                jobs, buildSeconds, bytes / jobs, latencies[QUERIES / 2] / 1e6, latencies[QUERIES * 99 / 100] / 1e6,
+                latencies[QUERIES - 1] / 1e6);
+
+        assertThat(found).isGreaterThan(QUERIES * 9);
+        assertThat(latencies[QUERIES / 2]).isLessThan(50_000_000L);
+    }
+
+    // Rank with probability roughly proportional to 1 / rank
+    private static int zipf(Random random) {
+        return (int) Math.min(VOCABULARY - 1, Math.floor(Math.exp(random.nextDouble() * Math.log(VOCABULARY))) - 1);
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
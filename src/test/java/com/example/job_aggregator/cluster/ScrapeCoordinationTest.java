@@ -0,0 +1,221 @@
+package com.example.job_aggregator.cluster;
+
+import com.example.job_aggregator.JobAggregatorApplication;
+import com.example.job_aggregator.ingestion.PageRequest;
+import com.example.job_aggregator.model.CrawlLease;
+import com.example.job_aggregator.model.CrawlLeaseState;
+import com.example.job_aggregator.model.CrawlRound;
+import com.example.job_aggregator.readmodel.JobReadModel;
+import com.example.job_aggregator.repository.ClusterNodeRepository;
+import com.example.job_aggregator.repository.CrawlLeaseRepository;
+import com.example.job_aggregator.repository.CrawlRoundRepository;
+import com.example.job_aggregator.repository.JobRepository;
+import com.example.job_aggregator.search.SavedSearchIndex;
+import com.example.job_aggregator.service.DataVersionService;
+import com.example.job_aggregator.service.JobService;
+import com.example.job_aggregator.service.SavedSearchService;
+import com.example.job_aggregator.service.ScraperService;
+import com.example.job_aggregator.support.MockDiceServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.nio.file.Files;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Three application instances sharing one H2 database split a scrape of a local {@link MockDiceServer}
+ * between them, and a page left running by a dead node is taken over once its lease expires. Nodes that
+ * have caught up serve the same ETags and alert on each other's saved searches.
+ */
+class ScrapeCoordinationTest {
+
+    private static final int PAGES = 12;
+    private static final int JOBS_PER_PAGE = 10;
+    private static final long LEASE_DURATION_MS = 2000;
+    private static final List<String> NODES = List.of("node-a", "node-b", "node-c");
+
+    private static MockDiceServer board;
+    private static final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+
+    @BeforeAll
+    static void startCluster() throws Exception {
+        board = MockDiceServer.builder().pages(PAGES).jobsPerPage(JOBS_PER_PAGE).latencyMs(50).build().start();
+        String database = "jdbc:h2:mem:cluster-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        // One at a time, so the first node creates the schema the others find
+        for (String node : NODES) {
+            contexts.add(new SpringApplicationBuilder(JobAggregatorApplication.class).run(
+                    "--server.port=0",
+                    "--spring.datasource.url=" + database,
+                    "--spring.jpa.hibernate.ddl-auto=update",
+                    "--spring.jpa.show-sql=false",
+                    "--logging.level.org.hibernate.SQL=WARN",
+                    "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                    "--scraper.journal.directory=" + Files.createTempDirectory("journal-" + node),
+                    "--scraper.journal.fsync=false",
+                    "--scraper.snapshot.enabled=false",
+                    "--scraper.resilience.hedge-enabled=false",
+                    "--scraper.dice.base-url=" + board.getBaseUrl(),
+                    "--scraper.dice.pages=" + PAGES,
+                    "--cluster.enabled=true",
+                    "--cluster.node-id=" + node,
+                    "--cluster.heartbeat-interval-ms=200",
+                    "--cluster.lease-duration-ms=" + LEASE_DURATION_MS));
+        }
+        ClusterNodeRepository nodes = contexts.get(0).getBean(ClusterNodeRepository.class);
+        await(() -> nodes.findLiveNodeIds(System.currentTimeMillis()).size() == NODES.size());
+    }
+
+    @AfterAll
+    static void stopCluster() {
+        contexts.forEach(ConfigurableApplicationContext::close);
+        board.close();
+    }
+
+    @Test
+    void everyPageIsCrawledOnceAcrossTheCluster() throws Exception {
+        long searchesBefore = board.getSearchRequests();
+
+        String message = contexts.get(0).getBean(JobService.class).scrapeJobs();
+
+        assertTrue(message.startsWith("Scraping completed!"), message);
+        assertEquals(PAGES, board.getSearchRequests() - searchesBefore);
+        assertEquals(PAGES * JOBS_PER_PAGE, contexts.get(0).getBean(JobRepository.class).count());
+
+        List<CrawlLease> leases = contexts.get(0).getBean(CrawlLeaseRepository.class).findAll();
+        assertEquals(PAGES, leases.size());
+        assertTrue(leases.stream().allMatch(lease -> lease.getState() == CrawlLeaseState.DONE));
+        Set<String> owners = leases.stream().map(CrawlLease::getOwner).collect(Collectors.toSet());
+        assertTrue(owners.size() > 1, "pages crawled by " + owners);
+
+        // Nodes that did not trigger the scrape pick up the other nodes' jobs on their next heartbeat
+        for (ConfigurableApplicationContext context : contexts) {
+            JobReadModel readModel = context.getBean(JobReadModel.class);
+            await(() -> readModel.size() == PAGES * JOBS_PER_PAGE);
+        }
+    }
+
+    @Test
+    void pageOfDeadNodeIsTakenOverAfterItsLeaseExpires() throws Exception {
+        ConfigurableApplicationContext context = contexts.get(1);
+        CrawlRoundRepository rounds = context.getBean(CrawlRoundRepository.class);
+        CrawlLeaseRepository leases = context.getBean(CrawlLeaseRepository.class);
+        PageRequest page = context.getBean(ScraperService.class).searchPages().get(PAGES - 1);
+
+        CrawlRound round = new CrawlRound();
+        round.setStartedBy("ghost");
+        round.setStartedAt(LocalDateTime.now());
+        round.setUnits(1);
+        round = rounds.save(round);
+        CrawlLease lease = new CrawlLease();
+        lease.setUnit(ScrapeCoordinator.unitOf(page));
+        lease.setBoard(page.board());
+        lease.setUrl(page.url());
+        lease.setRoundId(round.getId());
+        lease.setState(CrawlLeaseState.RUNNING);
+        lease.setOwner("ghost");
+        lease.setExpiresAt(System.currentTimeMillis() + LEASE_DURATION_MS / 2);
+        leases.save(lease);
+
+        CrawlRound finished = context.getBean(ScrapeCoordinator.class)
+                .awaitRound(round.getId(), 10 * LEASE_DURATION_MS).orElseThrow();
+
+        assertTrue(finished.isFinished());
+        assertEquals(JOBS_PER_PAGE, finished.getJobsParsed());
+        CrawlLease takenOver = leases.findById(lease.getUnit()).orElseThrow();
+        assertEquals(CrawlLeaseState.DONE, takenOver.getState());
+        assertTrue(NODES.contains(takenOver.getOwner()), takenOver.getOwner());
+        assertTrue(takenOver.getCompletedAt() >= lease.getExpiresAt());
+    }
+
+    @Test
+    void nodesHoldingTheSameJobsIssueTheSameETags() throws Exception {
+        JobService jobService = contexts.get(0).getBean(JobService.class);
+        jobService.scrapeJobs();
+        await(() -> contexts.stream()
+                .map(context -> context.getBean(DataVersionService.class).etag("all", "application/json"))
+                .distinct().count() == 1);
+    }
+
+    @Test
+    void searchSavedOnOneNodeReachesEveryAlertIndex() throws Exception {
+        Long id = contexts.get(1).getBean(SavedSearchService.class).createSavedSearch("kotlin", null, null).getId();
+        for (ConfigurableApplicationContext context : contexts) {
+            SavedSearchIndex index = context.getBean(SavedSearchIndex.class);
+            await(() -> index.ids().contains(id));
+        }
+
+        contexts.get(1).getBean(SavedSearchService.class).deleteSavedSearch(id);
+        for (ConfigurableApplicationContext context : contexts) {
+            SavedSearchIndex index = context.getBean(SavedSearchIndex.class);
+            await(() -> !index.ids().contains(id));
+        }
+    }
+
+    @Test
+    void membershipOutlivesABusySpringScheduler() throws Exception {
+        ConfigurableApplicationContext context = contexts.get(2);
+        ClusterNodeRepository nodes = context.getBean(ClusterNodeRepository.class);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // Stands in for a read model rebuild holding the scheduler's only thread past the lease duration
+        context.getBean(TaskScheduler.class).schedule(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, Instant.now());
+        try {
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Thread.sleep(2 * LEASE_DURATION_MS);
+            assertTrue(nodes.findLiveNodeIds(System.currentTimeMillis()).contains(NODES.get(2)));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void pagesAreShardedOverLiveNodesOnly() {
+        List<String> units = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            units.add("Dice|https://example.com/jobs?page=" + i);
+        }
+        Set<String> owners = units.stream().map(unit -> ScrapeCoordinator.assignee(unit, NODES))
+                .collect(Collectors.toSet());
+        assertEquals(Set.copyOf(NODES), owners);
+
+        // Only the pages of the node that left move; every other page keeps its owner
+        List<String> survivors = List.of("node-a", "node-c");
+        for (String unit : units) {
+            String before = ScrapeCoordinator.assignee(unit, NODES);
+            String after = ScrapeCoordinator.assignee(unit, survivors);
+            if (!before.equals("node-b")) {
+                assertEquals(before, after);
+            }
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 15_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "condition not met within 15 s");
+            Thread.sleep(100);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.job_aggregator.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Coalescing, error propagation and key isolation of {@link SingleFlight}.
+ */
+class SingleFlightTest {
+
+    private static final int CALLERS = 16;
+
+    private final SingleFlight<String, Integer> flight = new SingleFlight<>();
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @Test
+    void concurrentCallersShareOneExecution() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> flight.execute("java", () -> {
+                    await(release);
+                    return runs.incrementAndGet();
+                })));
+            }
+            waitUntil(() -> flight.getSharedCalls() == CALLERS - 1);
+            release.countDown();
+
+            for (Future<Integer> result : results) {
+                assertEquals(1, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, runs.get());
+            assertEquals(1, flight.getExecutions());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void followersReceiveTheLeadersException() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> leader = executor.submit(() -> flight.execute("java", () -> {
+                await(release);
+                throw new IllegalStateException("database down");
+            }));
+            waitUntil(() -> flight.getExecutions() == 1);
+            Future<Integer> follower = executor.submit(() -> flight.execute("java", runs::incrementAndGet));
+            waitUntil(() -> flight.getSharedCalls() == 1);
+            release.countDown();
+
+            for (Future<Integer> result : List.of(leader, follower)) {
+                Exception e = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+                assertInstanceOf(IllegalStateException.class, e.getCause());
+                assertEquals("database down", e.getCause().getMessage());
+            }
+            assertEquals(0, runs.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void differentKeysAndLaterCallsRunAgain() {
+        assertEquals(1, flight.execute("java", runs::incrementAndGet));
+        assertEquals(2, flight.execute("java", runs::incrementAndGet));
+        assertEquals(3, flight.execute("kotlin", runs::incrementAndGet));
+        assertEquals(3, flight.getExecutions());
+        assertEquals(0, flight.getSharedCalls());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not reached in time");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.job_aggregator.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * What the list endpoints write for the default field set and for a {@code fields=} selection: selected
+ * fields always appear, null when the job has no value, and unselected ones are left out.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class JobFieldSelectionTest {
+
+    private static final Set<String> SUMMARY = Set.of("id", "title", "company", "location", "sourceUrl", "jobBoard",
+            "salary", "scrapedAt", "postedAt", "skills");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:fields-" + UUID.randomUUID());
+        registry.add("scraper.journal.directory", () -> tempDirectory("journal"));
+        registry.add("scraper.journal.fsync", () -> "false");
+        registry.add("scraper.snapshot.enabled", () -> "false");
+    }
+
+    @Test
+    void listsWriteExactlyTheSelectedFields() throws Exception {
+        String feed = "{\"id\": \"fields-1\", \"title\": \"Java Engineer\", \"sourceUrl\": \"https://example.com/1\", "
+                + "\"description\": \"Build services in Java\"}";
+        mockMvc.perform(post("/api/jobs/import").contentType("application/x-ndjson").content(feed))
+                .andExpect(status().isOk());
+
+        JsonNode summary = only(list("/api/jobs"));
+        assertEquals(SUMMARY, names(summary));
+        assertTrue(summary.get("salary").isNull());
+        assertTrue(summary.get("postedAt").isNull());
+
+        JsonNode selected = only(list("/api/jobs/search?keyword=java&fields=id,salary,description"));
+        assertEquals(Set.of("id", "salary", "description"), names(selected));
+        assertTrue(selected.get("salary").isNull());
+        assertEquals("Build services in Java", selected.get("description").asText());
+
+        // The detail endpoint is not a projection and keeps every field
+        JsonNode detail = objectMapper.readTree(mockMvc.perform(get("/api/jobs/fields-1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+        assertTrue(names(detail).containsAll(SUMMARY));
+        assertTrue(detail.has("description"));
+
+        mockMvc.perform(get("/api/jobs?fields=id,nope")).andExpect(status().isBadRequest());
+    }
+
+    private JsonNode list(String path) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(get(path).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private static JsonNode only(JsonNode jobs) {
+        assertEquals(1, jobs.size(), jobs.toString());
+        return jobs.get(0);
+    }
+
+    private static Set<String> names(JsonNode job) {
+        List<String> names = new ArrayList<>();
+        job.fieldNames().forEachRemaining(names::add);
+        return new TreeSet<>(names);
+    }
+
+    private static String tempDirectory(String prefix) {
+        try {
+            return Files.createTempDirectory(prefix).toString();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.job_aggregator.controller;
+
+import com.example.job_aggregator.readmodel.JobReadModel;
+import com.example.job_aggregator.repository.JobRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * List responses are both gzipped and revalidated with their ETag, and the ETag changes when the read
+ * model is repaired from the database, not only when jobs are ingested.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class JobListCachingTest {
+
+    private static final int JOBS = 40;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobReadModel jobReadModel;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:caching-" + UUID.randomUUID());
+        registry.add("scraper.journal.directory", () -> tempDirectory("journal"));
+        registry.add("scraper.journal.fsync", () -> "false");
+        registry.add("scraper.snapshot.enabled", () -> "false");
+    }
+
+    @Test
+    void listIsCompressedAndRevalidatedUntilTheReadModelChanges() throws Exception {
+        String feed = IntStream.range(0, JOBS)
+                .mapToObj(i -> "{\"id\": \"cached-" + i + "\", \"title\": \"Java Engineer " + i + "\", "
+                        + "\"sourceUrl\": \"https://example.com/cached/" + i + "\", \"company\": \"Acme\"}")
+                .collect(Collectors.joining("\n"));
+        HttpResponse<String> imported = client.send(HttpRequest.newBuilder(uri("/api/jobs/import"))
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(feed))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, imported.statusCode(), imported.body());
+
+        HttpResponse<byte[]> first = get(null);
+        assertEquals(200, first.statusCode());
+        assertEquals("gzip", first.headers().firstValue("Content-Encoding").orElse(null));
+        String etag = first.headers().firstValue("ETag").orElseThrow();
+        assertTrue(etag.startsWith("W/\""), etag);
+
+        HttpResponse<byte[]> revalidated = get(etag);
+        assertEquals(304, revalidated.statusCode());
+
+        // A job removed behind the read model's back is noticed by the consistency check
+        jobRepository.deleteById("cached-0");
+        jobReadModel.verifyConsistency();
+
+        HttpResponse<byte[]> changed = get(etag);
+        assertEquals(200, changed.statusCode());
+        assertNotEquals(etag, changed.headers().firstValue("ETag").orElseThrow());
+    }
+
+    private HttpResponse<byte[]> get(String etag) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri("/api/jobs"))
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip");
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+        return client.send(request.GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String tempDirectory(String prefix) {
+        try {
+            return Files.createTempDirectory(prefix).toString();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
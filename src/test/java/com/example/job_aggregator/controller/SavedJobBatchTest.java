@@ -0,0 +1,132 @@
+package com.example.job_aggregator.controller;
+
+import com.example.job_aggregator.model.Job;
+import com.example.job_aggregator.repository.JobRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The saved-job batch endpoints against the real database: per-item results for a mix of known, unknown
+ * and repeated IDs, and 400 for batches with no usable ID.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class SavedJobBatchTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:batch-" + UUID.randomUUID());
+        registry.add("scraper.journal.directory", () -> tempDirectory("journal"));
+        registry.add("scraper.journal.fsync", () -> "false");
+        registry.add("scraper.snapshot.enabled", () -> "false");
+    }
+
+    @Test
+    void batchesReportEveryDistinctIdOnce() throws Exception {
+        jobRepository.saveAll(List.of(job("batch-1"), job("batch-2")));
+        send(post("/api/saved-jobs/batch"), List.of("batch-2"));
+
+        JsonNode saved = send(post("/api/saved-jobs/batch"), List.of("batch-1", "missing", "batch-1", "batch-2"));
+        assertCounts(saved, 3, 2, 1);
+        assertStatuses(saved, "SAVED", "NOT_FOUND", "ALREADY_SAVED");
+        assertEquals(List.of("batch-1", "missing", "batch-2"), field(saved, "id"));
+        long first = saved.get("results").get(0).get("savedJob").get("id").asLong();
+        long second = saved.get("results").get(2).get("savedJob").get("id").asLong();
+
+        JsonNode applied = send(put("/api/saved-jobs/batch/apply"), List.of(first, -1L, first));
+        assertCounts(applied, 2, 1, 1);
+        assertStatuses(applied, "APPLIED", "NOT_FOUND");
+        assertTrue(applied.get("results").get(0).get("savedJob").get("applied").asBoolean());
+
+        JsonNode deleted = send(delete("/api/saved-jobs/batch"), List.of(second, -1L, second));
+        assertCounts(deleted, 2, 1, 1);
+        assertStatuses(deleted, "DELETED", "NOT_FOUND");
+        JsonNode deletedAgain = send(delete("/api/saved-jobs/batch"), List.of(second));
+        assertStatuses(deletedAgain, "NOT_FOUND");
+    }
+
+    @Test
+    void batchesWithoutIdsAreBadRequests() throws Exception {
+        for (MockHttpServletRequestBuilder request : List.of(post("/api/saved-jobs/batch"),
+                put("/api/saved-jobs/batch/apply"), delete("/api/saved-jobs/batch"))) {
+            mockMvc.perform(request.contentType(MediaType.APPLICATION_JSON).content("[]"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(request.contentType(MediaType.APPLICATION_JSON).content("[null]"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    private JsonNode send(MockHttpServletRequestBuilder request, List<?> ids) throws Exception {
+        String body = mockMvc.perform(request.contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static void assertCounts(JsonNode result, int requested, int succeeded, int failed) {
+        assertEquals(requested, result.get("requested").asInt());
+        assertEquals(succeeded, result.get("succeeded").asInt());
+        assertEquals(failed, result.get("failed").asInt());
+    }
+
+    private static void assertStatuses(JsonNode result, String... statuses) {
+        assertEquals(List.of(statuses), field(result, "status"));
+    }
+
+    private static List<String> field(JsonNode result, String name) {
+        List<String> values = new ArrayList<>();
+        result.get("results").forEach(item -> values.add(item.get(name).asText()));
+        return values;
+    }
+
+    private static Job job(String id) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle("Java Engineer");
+        job.setCompany("Acme");
+        job.setSourceUrl("https://example.com/" + id);
+        job.setJobBoard("Dice");
+        job.setScrapedAt(LocalDateTime.now());
+        return job;
+    }
+
+    private static String tempDirectory(String prefix) {
+        try {
+            return Files.createTempDirectory(prefix).toString();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
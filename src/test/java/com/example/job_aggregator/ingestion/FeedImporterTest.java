@@ -0,0 +1,278 @@
+package com.example.job_aggregator.ingestion;
+
+import com.example.job_aggregator.config.AsyncConfig;
+import com.example.job_aggregator.config.ScraperProperties;
+import com.example.job_aggregator.model.Job;
+import com.example.job_aggregator.skills.SkillExtractor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Chunking, validation and per-chunk reporting of NDJSON feed imports, against an in-memory job table.
+ */
+class FeedImporterTest {
+
+    private InMemoryCommitter committer;
+    private ScraperProperties properties;
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        committer = new InMemoryCommitter();
+        properties = new ScraperProperties();
+        properties.getFeed().setChunkSize(3);
+        properties.getFeed().setParallelism(2);
+        properties.getFeed().setQueueCapacity(1);
+        executor = (ThreadPoolTaskExecutor) new AsyncConfig().feedImportExecutor(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void importsValidRecordsAndReportsRejectedOnes() throws Exception {
+        String feed = String.join("\n",
+                record(1),
+                "{\"id\": \"job-2\", \"title\": \"Kafka Engineer\", \"sourceUrl\": \"https://example.com/2\", "
+                        + "\"jobBoard\": \"Partner\", \"postedAt\": \"2024-05-01\", \"extra\": true}",
+                "{\"id\": \"job-3\", \"title\": \"No URL\"}",
+                "",
+                "{not json",
+                record(1),
+                "{\"id\": \"job-4\", \"sourceUrl\": \"https://example.com/4\", \"postedAt\": \"yesterday\"}",
+                record(5));
+
+        FeedImportResult result = importer().importFeed(stream(feed.getBytes(StandardCharsets.UTF_8)), "Acme Feed");
+
+        assertNull(result.getError());
+        assertEquals(8, result.getLines());
+        assertEquals(7, result.getRecords());
+        assertEquals(3, result.getSaved());
+        assertEquals(1, result.getDuplicates());
+        assertEquals(3, result.getRejected());
+        assertEquals(3, result.getChunksCommitted());
+        assertEquals(0, result.getChunksFailed());
+
+        List<FeedChunkReport> chunks = result.getChunks();
+        assertEquals(List.of(1, 2, 3), chunks.stream().map(FeedChunkReport::getNumber).collect(Collectors.toList()));
+        assertEquals(1, chunks.get(0).getFirstLine());
+        assertEquals(3, chunks.get(0).getLastLine());
+        assertEquals(List.of("line 3: id and sourceUrl are required"), chunks.get(0).getErrors());
+        // The blank line belongs to the second chunk without counting as a record
+        assertEquals(4, chunks.get(1).getFirstLine());
+        assertEquals(7, chunks.get(1).getLastLine());
+        assertEquals(3, chunks.get(1).getRecords());
+        assertTrue(chunks.get(1).getErrors().get(0).startsWith("line 5: "));
+        assertTrue(chunks.get(1).getErrors().get(1).startsWith("line 7: postedAt"));
+        assertEquals(8, chunks.get(2).getFirstLine());
+
+        Job partner = committer.jobs.get("job-2");
+        assertEquals("Partner", partner.getJobBoard());
+        assertEquals(LocalDateTime.of(2024, 5, 1, 0, 0), partner.getPostedAt());
+        assertEquals("kafka", partner.getSkills());
+        assertEquals("Acme Feed", committer.jobs.get("job-1").getJobBoard());
+        assertEquals("Developer Position", committer.jobs.get("job-5").getTitle());
+    }
+
+    @Test
+    void blankLinesAreSkippedButKeepTheirLineNumbers() throws Exception {
+        String blanks = "\n".repeat(5000);
+        String feed = record(1) + "\n" + blanks + "{not json\n" + record(2) + "\n   \n" + record(3) + "\n" + blanks;
+
+        FeedImportResult result = importer().importFeed(stream(feed.getBytes(StandardCharsets.UTF_8)), "Feed");
+
+        assertEquals(10_005, result.getLines());
+        assertEquals(4, result.getRecords());
+        assertEquals(3, result.getSaved());
+        assertEquals(1, result.getRejected());
+        List<FeedChunkReport> chunks = result.getChunks();
+        assertEquals(2, chunks.size());
+        assertEquals(1, chunks.get(0).getFirstLine());
+        assertEquals(5003, chunks.get(0).getLastLine());
+        assertTrue(chunks.get(0).getErrors().get(0).startsWith("line 5002: "), chunks.get(0).getErrors().toString());
+        // The last chunk runs to the end of the feed, trailing blank lines included
+        assertEquals(5004, chunks.get(1).getFirstLine());
+        assertEquals(10_005, chunks.get(1).getLastLine());
+        assertEquals(1, chunks.get(1).getRecords());
+    }
+
+    @Test
+    void linesOverTheLengthLimitAreRejectedWithoutBeingRead() throws Exception {
+        properties.getFeed().setMaxRecordLength(200);
+        String minified = "[" + String.join(",", record(2), record(3), record(4)) + "]";
+        String feed = record(1) + "\r\n" + minified + "\r\n" + "x".repeat(201) + "\n" + record(5) + "\r\n"
+                + "x".repeat(100_000);
+
+        FeedImportResult result = importer().importFeed(stream(feed.getBytes(StandardCharsets.UTF_8)), "Feed");
+
+        assertEquals(5, result.getLines());
+        assertEquals(5, result.getRecords());
+        assertEquals(2, result.getSaved());
+        assertEquals(3, result.getRejected());
+        assertEquals(Set.of("job-1", "job-5"), committer.jobs.keySet());
+        assertEquals(List.of("line 2: record is longer than 200 characters",
+                "line 3: record is longer than 200 characters"), result.getChunks().get(0).getErrors());
+        assertEquals(List.of("line 5: record is longer than 200 characters"), result.getChunks().get(1).getErrors());
+    }
+
+    @Test
+    void readsGzipCompressedFeeds() throws Exception {
+        StringBuilder feed = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            feed.append(record(i)).append('\n');
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(feed.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        FeedImportResult result = importer().importFeed(stream(compressed.toByteArray()), "Feed");
+
+        assertEquals(10, result.getSaved());
+        assertEquals(4, result.getChunks().size());
+        assertEquals(10, committer.jobs.size());
+    }
+
+    @Test
+    void skipsJobsAlreadyStoredAndAcrossChunks() throws Exception {
+        committer.jobs.put("job-0", new Job());
+        String feed = String.join("\n", record(0), record(1), record(2), record(1), record(3), record(4));
+
+        FeedImportResult result = importer().importFeed(stream(feed.getBytes(StandardCharsets.UTF_8)), "Feed");
+
+        assertEquals(4, result.getSaved());
+        assertEquals(2, result.getDuplicates());
+        assertEquals(Set.of("job-0", "job-1", "job-2", "job-3", "job-4"), committer.jobs.keySet());
+    }
+
+    @Test
+    void failedCommitOnlyFailsItsChunk() throws Exception {
+        committer.failOn = "job-4";
+        String feed = String.join("\n", record(1), record(2), record(3), record(4), record(5), record(6), record(7));
+
+        FeedImportResult result = importer().importFeed(stream(feed.getBytes(StandardCharsets.UTF_8)), "Feed");
+
+        assertEquals(4, result.getSaved());
+        assertEquals(2, result.getChunksCommitted());
+        assertEquals(1, result.getChunksFailed());
+        FeedChunkReport failed = result.getChunks().get(1);
+        assertFalse(failed.isCommitted());
+        assertEquals(0, failed.getSaved());
+        assertEquals(List.of("Chunk not committed: database unavailable"), failed.getErrors());
+        assertTrue(committer.jobs.containsKey("job-7"));
+    }
+
+    @Test
+    void concurrentImportsShareThePoolWithoutBlockingEachOther() throws Exception {
+        List<CompletableFuture<FeedImportResult>> imports = new ArrayList<>();
+        for (int feed = 0; feed < 4; feed++) {
+            StringBuilder records = new StringBuilder();
+            for (int i = 0; i < 50; i++) {
+                records.append(record(feed * 100 + i)).append('\n');
+            }
+            byte[] bytes = records.toString().getBytes(StandardCharsets.UTF_8);
+            imports.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return importer().importFeed(stream(bytes), "Feed");
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+
+        for (CompletableFuture<FeedImportResult> result : imports) {
+            assertEquals(50, result.get(30, TimeUnit.SECONDS).getSaved());
+        }
+        assertEquals(200, committer.jobs.size());
+        assertEquals(2, executor.getPoolSize());
+    }
+
+    @Test
+    void truncatedGzipKeepsWhatWasRead() throws Exception {
+        StringBuilder feed = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            feed.append(record(i)).append('\n');
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(feed.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] bytes = compressed.toByteArray();
+        byte[] truncated = new byte[bytes.length / 2];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+
+        FeedImportResult result = importer().importFeed(stream(truncated), "Feed");
+
+        assertNotNull(result.getError());
+        assertTrue(result.getSaved() > 0);
+        assertTrue(result.getSaved() < 2000);
+        assertEquals(result.getSaved(), committer.jobs.size());
+    }
+
+    private FeedImporter importer() {
+        return new FeedImporter(new ObjectMapper(), new JobNormalizer(), committer,
+                new SkillExtractor(properties, new DefaultResourceLoader()), properties, executor);
+    }
+
+    private static InputStream stream(byte[] bytes) {
+        return new ByteArrayInputStream(bytes);
+    }
+
+    private static String record(int i) {
+        return "{\"id\": \"job-" + i + "\", \"sourceUrl\": \"https://example.com/" + i + "\", "
+                + "\"company\": \"Company " + i + "\", \"description\": \"Job number " + i + "\"}";
+    }
+
+    // Stands in for the database: remembers committed jobs and fails chunks containing one ID
+    private static final class InMemoryCommitter extends JobBatchCommitter {
+
+        private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+        private volatile String failOn;
+
+        InMemoryCommitter() {
+            super(null, null, null);
+        }
+
+        @Override
+        public List<Job> withoutExisting(List<Job> batch) {
+            return batch.stream().filter(job -> !jobs.containsKey(job.getId())).collect(Collectors.toList());
+        }
+
+        @Override
+        public synchronized List<Job> commit(List<Job> batch) {
+            if (batch.stream().anyMatch(job -> job.getId().equals(failOn))) {
+                throw new IllegalStateException("database unavailable");
+            }
+            List<Job> saved = new ArrayList<>();
+            for (Job job : batch) {
+                if (jobs.putIfAbsent(job.getId(), job) == null) {
+                    saved.add(job);
+                }
+            }
+            return saved;
+        }
+    }
+}
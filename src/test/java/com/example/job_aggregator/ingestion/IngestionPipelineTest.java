@@ -0,0 +1,232 @@
+package com.example.job_aggregator.ingestion;
+
+import com.example.job_aggregator.config.AsyncConfig;
+import com.example.job_aggregator.config.ScraperProperties;
+import com.example.job_aggregator.model.Job;
+import com.example.job_aggregator.resilience.BoardFetcher;
+import com.example.job_aggregator.service.ScraperService;
+import com.example.job_aggregator.skills.SkillExtractor;
+import com.example.job_aggregator.support.MockDiceServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import static com.example.job_aggregator.constants.ScrapingConstants.BOARD_DICE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Drives {@link IngestionPipeline} against a local {@link MockDiceServer}, with the database side of
+ * {@link JobBatchCommitter} mocked: micro-batching, per-stage worker threads, backpressure from a stalled
+ * commit, pages and batches that fail without stopping the run, and runs beyond the shared pool's size.
+ */
+class IngestionPipelineTest {
+
+    private static final int JOBS_PER_PAGE = 10;
+
+    private MockDiceServer board;
+    private ScraperProperties properties;
+    private ScraperService scraperService;
+    private final JobBatchCommitter jobBatchCommitter = mock(JobBatchCommitter.class);
+    private final List<List<Job>> committed = new CopyOnWriteArrayList<>();
+    private final Set<String> committingThreads = ConcurrentHashMap.newKeySet();
+    private ThreadPoolTaskExecutor ingestionExecutor;
+
+    @AfterEach
+    void stopBoard() {
+        board.close();
+        if (ingestionExecutor != null) {
+            ingestionExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void ingestsEveryPageInMicroBatchesOnEachStagesOwnThreads() throws Exception {
+        start(8, 200);
+        ScraperProperties.Pipeline config = properties.getPipeline();
+        config.setFetchParallelism(4);
+        config.setPersistParallelism(2);
+        config.setBatchSize(25);
+        AtomicInteger fetching = new AtomicInteger();
+        AtomicInteger maxFetching = new AtomicInteger();
+        doAnswer(invocation -> {
+            maxFetching.accumulateAndGet(fetching.incrementAndGet(), Math::max);
+            try {
+                return invocation.callRealMethod();
+            } finally {
+                fetching.decrementAndGet();
+            }
+        }).when(scraperService).fetch(any());
+        // The first page is listed twice; its jobs are only handed to persist once
+        List<PageRequest> pages = new ArrayList<>(scraperService.searchPages());
+        pages.add(pages.get(0));
+
+        IngestionResult result = pipeline().start(pages).getCompletion().get(30, TimeUnit.SECONDS);
+
+        assertTrue(result.isCompleted());
+        assertEquals(9, result.getPagesFetched());
+        assertEquals(0, result.getPagesFailed());
+        assertEquals(9 * JOBS_PER_PAGE, result.getJobsParsed());
+        assertEquals(8 * JOBS_PER_PAGE, result.getSaved());
+        assertEquals(JOBS_PER_PAGE, result.getDuplicates());
+        assertEquals(committed.size(), result.getBatchesCommitted());
+        assertTrue(committed.stream().allMatch(batch -> batch.size() <= 25), "batch sizes " + batchSizes());
+        assertEquals(8 * JOBS_PER_PAGE, committed.stream().flatMap(List::stream).map(Job::getId).distinct().count());
+        assertEquals(4, maxFetching.get());
+        assertTrue(committingThreads.stream().allMatch(name -> name.matches("Ingest-\\d+-persist-[12]")),
+                committingThreads.toString());
+    }
+
+    @Test
+    void stalledCommitsStopFetchingOnceTheChannelsAreFull() throws Exception {
+        start(30, 10);
+        ScraperProperties.Pipeline config = properties.getPipeline();
+        config.setFetchParallelism(1);
+        config.setParseParallelism(1);
+        config.setEnrichParallelism(1);
+        config.setPageQueueCapacity(1);
+        config.setJobQueueCapacity(10);
+        config.setBatchQueueCapacity(1);
+        config.setBatchSize(JOBS_PER_PAGE);
+        config.setBatchMaxWaitMs(50);
+        CountDownLatch committing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            committing.countDown();
+            release.await();
+            committed.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        }).when(jobBatchCommitter).commit(anyList());
+
+        IngestionRun run = pipeline().start(scraperService.searchPages());
+        assertTrue(committing.await(10, TimeUnit.SECONDS));
+        long fetchedWhileStalled = awaitQuiet(board::getSearchRequests);
+
+        // Seven batches of ten jobs fit in the channels and stages between dedupe and persist, plus a few
+        // pages' worth upstream of them; the rest of the crawl waits
+        assertTrue(fetchedWhileStalled < 20, fetchedWhileStalled + " pages fetched while persist was stalled");
+        assertFalse(run.getCompletion().isDone());
+
+        release.countDown();
+        IngestionResult result = run.getCompletion().get(30, TimeUnit.SECONDS);
+        assertEquals(30, result.getPagesFetched());
+        assertEquals(30 * JOBS_PER_PAGE, result.getSaved());
+    }
+
+    @Test
+    void failedPagesAndBatchesAreCountedWithoutStoppingTheRun() throws Exception {
+        start(6, 10);
+        properties.getPipeline().setBatchSize(JOBS_PER_PAGE);
+        AtomicInteger commits = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (commits.incrementAndGet() == 1) {
+                throw new IllegalStateException("database unavailable");
+            }
+            committed.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        }).when(jobBatchCommitter).commit(anyList());
+        List<PageRequest> pages = new ArrayList<>(scraperService.searchPages());
+        pages.add(new PageRequest(BOARD_DICE, board.getBaseUrl() + "/no-such-page"));
+
+        IngestionResult result = pipeline().start(pages).getCompletion().get(30, TimeUnit.SECONDS);
+
+        assertTrue(result.isCompleted());
+        assertEquals(6, result.getPagesFetched());
+        assertEquals(1, result.getPagesFailed());
+        assertEquals(1, result.getBatchesFailed());
+        assertEquals(committed.size(), result.getBatchesCommitted());
+        int lost = 6 * JOBS_PER_PAGE - committed.stream().mapToInt(List::size).sum();
+        assertTrue(lost > 0 && lost <= JOBS_PER_PAGE, lost + " jobs in the failed batch");
+        assertEquals(6 * JOBS_PER_PAGE - lost, result.getSaved());
+    }
+
+    @Test
+    void runBeyondThePoolFailsWhileTheRunningOneCompletes() throws Exception {
+        start(3, 10);
+        properties.getPipeline().setMaxConcurrentRuns(1);
+        CountDownLatch committing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            committing.countDown();
+            release.await();
+            committed.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        }).when(jobBatchCommitter).commit(anyList());
+        IngestionPipeline pipeline = pipeline();
+
+        IngestionRun first = pipeline.start(scraperService.searchPages());
+        assertTrue(committing.await(10, TimeUnit.SECONDS));
+        IngestionRun second = pipeline.start(scraperService.searchPages());
+
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> second.getCompletion().get(10, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+        release.countDown();
+        IngestionResult result = first.getCompletion().get(30, TimeUnit.SECONDS);
+        assertEquals(3 * JOBS_PER_PAGE, result.getSaved());
+        // The second run's workers gave their threads back, so the pool takes a new run again
+        assertEquals(0, awaitQuiet(() -> ingestionExecutor.getActiveCount()));
+        assertTrue(pipeline.start(scraperService.searchPages()).getCompletion().get(30, TimeUnit.SECONDS).isCompleted());
+    }
+
+    private void start(int pages, int latencyMs) throws IOException {
+        board = MockDiceServer.builder().pages(pages).jobsPerPage(JOBS_PER_PAGE).latencyMs(latencyMs).build().start();
+        properties = new ScraperProperties();
+        properties.getDice().setBaseUrl(board.getBaseUrl());
+        properties.getDice().setPages(pages);
+        properties.getResilience().setHedgeEnabled(false);
+        scraperService = spy(new ScraperService(new BoardFetcher(properties, new SimpleMeterRegistry()), properties,
+                new ObjectMapper()));
+        when(jobBatchCommitter.withoutExisting(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jobBatchCommitter.commit(anyList())).thenAnswer(invocation -> {
+            committingThreads.add(Thread.currentThread().getName());
+            committed.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+    }
+
+    private IngestionPipeline pipeline() {
+        JobEnricher jobEnricher = mock(JobEnricher.class);
+        SkillExtractor skillExtractor = mock(SkillExtractor.class);
+        ingestionExecutor = (ThreadPoolTaskExecutor) new AsyncConfig().ingestionExecutor(properties);
+        return new IngestionPipeline(scraperService, new JobNormalizer(), jobBatchCommitter, jobEnricher,
+                skillExtractor, properties, ingestionExecutor);
+    }
+
+    private List<Integer> batchSizes() {
+        return committed.stream().map(List::size).collect(Collectors.toList());
+    }
+
+    // The counter's value once it has stopped moving for half a second
+    private static long awaitQuiet(LongSupplier counter) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        long last = counter.getAsLong();
+        while (System.currentTimeMillis() < deadline) {
+            Thread.sleep(500);
+            long current = counter.getAsLong();
+            if (current == last) {
+                return current;
+            }
+            last = current;
+        }
+        return fail("counter still moving after 10 s");
+    }
+}
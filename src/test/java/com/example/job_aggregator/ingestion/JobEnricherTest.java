@@ -0,0 +1,159 @@
+package com.example.job_aggregator.ingestion;
+
+import com.example.job_aggregator.config.ScraperProperties;
+import com.example.job_aggregator.model.Job;
+import com.example.job_aggregator.resilience.BoardFetcher;
+import com.example.job_aggregator.service.ScraperService;
+import com.example.job_aggregator.support.MockDiceServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Drives {@link JobEnricher} against two local {@link MockDiceServer}s, one slow and one fast, reached
+ * under different host names: details applied, failures and late pages leaving the card data alone, and
+ * each host gated on its own.
+ */
+class JobEnricherTest {
+
+    private static final int JOBS_PER_BOARD = 8;
+    private static final int SLOW_DETAIL_MS = 500;
+
+    private MockDiceServer slowBoard;
+    private MockDiceServer fastBoard;
+    private ScraperProperties properties;
+    private ScraperService scraperService;
+    private JobEnricher jobEnricher;
+
+    // Per host: detail fetches in flight, the most seen at once, and when the first and last one finished
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> maxInFlight = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> firstFinished = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> lastFinished = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void startBoards() throws Exception {
+        slowBoard = MockDiceServer.builder().pages(1).jobsPerPage(JOBS_PER_BOARD)
+                .detailLatencyMs(SLOW_DETAIL_MS).build().start();
+        fastBoard = MockDiceServer.builder().pages(1).jobsPerPage(JOBS_PER_BOARD).detailLatencyMs(10).build().start();
+        properties = new ScraperProperties();
+        properties.getResilience().setHedgeEnabled(false);
+        properties.getEnrichment().setMaxConcurrency(8);
+        properties.getEnrichment().setMaxConcurrencyPerHost(2);
+        scraperService = spy(new ScraperService(new BoardFetcher(properties, new SimpleMeterRegistry()), properties,
+                new ObjectMapper()));
+        doAnswer(invocation -> {
+            String host = URI.create(invocation.<Job>getArgument(0).getSourceUrl()).getHost();
+            int current = inFlight.computeIfAbsent(host, h -> new AtomicInteger()).incrementAndGet();
+            maxInFlight.computeIfAbsent(host, h -> new AtomicInteger()).accumulateAndGet(current, Math::max);
+            try {
+                return invocation.callRealMethod();
+            } finally {
+                inFlight.get(host).decrementAndGet();
+                long now = System.nanoTime();
+                firstFinished.computeIfAbsent(host, h -> new AtomicLong(now));
+                lastFinished.computeIfAbsent(host, h -> new AtomicLong()).accumulateAndGet(now, Math::max);
+            }
+        }).when(scraperService).fetchDetails(any());
+    }
+
+    @AfterEach
+    void stopBoards() {
+        if (jobEnricher != null) {
+            jobEnricher.shutdown();
+        }
+        slowBoard.close();
+        fastBoard.close();
+    }
+
+    @Test
+    void detailsAreAppliedAndFailedPagesKeepTheCardData() throws Exception {
+        List<Job> jobs = cards(fastBoard, "127.0.0.1");
+        Job missing = cards(fastBoard, "127.0.0.1").get(0);
+        missing.setId("missing");
+        missing.setSourceUrl(fastBoard.getBaseUrl() + "/job-detail/not-a-job");
+        String cardDescription = missing.getDescription();
+        Map<String, Integer> cardLengths = jobs.stream()
+                .collect(Collectors.toMap(Job::getId, job -> job.getDescription().length()));
+        List<Job> batch = new ArrayList<>(jobs);
+        batch.add(missing);
+
+        int enriched = enricher().enrich(batch);
+
+        assertEquals(JOBS_PER_BOARD, enriched);
+        for (Job job : jobs) {
+            assertTrue(job.getDescription().length() > cardLengths.get(job.getId()), job.getId());
+            assertNotNull(job.getSalary(), job.getId());
+            assertNotNull(job.getPostedAt(), job.getId());
+        }
+        assertEquals(cardDescription, missing.getDescription());
+        assertNull(missing.getPostedAt());
+        assertEquals(JOBS_PER_BOARD + 1, fastBoard.getDetailRequests());
+    }
+
+    @Test
+    void aSlowHostDoesNotHoldBackTheOthers() throws Exception {
+        // Same loopback interface, but a different host name and so a different gate
+        List<Job> batch = new ArrayList<>(cards(slowBoard, "127.0.0.1"));
+        batch.addAll(cards(fastBoard, "localhost"));
+
+        int enriched = enricher().enrich(batch);
+
+        assertEquals(2 * JOBS_PER_BOARD, enriched);
+        assertEquals(2, maxInFlight.get("127.0.0.1").get());
+        assertTrue(maxInFlight.get("localhost").get() <= 2);
+        // Every fast page was back before the first slow one, although the slow jobs were queued first
+        assertTrue(lastFinished.get("localhost").get() < firstFinished.get("127.0.0.1").get());
+    }
+
+    @Test
+    void pagesNotBackWithinTheBatchTimeoutAreAbandoned() throws Exception {
+        properties.getEnrichment().setBatchTimeoutMs(150);
+        List<Job> jobs = cards(slowBoard, "127.0.0.1");
+        List<String> cardDescriptions = jobs.stream().map(Job::getDescription).collect(Collectors.toList());
+
+        long started = System.nanoTime();
+        int enriched = enricher().enrich(jobs);
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+        assertEquals(0, enriched);
+        assertTrue(elapsedMs < SLOW_DETAIL_MS, "enrich took " + elapsedMs + " ms");
+        // Once the two fetches in flight return, the queued jobs see their batch gave up and are skipped,
+        // and the late results are never applied
+        Thread.sleep(3 * SLOW_DETAIL_MS);
+        assertEquals(2, slowBoard.getDetailRequests());
+        assertEquals(cardDescriptions, jobs.stream().map(Job::getDescription).collect(Collectors.toList()));
+        assertTrue(jobs.stream().allMatch(job -> job.getSalary() == null));
+    }
+
+    private JobEnricher enricher() {
+        jobEnricher = new JobEnricher(scraperService, new JobNormalizer(), properties);
+        return jobEnricher;
+    }
+
+    // The board's search-card jobs, with their detail links pointing at the given host name
+    private List<Job> cards(MockDiceServer board, String host) throws Exception {
+        properties.getDice().setBaseUrl(board.getBaseUrl().replace("127.0.0.1", host));
+        FetchedPage page = scraperService.fetch(scraperService.searchPages().get(0));
+        List<Job> jobs = scraperService.parse(page);
+        JobNormalizer normalizer = new JobNormalizer();
+        jobs.forEach(normalizer::normalize);
+        assertEquals(JOBS_PER_BOARD, jobs.size());
+        return jobs;
+    }
+}
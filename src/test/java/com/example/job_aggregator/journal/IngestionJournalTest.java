@@ -0,0 +1,184 @@
+package com.example.job_aggregator.journal;
+
+import com.example.job_aggregator.config.ScraperProperties;
+import com.example.job_aggregator.model.Job;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Recovery guarantees of the journal over a temporary directory: torn tails, the checkpoint around
+ * failed commits, and reads spanning several segments.
+ */
+class IngestionJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<IngestionJournal> opened = new ArrayList<>();
+
+    @AfterEach
+    void closeJournals() throws IOException {
+        for (IngestionJournal journal : opened) {
+            journal.close();
+        }
+    }
+
+    @Test
+    void tornTailIsTruncatedWhenReopened() throws Exception {
+        IngestionJournal journal = open(64L * 1024 * 1024);
+        journal.append(jobs("a", 3));
+        journal.append(jobs("b", 2));
+        long end = journal.getEnd();
+        journal.close();
+
+        // Crash mid-write: a record header promising more bytes than made it to disk
+        Path segment = segments().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.allocate(20).putInt(500).putInt(42).putLong(7).flip());
+        }
+
+        IngestionJournal reopened = open(64L * 1024 * 1024);
+        assertEquals(end, reopened.getEnd());
+        assertEquals(end, Files.size(segment));
+        reopened.append(jobs("c", 1));
+        assertEquals(List.of("a-0", "a-1", "a-2", "b-0", "b-1", "c-0"), readIds(reopened, 0, reopened.getEnd()));
+    }
+
+    @Test
+    void checkpointStopsAtTheFirstBatchNotCommitted() throws Exception {
+        IngestionJournal journal = open(64L * 1024 * 1024);
+        JournalRange first = journal.append(jobs("a", 1));
+        JournalRange second = journal.append(jobs("b", 1));
+        JournalRange third = journal.append(jobs("c", 1));
+
+        journal.committed(first);
+        assertEquals(first.end(), journal.getCheckpoint());
+        journal.failed(second);
+        journal.committed(third);
+        assertEquals(second.start(), journal.getCheckpoint());
+        assertEquals(List.of(second), journal.failedRanges());
+
+        // Persisted: a restart resumes from the failed batch
+        journal.close();
+        IngestionJournal reopened = open(64L * 1024 * 1024);
+        assertEquals(second.start(), reopened.getCheckpoint());
+        assertEquals(List.of("b-0", "c-0"), readIds(reopened, reopened.getCheckpoint(), reopened.getEnd()));
+    }
+
+    @Test
+    void recoveredBatchLetsTheCheckpointPassIt() throws Exception {
+        IngestionJournal journal = open(64L * 1024 * 1024);
+        JournalRange first = journal.append(jobs("a", 1));
+        JournalRange second = journal.append(jobs("b", 1));
+        journal.failed(first);
+        journal.committed(second);
+        assertEquals(first.start(), journal.getCheckpoint());
+
+        journal.committed(first);
+        assertEquals(second.end(), journal.getCheckpoint());
+        assertTrue(journal.failedRanges().isEmpty());
+
+        // A checkpoint set after replay also drops failed batches before it
+        JournalRange third = journal.append(jobs("c", 1));
+        journal.failed(third);
+        journal.checkpoint(journal.getEnd());
+        assertEquals(third.end(), journal.getCheckpoint());
+        assertTrue(journal.failedRanges().isEmpty());
+    }
+
+    @Test
+    void readsSpanSegmentRolls() throws Exception {
+        IngestionJournal journal = open(2048);
+        List<JournalRange> ranges = new ArrayList<>();
+        for (int batch = 0; batch < 20; batch++) {
+            ranges.add(journal.append(jobs("batch" + batch, 5)));
+        }
+        assertTrue(segments().size() > 3, "expected several segments, found " + segments().size());
+
+        List<String> all = readIds(journal, 0, journal.getEnd());
+        assertEquals(100, all.size());
+        assertEquals("batch0-0", all.get(0));
+        assertEquals("batch19-4", all.get(99));
+
+        // A batch in a later segment, and a range starting in one segment and ending in the next
+        JournalRange middle = ranges.get(12);
+        assertEquals(ids("batch12", 5), readIds(journal, middle.start(), middle.end()));
+        List<String> spanning = readIds(journal, ranges.get(3).start(), ranges.get(15).end());
+        assertEquals(13 * 5, spanning.size());
+        assertEquals("batch3-0", spanning.get(0));
+        assertEquals("batch15-4", spanning.get(spanning.size() - 1));
+
+        // Reopening continues in the last segment
+        journal.close();
+        IngestionJournal reopened = open(2048);
+        reopened.append(jobs("after", 1));
+        assertEquals(101, readIds(reopened, 0, reopened.getEnd()).size());
+    }
+
+    @Test
+    void readHandsOverChunksOfTheRequestedSize() throws Exception {
+        IngestionJournal journal = open(64L * 1024 * 1024);
+        journal.append(jobs("a", 7));
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        int count = journal.read(0, journal.getEnd(), 3, chunk -> chunkSizes.add(chunk.size()));
+
+        assertEquals(7, count);
+        assertEquals(List.of(3, 3, 1), chunkSizes);
+    }
+
+    private IngestionJournal open(long segmentSizeBytes) throws IOException {
+        ScraperProperties properties = new ScraperProperties();
+        properties.getJournal().setDirectory(directory.toString());
+        properties.getJournal().setFsync(false);
+        properties.getJournal().setSegmentSizeBytes(segmentSizeBytes);
+        IngestionJournal journal = new IngestionJournal(properties);
+        journal.open();
+        opened.add(journal);
+        return journal;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+    }
+
+    private static List<String> readIds(IngestionJournal journal, long from, long to) throws IOException {
+        List<String> ids = new ArrayList<>();
+        journal.read(from, to, 4, chunk -> chunk.forEach(job -> ids.add(job.getId())));
+        return ids;
+    }
+
+    static List<Job> jobs(String prefix, int count) {
+        return ids(prefix, count).stream().map(id -> {
+            Job job = new Job();
+            job.setId(id);
+            job.setTitle("Java Engineer " + id);
+            job.setCompany("Acme");
+            job.setSourceUrl("https://example.com/" + id);
+            job.setJobBoard("Dice");
+            job.setDescription("Builds services in Java and Kotlin.");
+            return job;
+        }).collect(Collectors.toList());
+    }
+
+    private static List<String> ids(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> prefix + "-" + i).collect(Collectors.toList());
+    }
+}
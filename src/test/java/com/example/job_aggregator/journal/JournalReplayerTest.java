@@ -0,0 +1,148 @@
+package com.example.job_aggregator.journal;
+
+import com.example.job_aggregator.config.ScraperProperties;
+import com.example.job_aggregator.ingestion.JobBatchWriter;
+import com.example.job_aggregator.model.Job;
+import com.example.job_aggregator.repository.JobRepository;
+import com.example.job_aggregator.skills.SkillExtractor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.example.job_aggregator.journal.IngestionJournalTest.jobs;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Startup replay and failed-commit recovery from a real journal into a mocked database, which reports
+ * the jobs it already holds.
+ */
+class JournalReplayerTest {
+
+    @TempDir
+    Path directory;
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final JobBatchWriter jobBatchWriter = mock(JobBatchWriter.class);
+    private final SkillExtractor skillExtractor = mock(SkillExtractor.class);
+    private final List<String> stored = new ArrayList<>();
+    private final List<String> announced = new ArrayList<>();
+
+    private IngestionJournal journal;
+    private JournalReplayer replayer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ScraperProperties properties = new ScraperProperties();
+        properties.getJournal().setDirectory(directory.toString());
+        properties.getJournal().setFsync(false);
+        journal = new IngestionJournal(properties);
+        journal.open();
+        replayer = new JournalReplayer(journal, jobRepository, jobBatchWriter, skillExtractor);
+
+        when(jobRepository.count()).thenAnswer(invocation -> (long) stored.size());
+        when(jobRepository.findAllIdsByIdIn(any())).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            return ids.stream().filter(stored::contains).collect(Collectors.toList());
+        });
+        doAnswer(invocation -> {
+            List<Job> jobs = invocation.getArgument(0);
+            jobs.forEach(job -> stored.add(job.getId()));
+            return null;
+        }).when(jobBatchWriter).restore(anyList());
+        doAnswer(invocation -> {
+            List<Job> jobs = invocation.getArgument(0);
+            jobs.forEach(job -> {
+                stored.add(job.getId());
+                announced.add(job.getId());
+            });
+            return null;
+        }).when(jobBatchWriter).persist(anyList());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        journal.close();
+    }
+
+    @Test
+    void emptyDatabaseGetsTheWholeJournalBack() throws Exception {
+        journal.committed(journal.append(jobs("a", 3)));
+        journal.committed(journal.append(jobs("b", 2)));
+        assertEquals(journal.getEnd(), journal.getCheckpoint());
+
+        replayer.replayOnStartup();
+
+        assertEquals(List.of("a-0", "a-1", "a-2", "b-0", "b-1"), stored);
+        assertTrue(announced.isEmpty(), "a startup restore must not announce jobs");
+        assertEquals(journal.getEnd(), journal.getCheckpoint());
+    }
+
+    @Test
+    void populatedDatabaseOnlyGetsBatchesAfterTheCheckpoint() throws Exception {
+        journal.committed(journal.append(jobs("a", 2)));
+        stored.addAll(List.of("a-0", "a-1"));
+        // Appended, but the process died before the commit; one job of it made it anyway
+        journal.append(jobs("b", 3));
+        stored.add("b-1");
+
+        replayer.replayOnStartup();
+
+        assertEquals(List.of("a-0", "a-1", "b-1", "b-0", "b-2"), stored);
+        verify(jobRepository, never()).findAllIdsByIdIn(argThat(ids -> ids.contains("a-0")));
+        assertEquals(journal.getEnd(), journal.getCheckpoint());
+    }
+
+    @Test
+    void failedCommitIsRecoveredAndAnnounced() throws Exception {
+        JournalRange first = journal.append(jobs("a", 2));
+        journal.failed(first);
+        journal.committed(journal.append(jobs("b", 1)));
+        stored.add("b-0");
+        assertEquals(first.start(), journal.getCheckpoint());
+
+        replayer.recoverFailedCommits();
+
+        assertEquals(List.of("a-0", "a-1"), announced);
+        assertTrue(journal.failedRanges().isEmpty());
+        assertEquals(journal.getEnd(), journal.getCheckpoint());
+    }
+
+    @Test
+    void batchThatStillFailsStaysForTheNextAttempt() throws Exception {
+        journal.committed(journal.append(jobs("a", 1)));
+        stored.add("a-0");
+        JournalRange range = journal.append(jobs("b", 2));
+        journal.failed(range);
+        doThrow(new IllegalStateException("database down")).when(jobBatchWriter).persist(anyList());
+
+        replayer.recoverFailedCommits();
+
+        assertEquals(List.of(range), journal.failedRanges());
+        assertEquals(range.start(), journal.getCheckpoint());
+    }
+
+    @Test
+    void recordsWithoutSkillsAreTaggedOnReplay() throws Exception {
+        List<Job> batch = jobs("a", 2);
+        batch.get(1).setSkills("java");
+        journal.append(batch);
+
+        replayer.replayOnStartup();
+
+        verify(skillExtractor).tag(argThat(job -> job.getId().equals("a-0")));
+        verify(skillExtractor, never()).tag(argThat(job -> job.getId().equals("a-1")));
+        assertEquals(Set.of("a-0", "a-1"), Set.copyOf(stored));
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.job_aggregator.profiling;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The ops profile serves the flight recording endpoint on the loopback management port only, never on the
+ * public API port.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "management.server.port=0")
+@ActiveProfiles("ops")
+class FlightRecordingExposureTest {
+
+    @LocalServerPort
+    private int port;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:jfr-exposure-" + UUID.randomUUID());
+        registry.add("scraper.journal.directory", () -> tempDirectory("journal"));
+        registry.add("scraper.journal.fsync", () -> "false");
+        registry.add("scraper.snapshot.enabled", () -> "false");
+    }
+
+    @Test
+    void recordingsAreOnlyServedOnTheManagementPort() throws Exception {
+        assertNotEquals(port, managementPort);
+        HttpResponse<String> status = get(managementPort, "/api/actuator/jfr");
+        assertEquals(200, status.statusCode());
+        assertTrue(status.body().contains("\"state\""), status.body());
+
+        // The public port has no actuator at all; unknown paths there fall through to the API's error handling
+        HttpResponse<String> publicStatus = get(port, "/api/actuator/jfr");
+        assertNotEquals(200, publicStatus.statusCode());
+        assertFalse(publicStatus.body().contains("\"state\""), publicStatus.body());
+        assertNotEquals(200, get(port, "/api/actuator/health").statusCode());
+    }
+
+    private HttpResponse<String> get(int port, String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + path)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String tempDirectory(String prefix) {
+        try {
+            return Files.createTempDirectory(prefix).toString();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
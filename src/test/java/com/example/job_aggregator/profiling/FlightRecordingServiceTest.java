@@ -0,0 +1,121 @@
+package com.example.job_aggregator.profiling;
+
+import com.example.job_aggregator.config.ProfilingProperties;
+import com.example.job_aggregator.resource.RecordingResource;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Starting, downloading and stopping the on-demand flight recording, and the application's events in it.
+ */
+class FlightRecordingServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private FlightRecordingService service;
+
+    @BeforeEach
+    void setUp() {
+        ProfilingProperties properties = new ProfilingProperties();
+        properties.setDirectory(directory.toString());
+        properties.setSettings("default");
+        properties.setMaxDurationSeconds(120);
+        service = new FlightRecordingService(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void recordsApplicationEventsWithTheirAttributes() throws Exception {
+        RecordingResource started = service.start(60, null);
+        assertEquals("RUNNING", started.getState());
+        assertEquals("default", started.getSettings());
+        assertEquals(60L, started.getDurationSeconds());
+
+        BoardFetchEvent fetch = new BoardFetchEvent();
+        fetch.begin();
+        fetch.setBoard("Dice");
+        fetch.setUrl("https://www.dice.com/jobs?q=java");
+        fetch.setAttempts(2);
+        fetch.setBytes(48_213);
+        fetch.setOutcome("success");
+        fetch.commit();
+        SearchQueryEvent query = new SearchQueryEvent();
+        query.begin();
+        query.setKeyword("java");
+        query.setSource("read model");
+        query.setRows(17);
+        query.commit();
+
+        // Downloading while running hands out a copy of what has been recorded so far
+        Path partial = service.download(started.getId()).orElseThrow();
+        List<RecordedEvent> events = applicationEvents(partial);
+        RecordedEvent recordedFetch = only(events, "jobaggregator.BoardFetch");
+        assertEquals("Dice", recordedFetch.getString("board"));
+        assertEquals(2, recordedFetch.getInt("attempts"));
+        assertEquals(48_213L, recordedFetch.getLong("bytes"));
+        assertEquals("success", recordedFetch.getString("outcome"));
+        RecordedEvent recordedQuery = only(events, "jobaggregator.SearchQuery");
+        assertEquals("java", recordedQuery.getString("keyword"));
+        assertEquals(17, recordedQuery.getInt("rows"));
+
+        RecordingResource stopped = service.stop();
+        assertEquals("CLOSED", stopped.getState());
+        Path file = service.download(started.getId()).orElseThrow();
+        assertEquals(Path.of(stopped.getFile()), file);
+        assertEquals(1, applicationEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("jobaggregator.BoardFetch")).count());
+    }
+
+    @Test
+    void onlyOneBoundedRecordingAtATime() throws Exception {
+        assertEquals("NONE", service.status().getState());
+        assertThrows(IllegalStateException.class, service::stop);
+        assertThrows(IllegalArgumentException.class, () -> service.start(0, null));
+        assertThrows(IllegalArgumentException.class, () -> service.start(121, null));
+        assertThrows(IllegalArgumentException.class, () -> service.start(10, "no-such-settings"));
+        assertThrows(IllegalArgumentException.class, () -> service.start(10, "../default"));
+
+        RecordingResource first = service.start(10, null);
+        assertThrows(IllegalStateException.class, () -> service.start(10, null));
+        assertTrue(service.download(first.getId() + 1).isEmpty());
+        service.stop();
+        Path firstFile = Path.of(first.getFile());
+        assertTrue(Files.exists(firstFile));
+
+        // A new recording replaces the previous one, files included
+        RecordingResource second = service.start(10, "profile");
+        assertNotEquals(first.getId(), second.getId());
+        assertFalse(Files.exists(firstFile));
+        assertTrue(service.download(first.getId()).isEmpty());
+    }
+
+    private static List<RecordedEvent> applicationEvents(Path file) throws Exception {
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("jobaggregator."))
+                .collect(Collectors.toList());
+    }
+
+    private static RecordedEvent only(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+        assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.job_aggregator.readmodel;
+
+import com.example.job_aggregator.event.JobsIngestedEvent;
+import com.example.job_aggregator.mapper.JobMapper;
+import com.example.job_aggregator.model.Job;
+import com.example.job_aggregator.repository.JobRepository;
+import com.example.job_aggregator.repository.JobSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * The periodic consistency check against a mocked repository: it must not hold ingestion up while it
+ * scans, must not mistake jobs committed during the scan for drift, and must still repair real drift.
+ */
+class JobReadModelTest {
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final JobSnapshotStore jobSnapshotStore = mock(JobSnapshotStore.class);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private JobReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        when(jobRepository.findAllSummaries()).thenReturn(List.of(summary("job-1"), summary("job-2")));
+        when(jobRepository.findDescriptionsByIdIn(any())).thenReturn(List.of());
+        readModel = new JobReadModel(jobRepository, new JobMapper(), jobSnapshotStore);
+        readModel.warmUp();
+        assertEquals(2, readModel.size());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void ingestionIsNotHeldUpByTheScan() throws Exception {
+        CountDownLatch scanning = new CountDownLatch(1);
+        CountDownLatch finishScan = new CountDownLatch(1);
+        when(jobRepository.findAllIds()).thenAnswer(invocation -> {
+            scanning.countDown();
+            finishScan.await();
+            // The scan saw the batch committed while it ran
+            return List.of("job-1", "job-2", "job-3");
+        });
+        Future<?> check = executor.submit(readModel::verifyConsistency);
+        assertTrue(scanning.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture.runAsync(() -> readModel.onJobsIngested(new JobsIngestedEvent(List.of(job("job-3")))))
+                .get(5, TimeUnit.SECONDS);
+        assertEquals(3, readModel.size());
+
+        finishScan.countDown();
+        check.get(5, TimeUnit.SECONDS);
+        // Warm-up only: the batch committed during the scan did not count as drift
+        verify(jobRepository, times(1)).findAllSummaries();
+        assertEquals(3, readModel.size());
+    }
+
+    @Test
+    void jobMissingFromTheStoreIsCaughtUpWithoutARebuild() {
+        when(jobRepository.findAllIds()).thenReturn(List.of("job-1", "job-2", "job-3"));
+        when(jobRepository.findSummariesByIdIn(List.of("job-3"))).thenReturn(List.of(summary("job-3")));
+
+        readModel.verifyConsistency();
+
+        assertEquals(3, readModel.size());
+        verify(jobRepository, times(1)).findAllSummaries();
+    }
+
+    @Test
+    void jobDeletedFromTheDatabaseTriggersARebuild() {
+        when(jobRepository.findAllIds()).thenReturn(List.of("job-1"));
+        when(jobRepository.findAllSummaries()).thenReturn(List.of(summary("job-1")));
+
+        readModel.verifyConsistency();
+
+        assertEquals(1, readModel.size());
+        assertTrue(readModel.findById("job-2").isEmpty());
+    }
+
+    private static JobSummary summary(String id) {
+        return new JobSummary(id, "Java Engineer", "Acme", "Remote", "https://example.com/" + id, "Dice",
+                null, null, null, "java");
+    }
+
+    private static Job job(String id) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle("Java Engineer");
+        job.setCompany("Acme");
+        job.setSourceUrl("https://example.com/" + id);
+        job.setJobBoard("Dice");
+        job.setSkills("java");
+        return job;
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.job_aggregator.readmodel;
+
+import com.example.job_aggregator.config.ScraperProperties;
+import com.example.job_aggregator.resource.JobResource;
+import com.example.job_aggregator.resource.SkillFacetResource;
+import com.example.job_aggregator.search.SearchCriteria;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Round trip of {@link ColumnarJobStore} through {@link JobSnapshotStore}, and rejection of snapshots
+ * that fail validation.
+ */
+class JobSnapshotStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path path;
+    private JobSnapshotStore snapshots;
+
+    @BeforeEach
+    void setUp() {
+        path = tempDir.resolve("snapshot/jobs.snapshot");
+        ScraperProperties properties = new ScraperProperties();
+        properties.getSnapshot().setPath(path.toString());
+        snapshots = new JobSnapshotStore(properties);
+    }
+
+    @Test
+    void restoresEveryColumn() throws Exception {
+        ColumnarJobStore.Builder builder = ColumnarJobStore.builder();
+        for (int i = 0; i < 100; i++) {
+            builder.append(job(i), i % 10 == 0 ? null : "Description of job " + i);
+        }
+        ColumnarJobStore original = builder.build();
+        snapshots.save(original);
+
+        ColumnarJobStore restored = snapshots.load().orElseThrow().build();
+
+        assertEquals(original.size(), restored.size());
+        for (int row = 0; row < original.size(); row++) {
+            assertEquals(original.toResource(row), restored.toResource(row));
+            assertEquals(original.description(row), restored.description(row));
+            assertEquals(row, restored.rowOf(original.id(row)));
+        }
+        assertEquals(-1, restored.rowOf("job-missing"));
+        assertEquals(10, restored.rowsForBoard("Board-0").length);
+        assertEquals(original.skillFacets(), restored.skillFacets());
+        assertArrayEquals(original.rowsWithSkills(List.of("java", "kafka")), restored.rowsWithSkills(List.of("java", "kafka")));
+    }
+
+    @Test
+    void skillIndexAnswersFiltersAndFacets() {
+        ColumnarJobStore.Builder builder = ColumnarJobStore.builder();
+        for (int i = 0; i < 30; i++) {
+            builder.append(job(i), null);
+        }
+        ColumnarJobStore view = builder.build();
+        // Rows appended later must not show up in the earlier view's postings
+        builder.append(job(30), null);
+
+        assertEquals(30, view.rowsWithSkills(List.of("java")).length);
+        assertArrayEquals(new int[]{0, 6, 12, 18, 24}, view.rowsWithSkills(List.of("kafka", "spring-boot")));
+        assertEquals(0, view.rowsWithSkills(List.of("java", "cobol")).length);
+        assertArrayEquals(new int[]{0, 12, 24},
+                view.search(SearchCriteria.of(null, "city 0", null, List.of("Spring Boot", "kafka"))));
+        assertEquals(List.of(new SkillFacetResource("java", 30), new SkillFacetResource("spring-boot", 15),
+                new SkillFacetResource("kafka", 10)), view.skillFacets());
+        assertEquals(List.of(new SkillFacetResource("java", 2), new SkillFacetResource("kafka", 1),
+                new SkillFacetResource("spring-boot", 1)), view.skillFacets(new int[]{0, 1}));
+        assertEquals(List.of("java", "kafka", "spring-boot"), view.skills(0));
+        assertEquals(List.of("java"), view.skills(1));
+    }
+
+    @Test
+    void restoredBuilderKeepsAppending() throws Exception {
+        ColumnarJobStore.Builder builder = ColumnarJobStore.builder();
+        for (int i = 0; i < 20; i++) {
+            builder.append(job(i), "text");
+        }
+        ColumnarJobStore view = builder.build();
+        // Rows appended after the view was built must not leak into its snapshot
+        builder.append(job(20), "text");
+        snapshots.save(view);
+
+        ColumnarJobStore.Builder restored = snapshots.load().orElseThrow();
+        assertEquals(20, restored.size());
+        assertFalse(restored.contains("job-20"));
+        assertFalse(restored.append(job(5), "again"));
+        for (int i = 20; i < 200; i++) {
+            assertTrue(restored.append(job(i), "text " + i));
+        }
+        ColumnarJobStore grown = restored.build();
+        assertEquals(200, grown.size());
+        for (int i = 0; i < 200; i++) {
+            assertEquals("job-" + i, grown.id(grown.rowOf("job-" + i)));
+        }
+    }
+
+    @Test
+    void missingSnapshotIsEmpty() {
+        assertEquals(Optional.empty(), snapshots.load());
+    }
+
+    @Test
+    void rejectsCorruptedPayload() throws Exception {
+        saveSample();
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            long position = file.length() / 2;
+            file.seek(position);
+            int value = file.read();
+            file.seek(position);
+            file.write(value ^ 0xFF);
+        }
+        assertTrue(snapshots.load().isEmpty());
+    }
+
+    @Test
+    void rejectsOtherFormatVersion() throws Exception {
+        saveSample();
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(4);
+            file.writeInt(JobSnapshotStore.FORMAT_VERSION + 1);
+        }
+        assertTrue(snapshots.load().isEmpty());
+    }
+
+    @Test
+    void rejectsTruncatedFile() throws Exception {
+        saveSample();
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.setLength(file.length() - 7);
+        }
+        assertTrue(snapshots.load().isEmpty());
+    }
+
+    @Test
+    void replacesPreviousSnapshot() throws Exception {
+        saveSample();
+        ColumnarJobStore.Builder builder = ColumnarJobStore.builder();
+        builder.append(job(42), "only");
+        snapshots.save(builder.build());
+
+        assertEquals(1, snapshots.load().orElseThrow().size());
+        assertFalse(Files.exists(path.resolveSibling("jobs.snapshot.tmp")));
+    }
+
+    private void saveSample() throws Exception {
+        ColumnarJobStore.Builder builder = ColumnarJobStore.builder();
+        for (int i = 0; i < 50; i++) {
+            builder.append(job(i), "Description of job " + i);
+        }
+        snapshots.save(builder.build());
+    }
+
+    private static JobResource job(int i) {
+        return JobResource.builder()
+                .id("job-" + i)
+                .title("Java Developer " + (i % 7))
+                .company(i % 3 == 0 ? null : "Company " + (i % 5))
+                .location("City " + (i % 4))
+                .sourceUrl("https://example.com/jobs/" + i)
+                .jobBoard("Board-" + (i % 10))
+                .salary(i % 2 == 0 ? "$120,000" : null)
+                .scrapedAt(LocalDateTime.of(2024, 5, 1, 12, 0).plusMinutes(i))
+                .postedAt(i % 4 == 0 ? null : LocalDateTime.of(2024, 4, 1, 0, 0).plusDays(i))
+                .skills(i % 6 == 0 ? List.of("java", "kafka", "spring-boot")
+                        : i % 2 == 0 ? List.of("java", "spring-boot") : i % 3 == 0 ? List.of("java", "kafka") : List.of("java"))
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.job_aggregator.readmodel;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Code lookups through {@link StringDictionary} views, including views taken before the writer appended
+ * more values and grew the shared code table.
+ */
+class StringDictionaryTest {
+
+    @Test
+    void viewsFindTheirOwnCodesOnly() {
+        StringDictionary dictionary = new StringDictionary();
+        assertEquals(StringDictionary.NULL_CODE, dictionary.encode(null));
+        int dice = dictionary.encode("Dice");
+        assertEquals(dice, dictionary.encode("Dice"));
+        StringDictionary.View early = dictionary.view();
+
+        // Enough values to resize the code table several times
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i + 2, dictionary.encode("company-" + i));
+        }
+        StringDictionary.View late = dictionary.view();
+
+        assertEquals(dice, early.codeOf("Dice"));
+        assertEquals(-1, early.codeOf("company-0"));
+        assertEquals(-1, early.codeOf(null));
+        assertEquals(dice, late.codeOf("Dice"));
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i + 2, late.codeOf("company-" + i));
+            assertEquals("company-" + i, late.decode(late.codeOf("company-" + i)));
+        }
+        assertEquals(-1, late.codeOf("dice"));
+        assertEquals(-1, late.codeOf("company-1000"));
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.job_aggregator.resilience;
+
+import com.example.job_aggregator.config.ScraperProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives {@link BoardFetcher} against a local HTTP server that answers with scripted faults.
+ */
+class BoardFetcherTest {
+
+    private static final String BOARD = "StubBoard";
+    private static final String PAGE = "<html><head><title>ok</title></head><body></body></html>";
+
+    private HttpServer server;
+    private String url;
+    private final AtomicInteger hits = new AtomicInteger();
+    // Scripted responses: status code, negative value = delay in ms before a 200, or STALL_MID_BODY
+    private final Queue<Integer> script = new ConcurrentLinkedQueue<>();
+    private static final int STALL_MID_BODY = 0;
+
+    private SimpleMeterRegistry registry;
+    private ScraperProperties properties;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/jobs", this::handle);
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/jobs";
+
+        registry = new SimpleMeterRegistry();
+        properties = new ScraperProperties();
+        ScraperProperties.Resilience resilience = properties.getResilience();
+        resilience.setTimeoutMs(2000);
+        resilience.setDeadlineMs(5000);
+        resilience.setBaseBackoffMs(10);
+        resilience.setMaxBackoffMs(50);
+        resilience.setSlidingWindowSize(4);
+        resilience.setHedgeMinSamples(5);
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        hits.incrementAndGet();
+        Integer next = script.poll();
+        int status = 200;
+        if (next != null && next == STALL_MID_BODY) {
+            stallMidBody(exchange);
+            return;
+        }
+        if (next != null && next < 0) {
+            sleep(-next);
+        } else if (next != null) {
+            status = next;
+        }
+        byte[] body = PAGE.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Test
+    void retriesTransientFailuresUntilSuccess() throws IOException {
+        script.add(503);
+        script.add(503);
+        BoardFetcher fetcher = new BoardFetcher(properties, registry);
+
+        Document document = fetcher.fetch(BOARD, url);
+
+        assertEquals("ok", document.title());
+        assertEquals(3, hits.get());
+        assertEquals(2.0, registry.get("scraper.fetch.retries").tag("board", BOARD).counter().count());
+        fetcher.shutdown();
+    }
+
+    @Test
+    void bodyStallingMidReadCountsAsFailureAndIsRetried() throws IOException {
+        properties.getResilience().setTimeoutMs(300);
+        properties.getResilience().setMaxAttempts(2);
+        script.add(STALL_MID_BODY);
+        BoardFetcher fetcher = new BoardFetcher(properties, registry);
+
+        Document document = fetcher.fetch(BOARD, url);
+
+        assertEquals("ok", document.title());
+        assertEquals(2, hits.get());
+        assertEquals(1.0, registry.get("scraper.fetch.retries").tag("board", BOARD).counter().count());
+        assertEquals(1, registry.get("scraper.fetch").tags("board", BOARD, "outcome", "failure").timer().count());
+        fetcher.shutdown();
+    }
+
+    @Test
+    void bodyStallInHalfOpenTrialReopensCircuit() throws Exception {
+        properties.getResilience().setTimeoutMs(300);
+        properties.getResilience().setMaxAttempts(1);
+        properties.getResilience().setOpenDurationMs(200);
+        for (int i = 0; i < 4; i++) {
+            script.add(500);
+        }
+        BoardFetcher fetcher = new BoardFetcher(properties, registry);
+        for (int i = 0; i < 4; i++) {
+            assertThrows(IOException.class, () -> fetcher.fetch(BOARD, url));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, fetcher.getState(BOARD));
+
+        Thread.sleep(250);
+        script.add(STALL_MID_BODY);
+        assertThrows(IOException.class, () -> fetcher.fetch(BOARD, url));
+        // The failed trial resolved the half-open state instead of leaving its permit taken
+        assertEquals(CircuitBreaker.State.OPEN, fetcher.getState(BOARD));
+
+        Thread.sleep(250);
+        assertEquals("ok", fetcher.fetch(BOARD, url).title());
+        assertEquals(CircuitBreaker.State.CLOSED, fetcher.getState(BOARD));
+        fetcher.shutdown();
+    }
+
+    @Test
+    void doesNotRetryClientErrors() {
+        script.add(404);
+        BoardFetcher fetcher = new BoardFetcher(properties, registry);
+
+        assertThrows(IOException.class, () -> fetcher.fetch(BOARD, url));
+        assertEquals(1, hits.get());
+        assertEquals(CircuitBreaker.State.CLOSED, fetcher.getState(BOARD));
+        fetcher.shutdown();
+    }
+
+    @Test
+    void opensCircuitAndFailsFastThenRecovers() throws Exception {
+        properties.getResilience().setMaxAttempts(1);
+        properties.getResilience().setOpenDurationMs(300);
+        for (int i = 0; i < 4; i++) {
+            script.add(500);
+        }
+        BoardFetcher fetcher = new BoardFetcher(properties, registry);
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(IOException.class, () -> fetcher.fetch(BOARD, url));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, fetcher.getState(BOARD));
+        assertEquals(1.0, registry.get("scraper.circuit.state").tag("board", BOARD).gauge().value());
+
+        int hitsWhenOpened = hits.get();
+        long start = System.nanoTime();
+        assertThrows(BoardUnavailableException.class, () -> fetcher.fetch(BOARD, url));
+        assertTrue(System.nanoTime() - start < 100_000_000L, "open breaker should fail fast");
+        assertEquals(hitsWhenOpened, hits.get(), "open breaker must not reach the board");
+
+        Thread.sleep(350);
+        assertEquals("ok", fetcher.fetch(BOARD, url).title());
+        assertEquals(CircuitBreaker.State.CLOSED, fetcher.getState(BOARD));
+        assertEquals(1.0, registry.get("scraper.circuit.transitions")
+                .tags("board", BOARD, "from", "HALF_OPEN", "to", "CLOSED").counter().count());
+        fetcher.shutdown();
+    }
+
+    @Test
+    void hedgesSlowRequests() throws IOException {
+        properties.getResilience().setHedgePercentile(0.9);
+        BoardFetcher fetcher = new BoardFetcher(properties, registry);
+        // Warm up the latency histogram with fast responses
+        for (int i = 0; i < 10; i++) {
+            fetcher.fetch(BOARD, url);
+        }
+
+        // A warm-up fetch a few ms over the percentile may have been hedged too
+        double hedgesBefore = registry.get("scraper.fetch.hedges").tag("board", BOARD).counter().count();
+
+        script.add(-1500);
+        long start = System.nanoTime();
+        assertEquals("ok", fetcher.fetch(BOARD, url).title());
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMs < 1000, "hedged request should win over the slow one, took " + elapsedMs + " ms");
+        assertEquals(hedgesBefore + 1, registry.get("scraper.fetch.hedges").tag("board", BOARD).counter().count());
+        fetcher.shutdown();
+    }
+
+    @Test
+    void hedgedAttemptStaysWithinItsTimeout() throws IOException {
+        ScraperProperties.Resilience resilience = properties.getResilience();
+        resilience.setTimeoutMs(1000);
+        resilience.setMaxAttempts(1);
+        resilience.setHedgePercentile(0.9);
+        BoardFetcher fetcher = new BoardFetcher(properties, registry);
+        // A slow board: the hedge goes out only after ~300 ms
+        for (int i = 0; i < 5; i++) {
+            script.add(-300);
+            fetcher.fetch(BOARD, url);
+        }
+
+        script.add(-3000);
+        script.add(-3000);
+        long start = System.nanoTime();
+        assertThrows(SocketTimeoutException.class, () -> fetcher.fetch(BOARD, url));
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(1.0, registry.get("scraper.fetch.hedges").tag("board", BOARD).counter().count());
+        assertTrue(elapsedMs < 1200, "attempt should give up after its 1000 ms timeout, took " + elapsedMs + " ms");
+        fetcher.shutdown();
+    }
+
+    @Test
+    void fetchesUnhedgedWhileEveryHedgeThreadIsBusy() throws IOException {
+        properties.getResilience().setHedgePercentile(0.9);
+        properties.getResilience().setHedgeMaxThreads(1);
+        BoardFetcher fetcher = new BoardFetcher(properties, registry);
+        for (int i = 0; i < 10; i++) {
+            fetcher.fetch(BOARD, url);
+        }
+        double hedgesBefore = registry.get("scraper.fetch.hedges").tag("board", BOARD).counter().count();
+        int hitsBefore = hits.get();
+
+        script.add(-500);
+        assertEquals("ok", fetcher.fetch(BOARD, url).title());
+
+        assertEquals(hedgesBefore, registry.get("scraper.fetch.hedges").tag("board", BOARD).counter().count());
+        assertEquals(hitsBefore + 1, hits.get());
+        fetcher.shutdown();
+    }
+
+    // Announce the full page, send half of it, then go quiet past the client's read timeout
+    private static void stallMidBody(HttpExchange exchange) throws IOException {
+        byte[] body = PAGE.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        OutputStream out = exchange.getResponseBody();
+        out.write(body, 0, body.length / 2);
+        out.flush();
+        sleep(1500);
+        exchange.close();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
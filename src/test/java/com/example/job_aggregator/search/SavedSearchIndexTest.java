@@ -0,0 +1,106 @@
+package com.example.job_aggregator.search;
+
+import com.example.job_aggregator.model.Job;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Reverse matching in {@link SavedSearchIndex}: terms shorter than an anchor, criteria spanning several
+ * fields, and jobs that share a search's anchor without satisfying it.
+ */
+class SavedSearchIndexTest {
+
+    private static final Long USER_ID = 7L;
+
+    private final SavedSearchIndex index = new SavedSearchIndex();
+
+    @Test
+    void termsShorterThanAnAnchorAreMatchedWhole() {
+        index.add(1L, USER_ID, SearchCriteria.of("Go", null, null));
+        index.add(2L, USER_ID, SearchCriteria.of(null, null, "ibm"));
+        index.add(3L, USER_ID, SearchCriteria.of("r", null, null));
+
+        Job goDeveloper = job("go", "Go Developer", "Austin", "Acme");
+        Job django = job("django", "Django Engineer", "Remote", "Initech");
+        Job ibm = job("ibm", "Researcher", "Armonk", "IBM Research");
+        // The company term only applies to the company field
+        Job ibmInTitle = job("ibm-title", "IBM Mainframe Admin", "Boston", "Globex");
+
+        Set<String> matches = matches(List.of(goDeveloper, django, ibm, ibmInTitle));
+
+        assertEquals(Set.of("1:go", "1:django", "2:ibm", "3:go", "3:django", "3:ibm", "3:ibm-title"), matches);
+    }
+
+    @Test
+    void everyFieldOfTheCriteriaMustMatch() {
+        index.add(1L, USER_ID, SearchCriteria.of("java", "berlin", null));
+        index.add(2L, USER_ID, SearchCriteria.of("engineer", "Remote", "Initech"));
+
+        Job javaInBerlin = job("java-berlin", "Senior Java Developer", "Berlin, Germany", "Acme");
+        Job javaInMunich = job("java-munich", "Java Developer", "Munich", "Acme");
+        Job pythonInBerlin = job("python-berlin", "Python Developer", "BERLIN", "Acme");
+        Job initechRemote = job("initech", "Platform Engineer", "Remote (US)", "Initech Corp");
+        Job initechOnSite = job("initech-onsite", "Platform Engineer", "Dallas", "Initech Corp");
+
+        Set<String> matches = matches(List.of(javaInBerlin, javaInMunich, pythonInBerlin, initechRemote, initechOnSite));
+
+        assertEquals(Set.of("1:java-berlin", "2:initech"), matches);
+    }
+
+    @Test
+    void jobsSharingOnlyTheAnchorAreNotMatched() {
+        // "javascript" is anchored on its middle substring "asc", which "Mascot" contains as well
+        index.add(1L, USER_ID, SearchCriteria.of("javascript", null, null));
+        // "san francisco" is the longest term, so this search is anchored on its location
+        index.add(2L, USER_ID, SearchCriteria.of("go", "San Francisco", null));
+
+        Job mascot = job("mascot", "Mascot Designer", "Orlando", "Acme");
+        Job javascript = job("javascript", "Senior JavaScript Engineer", "Remote", "Acme");
+        Job ascii = job("ascii", "ASCII Artist", "San Francisco, CA", "Acme");
+        Job goInAustin = job("go-austin", "Go Developer", "Austin", "Acme");
+        Job goInSanFrancisco = job("go-sf", "Go Developer", "San Francisco, CA", "Acme");
+
+        Set<String> matches = matches(List.of(mascot, javascript, ascii, goInAustin, goInSanFrancisco));
+
+        assertEquals(Set.of("1:javascript", "2:go-sf"), matches);
+    }
+
+    @Test
+    void replacingOrRemovingASearchMovesItsAnchor() {
+        index.add(1L, USER_ID, SearchCriteria.of("kotlin", null, null));
+        index.add(1L, USER_ID, SearchCriteria.of("scala", null, null));
+        Job kotlin = job("kotlin", "Kotlin Developer", "Remote", "Acme");
+        Job scala = job("scala", "Scala Developer", "Remote", "Acme");
+
+        assertEquals(1, index.size());
+        assertEquals(Set.of("1:scala"), matches(List.of(kotlin, scala)));
+
+        index.remove(1L);
+        assertEquals(0, index.size());
+        assertTrue(index.match(List.of(kotlin, scala)).isEmpty());
+        assertThrows(IllegalArgumentException.class,
+                () -> index.add(2L, USER_ID, SearchCriteria.of(" ", null, null)));
+    }
+
+    private Set<String> matches(List<Job> jobs) {
+        List<SavedSearchIndex.Match> matches = index.match(jobs);
+        matches.forEach(match -> assertEquals(USER_ID, match.userId()));
+        return matches.stream()
+                .map(match -> match.savedSearchId() + ":" + match.job().getId())
+                .collect(Collectors.toSet());
+    }
+
+    private static Job job(String id, String title, String location, String company) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle(title);
+        job.setLocation(location);
+        job.setCompany(company);
+        return job;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.job_aggregator.service;
+
+import com.example.job_aggregator.cluster.ScrapeCoordinator;
+import com.example.job_aggregator.exception.BadRequestException;
+import com.example.job_aggregator.ingestion.FeedImporter;
+import com.example.job_aggregator.ingestion.IngestionPipeline;
+import com.example.job_aggregator.mapper.JobMapper;
+import com.example.job_aggregator.mapper.SavedJobMapper;
+import com.example.job_aggregator.model.User;
+import com.example.job_aggregator.readmodel.JobReadModel;
+import com.example.job_aggregator.repository.JobRepository;
+import com.example.job_aggregator.repository.SavedJobRepository;
+import com.example.job_aggregator.resource.BatchItemResource;
+import com.example.job_aggregator.resource.BatchResultResource;
+import com.example.job_aggregator.similarity.SimilarJobIndex;
+import com.example.job_aggregator.skills.SkillExtractor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static com.example.job_aggregator.constants.ScrapingConstants.MAX_BATCH_SIZE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Batch validation in {@link JobService}: nothing reaches the database for an empty or oversized batch,
+ * and duplicate IDs are queried once. Per-item results are covered end to end by SavedJobBatchTest.
+ */
+class JobServiceBatchTest {
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final SavedJobRepository savedJobRepository = mock(SavedJobRepository.class);
+    private final UserService userService = mock(UserService.class);
+
+    private JobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        jobService = new JobService(jobRepository, savedJobRepository, userService, mock(JobMapper.class),
+                mock(SavedJobMapper.class), mock(ScraperService.class), mock(ApplicationEventPublisher.class),
+                mock(JobReadModel.class), mock(IngestionPipeline.class), mock(SkillExtractor.class),
+                mock(SimilarJobIndex.class), mock(FeedImporter.class), mock(ScrapeCoordinator.class));
+        User user = new User();
+        user.setId(1L);
+        when(userService.getDefaultUser()).thenReturn(user);
+    }
+
+    @Test
+    void emptyBatchesAreRejectedBeforeAnyQuery() {
+        List<String> onlyNulls = Arrays.asList(null, null);
+        List<Long> onlyNullIds = Collections.singletonList(null);
+
+        assertThrows(BadRequestException.class, () -> jobService.saveJobs(List.of()));
+        assertThrows(BadRequestException.class, () -> jobService.saveJobs(null));
+        assertThrows(BadRequestException.class, () -> jobService.saveJobs(onlyNulls));
+        assertThrows(BadRequestException.class, () -> jobService.markAllAsApplied(onlyNullIds));
+        assertThrows(BadRequestException.class, () -> jobService.deleteSavedJobs(onlyNullIds));
+
+        verifyNoInteractions(jobRepository, savedJobRepository, userService);
+    }
+
+    @Test
+    void oversizedBatchesAreRejectedBeforeAnyQuery() {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 0; id <= MAX_BATCH_SIZE; id++) {
+            ids.add(id);
+        }
+
+        assertThrows(BadRequestException.class, () -> jobService.deleteSavedJobs(ids));
+
+        verifyNoInteractions(jobRepository, savedJobRepository, userService);
+    }
+
+    @Test
+    void duplicateIdsAreQueriedAndReportedOnce() {
+        when(jobRepository.findAllIdsByIdIn(any())).thenReturn(List.of());
+        when(savedJobRepository.findSavedJobIdsByUserIdAndJobIdIn(anyLong(), any())).thenReturn(List.of());
+
+        BatchResultResource result = jobService.saveJobs(Arrays.asList("job-1", "job-2", "job-1", null));
+
+        verify(jobRepository).findAllIdsByIdIn(Set.of("job-1", "job-2"));
+        assertEquals(2, result.getRequested());
+        assertEquals(List.of("job-1", "job-2"), result.getResults().stream().map(BatchItemResource::getId).toList());
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.job_aggregator.service;
+
+import com.example.job_aggregator.cluster.ScrapeCoordinator;
+import com.example.job_aggregator.ingestion.FeedImporter;
+import com.example.job_aggregator.ingestion.IngestionPipeline;
+import com.example.job_aggregator.ingestion.IngestionResult;
+import com.example.job_aggregator.ingestion.IngestionRun;
+import com.example.job_aggregator.mapper.JobMapper;
+import com.example.job_aggregator.mapper.SavedJobMapper;
+import com.example.job_aggregator.readmodel.JobReadModel;
+import com.example.job_aggregator.repository.JobRepository;
+import com.example.job_aggregator.repository.SavedJobRepository;
+import com.example.job_aggregator.resource.JobField;
+import com.example.job_aggregator.resource.JobResource;
+import com.example.job_aggregator.similarity.SimilarJobIndex;
+import com.example.job_aggregator.skills.SkillExtractor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * N simultaneous identical requests against {@link JobService} must cause exactly one database query or
+ * one crawl. The mocked query and crawl are held open until every caller has arrived.
+ */
+class JobServiceConcurrencyTest {
+
+    private static final int CALLERS = 12;
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final JobMapper jobMapper = mock(JobMapper.class);
+    private final ScraperService scraperService = mock(ScraperService.class);
+    private final JobReadModel jobReadModel = mock(JobReadModel.class);
+    private final IngestionPipeline ingestionPipeline = mock(IngestionPipeline.class);
+
+    private JobService jobService;
+    private final List<Thread> callerThreads = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS, runnable -> {
+        Thread thread = new Thread(runnable);
+        callerThreads.add(thread);
+        return thread;
+    });
+
+    @BeforeEach
+    void setUp() {
+        jobService = new JobService(jobRepository, mock(SavedJobRepository.class), mock(UserService.class), jobMapper,
+                mock(SavedJobMapper.class), scraperService, mock(ApplicationEventPublisher.class), jobReadModel,
+                ingestionPipeline, mock(SkillExtractor.class), mock(SimilarJobIndex.class),
+                mock(FeedImporter.class), mock(ScrapeCoordinator.class));
+        // Cold start: searches fall back to the database
+        when(jobReadModel.isReady()).thenReturn(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void simultaneousSearchesRunOneQuery() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(jobRepository.searchSummaries("java", "remote", null)).thenAnswer(invocation -> {
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return List.of();
+        });
+        List<JobResource> found = List.of(JobResource.builder().id("dice-1").title("Java Developer").build());
+        when(jobMapper.toSummaryResourceList(anyList())).thenReturn(found);
+
+        // Differently written terms normalize to the same search
+        List<Future<List<JobResource>>> results = submitAll(i -> () ->
+                jobService.searchJobs(i % 2 == 0 ? "Java" : "  java ", "REMOTE", "", JobField.SUMMARY));
+        awaitAllParked();
+        release.countDown();
+
+        for (Future<List<JobResource>> result : results) {
+            assertEquals(found, result.get(5, TimeUnit.SECONDS));
+        }
+        verify(jobRepository, times(1)).searchSummaries("java", "remote", null);
+    }
+
+    @Test
+    void differentSearchesAreNotCoalesced() {
+        when(jobMapper.toSummaryResourceList(anyList())).thenReturn(List.of());
+
+        jobService.searchJobs("java", null, null, JobField.SUMMARY);
+        jobService.searchJobs("kotlin", null, null, JobField.SUMMARY);
+        jobService.searchJobs("java", null, null, JobField.SUMMARY);
+
+        verify(jobRepository, times(2)).searchSummaries("java", null, null);
+        verify(jobRepository, times(1)).searchSummaries("kotlin", null, null);
+    }
+
+    @Test
+    void simultaneousScrapeTriggersRunOneCrawl() throws Exception {
+        IngestionRun run = new IngestionRun();
+        when(ingestionPipeline.start(any())).thenReturn(run);
+
+        List<Future<String>> results = submitAll(i -> jobService::scrapeJobs);
+        awaitAllParked();
+        run.getCompletion().complete(IngestionResult.builder().completed(true).jobsParsed(40).saved(30).duplicates(10).build());
+
+        for (Future<String> result : results) {
+            assertEquals("Scraping completed! Saved 30 new jobs, skipped 10 duplicates.", result.get(5, TimeUnit.SECONDS));
+        }
+        verify(ingestionPipeline, times(1)).start(any());
+        verify(scraperService, times(1)).searchPages();
+    }
+
+    @Test
+    void scrapeAfterCompletionStartsANewCrawl() {
+        IngestionRun first = new IngestionRun();
+        first.getCompletion().complete(IngestionResult.builder().completed(true).build());
+        IngestionRun second = new IngestionRun();
+        second.getCompletion().complete(IngestionResult.builder().completed(true).build());
+        when(ingestionPipeline.start(any())).thenReturn(first, second);
+
+        jobService.scrapeJobs();
+        jobService.scrapeJobs();
+
+        verify(ingestionPipeline, times(2)).start(any());
+    }
+
+    private <T> List<Future<T>> submitAll(IntFunction<Callable<T>> call) {
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(call.apply(i)));
+        }
+        return futures;
+    }
+
+    // Every caller is blocked: the leader inside the held query or crawl, the others waiting on its result
+    private void awaitAllParked() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (callerThreads.size() < CALLERS || !callerThreads.stream().allMatch(thread ->
+                thread.getState() == Thread.State.WAITING || thread.getState() == Thread.State.TIMED_WAITING)) {
+            assertTrue(System.nanoTime() < deadline, "callers did not all arrive in time");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.job_aggregator.service;
+
+import com.example.job_aggregator.mapper.JobNotificationMapper;
+import com.example.job_aggregator.mapper.SavedSearchMapper;
+import com.example.job_aggregator.model.SavedSearch;
+import com.example.job_aggregator.model.User;
+import com.example.job_aggregator.repository.JobNotificationRepository;
+import com.example.job_aggregator.repository.JobRepository;
+import com.example.job_aggregator.repository.SavedSearchRepository;
+import com.example.job_aggregator.repository.UserRepository;
+import com.example.job_aggregator.search.SavedSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * The alert index in {@link SavedSearchService} follows committed saved searches only: a create or delete
+ * that rolls back leaves the index as it was.
+ */
+class SavedSearchServiceTest {
+
+    private final SavedSearchRepository savedSearchRepository = mock(SavedSearchRepository.class);
+    private final UserService userService = mock(UserService.class);
+    private final SavedSearchIndex index = new SavedSearchIndex();
+    private final AtomicLong nextId = new AtomicLong(42);
+
+    private SavedSearchService savedSearchService;
+
+    @BeforeEach
+    void setUp() {
+        savedSearchService = new SavedSearchService(savedSearchRepository, mock(JobNotificationRepository.class),
+                mock(JobRepository.class), mock(UserRepository.class), userService, mock(SavedSearchMapper.class),
+                mock(JobNotificationMapper.class), index);
+        User user = new User();
+        user.setId(1L);
+        when(userService.getDefaultUser()).thenReturn(user);
+        when(savedSearchRepository.save(any(SavedSearch.class))).thenAnswer(invocation -> {
+            SavedSearch savedSearch = invocation.getArgument(0);
+            savedSearch.setId(nextId.getAndIncrement());
+            return savedSearch;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void createdSearchIsIndexedOnCommitOnly() {
+        TransactionSynchronizationManager.initSynchronization();
+        savedSearchService.createSavedSearch("kotlin", null, null);
+        assertEquals(0, index.size());
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(Set.of(42L), index.ids());
+
+        TransactionSynchronizationManager.initSynchronization();
+        savedSearchService.createSavedSearch("scala", null, null);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertEquals(Set.of(42L), index.ids());
+    }
+
+    @Test
+    void deletedSearchLeavesTheIndexOnCommitOnly() {
+        SavedSearch savedSearch = new SavedSearch();
+        savedSearch.setId(42L);
+        when(savedSearchRepository.findById(42L)).thenReturn(Optional.of(savedSearch));
+        savedSearchService.createSavedSearch("kotlin", null, null);
+        assertEquals(Set.of(42L), index.ids());
+
+        TransactionSynchronizationManager.initSynchronization();
+        savedSearchService.deleteSavedSearch(42L);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertEquals(Set.of(42L), index.ids());
+
+        TransactionSynchronizationManager.initSynchronization();
+        savedSearchService.deleteSavedSearch(42L);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(0, index.size());
+    }
+
+    // Stands in for the transaction manager finishing the surrounding transaction
+    private static void complete(int status) {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+        }
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, status);
+    }
+}
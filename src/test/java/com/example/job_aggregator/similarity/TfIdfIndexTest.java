@@ -0,0 +1,78 @@
+package com.example.job_aggregator.similarity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TfIdfIndexTest {
+
+    private final TfIdfIndex index = new TfIdfIndex(24, 16, 0.05);
+
+    @Test
+    void ranksJobsSharingRareTermsFirst() {
+        index.add("kafka-1", "Kafka Streaming Engineer", "Build Kafka pipelines with Flink and Avro schemas");
+        index.add("kafka-2", "Streaming Data Engineer", "Kafka, Flink and Avro on Kubernetes");
+        index.add("react-1", "Frontend Engineer", "React and TypeScript user interfaces");
+        index.add("react-2", "React Frontend Developer", "TypeScript, React hooks, CSS");
+        index.add("mixed", "Engineer", "Some Kafka, some React");
+
+        List<TfIdfIndex.Match> similar = index.similar("kafka-1", 10);
+
+        assertEquals("kafka-2", similar.get(0).id());
+        assertEquals("mixed", similar.get(1).id());
+        assertTrue(similar.stream().noneMatch(match -> match.id().equals("kafka-1")));
+        for (int i = 1; i < similar.size(); i++) {
+            assertTrue(similar.get(i - 1).score() >= similar.get(i).score());
+        }
+        assertEquals("react-2", index.similar("react-1", 1).get(0).id());
+    }
+
+    @Test
+    void identicalTextScoresOne() {
+        index.add("a", "Java Developer", "Spring Boot microservices");
+        index.add("b", "Java Developer", "Spring Boot microservices");
+        index.add("c", "Python Developer", "Django");
+        // Until reweighted, "a" keeps the weights of a one-job corpus
+        index.reweight();
+
+        assertEquals(1.0f, index.similar("a", 1).get(0).score(), 1e-5f);
+    }
+
+    @Test
+    void limitsResultsAndIgnoresUnknownJobs() {
+        for (int i = 0; i < 50; i++) {
+            index.add("job-" + i, "Java Developer " + i, "Spring and Kafka");
+        }
+        assertFalse(index.add("job-3", "duplicate", "ignored"));
+
+        assertEquals(5, index.similar("job-0", 5).size());
+        assertEquals(List.of(), index.similar("missing", 5));
+        assertEquals(50, index.size());
+    }
+
+    @Test
+    void reweightKeepsRankingConsistent() {
+        index.add("go-1", "Golang Engineer", "Go services, gRPC");
+        index.add("go-2", "Backend Engineer", "Golang and gRPC");
+        for (int i = 0; i < 40; i++) {
+            index.add("filler-" + i, "Engineer " + i, "Generic backend services");
+        }
+        assertTrue(index.needsReweight(1.25));
+        String before = index.similar("go-1", 1).get(0).id();
+        index.reweight();
+
+        assertFalse(index.needsReweight(1.25));
+        assertEquals(before, index.similar("go-1", 1).get(0).id());
+        assertEquals("go-2", before);
+    }
+
+    @Test
+    void jobWithoutTermsHasNoNeighbours() {
+        index.add("empty", null, "the and of");
+        index.add("other", "Java", "Kafka");
+
+        assertEquals(List.of(), index.similar("empty", 3));
+    }
+}
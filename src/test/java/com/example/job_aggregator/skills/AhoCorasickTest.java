@@ -0,0 +1,80 @@
+package com.example.job_aggregator.skills;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AhoCorasickTest {
+
+    @Test
+    void findsWholeWordsCaseInsensitively() {
+        AhoCorasick automaton = AhoCorasick.build(List.of("java", "spring boot", "c++", "node.js"));
+
+        assertEquals(List.of(0, 1), matches(automaton, "Senior JAVA developer, Spring Boot"));
+        assertEquals(List.of(), matches(automaton, "JavaScript and springboots"));
+        assertEquals(List.of(2, 3), matches(automaton, "C++ or Node.js?"));
+        assertEquals(List.of(1), matches(automaton, "spring\nboot"));
+    }
+
+    @Test
+    void dotsInsideWordsAreNotBoundaries() {
+        AhoCorasick automaton = AhoCorasick.build(List.of("js", "node", "java"));
+
+        assertEquals(List.of(), matches(automaton, "node.js, asp.java"));
+        assertEquals(List.of(2, 1), matches(automaton, "Java. Node..."));
+    }
+
+    @Test
+    void reportsOverlappingAndNestedPatterns() {
+        AhoCorasick automaton = AhoCorasick.build(List.of("spring", "spring boot", "boot", "spring cloud"));
+
+        assertEquals(List.of(0, 1, 2, 0, 3), matches(automaton, "spring boot and spring cloud"));
+    }
+
+    @Test
+    void agreesWithRegexOnRandomText() {
+        List<String> patterns = List.of("ab", "abc", "bc", "c", "abcab", "ba b", "cc");
+        AhoCorasick automaton = AhoCorasick.build(patterns);
+        Random random = new Random(42);
+        char[] alphabet = {'a', 'b', 'c', ' ', 'x', '-'};
+        for (int round = 0; round < 500; round++) {
+            StringBuilder text = new StringBuilder();
+            for (int i = random.nextInt(40); i > 0; i--) {
+                text.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            int[] expected = new int[patterns.size()];
+            for (int id = 0; id < patterns.size(); id++) {
+                Matcher matcher = Pattern.compile("(?<![\\p{L}\\p{N}])(?=" + Pattern.quote(patterns.get(id))
+                        + "(?![\\p{L}\\p{N}]))").matcher(text);
+                while (matcher.find()) {
+                    expected[id]++;
+                }
+            }
+            int[] actual = new int[patterns.size()];
+            automaton.scan(text, id -> actual[id]++);
+            assertArrayEquals(expected, actual, "text: '" + text + "'");
+        }
+    }
+
+    @Test
+    void emptyAutomatonMatchesNothing() {
+        assertEquals(List.of(), matches(AhoCorasick.build(List.of()), "anything"));
+    }
+
+    @Test
+    void rejectsEmptyPattern() {
+        assertThrows(IllegalArgumentException.class, () -> AhoCorasick.build(List.of("java", "")));
+    }
+
+    private static List<Integer> matches(AhoCorasick automaton, String text) {
+        List<Integer> ids = new ArrayList<>();
+        automaton.scan(text, ids::add);
+        return ids;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.job_aggregator.skills;
+
+import com.example.job_aggregator.config.ScraperProperties;
+import com.example.job_aggregator.model.Job;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tagging with the bundled skills dictionary.
+ */
+class SkillExtractorTest {
+
+    private final SkillExtractor extractor = new SkillExtractor(new ScraperProperties(), new DefaultResourceLoader());
+
+    @Test
+    void extractsSortedTagsFromAliases() {
+        assertEquals(List.of("java", "kafka", "kubernetes", "spring", "spring-boot"),
+                extractor.extract("Senior Java Engineer", "Build SpringBoot services on K8s with Apache Kafka and Spring."));
+        assertEquals(List.of("c#", "c++", "node.js"), extractor.extract("C++ / C# / Node.js developer"));
+    }
+
+    @Test
+    void ignoresPartialWords() {
+        assertEquals(List.of("javascript"), extractor.extract("JavaScript expert", null));
+        assertEquals(List.of(), extractor.extract("Rusty nodes and mongoose"));
+    }
+
+    @Test
+    void tagsJobsAsStoredColumn() {
+        Job job = new Job();
+        job.setTitle("Backend Developer");
+        job.setDescription("Python, PostgreSQL and Postgres on AWS");
+        extractor.tag(job);
+        assertEquals("aws,postgresql,python", job.getSkills());
+
+        job.setDescription("Nothing relevant");
+        extractor.tag(job);
+        assertNull(job.getSkills());
+    }
+
+    @Test
+    void disabledExtractorFindsNothing() {
+        ScraperProperties properties = new ScraperProperties();
+        properties.getSkills().setEnabled(false);
+        SkillExtractor disabled = new SkillExtractor(properties, new DefaultResourceLoader());
+
+        assertFalse(disabled.isEnabled());
+        assertEquals(List.of(), disabled.extract("Java and Kafka"));
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.job_aggregator.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Embedded HTTP server that serves Dice-shaped search-result pages and job detail pages.
+ *
+ * Cards carry exactly the markup the {@code DICE_*_SELECTOR} constants expect, and detail pages embed a
+ * schema.org JobPosting block. Content is generated deterministically from the job index, so re-crawling
+ * yields the same IDs; {@link #shiftJobs(int)} moves the window to produce a fresh set of jobs.
+ * Point the application at it with {@code scraper.dice.base-url=}{@link #getBaseUrl()}.
+ */
+public final class MockDiceServer implements AutoCloseable {
+
+    private static final String[] TITLES = {"Senior Java Developer", "Backend Engineer", "Full Stack Developer",
+            "Spring Boot Engineer", "Platform Engineer", "Data Engineer", "DevOps Engineer", "Software Architect"};
+    private static final String[] COMPANIES = {"Acme Corp", "Globex", "Initech", "Umbrella", "Hooli", "Stark Industries",
+            "Wayne Enterprises", "Cyberdyne", "Soylent", "Tyrell"};
+    private static final String[] LOCATIONS = {"Remote", "New York, NY", "Austin, TX", "Seattle, WA", "Boston, MA",
+            "San Francisco, CA", "Chicago, IL", "Denver, CO"};
+    private static final String[] WORDS = {"java", "spring", "boot", "microservices", "kubernetes", "aws", "kafka",
+            "postgresql", "rest", "api", "design", "scalable", "systems", "team", "agile", "docker", "react", "python"};
+
+    private final int pages;
+    private final int jobsPerPage;
+    private final int latencyMs;
+    private final int detailLatencyMs;
+    private final int descriptionWords;
+
+    private final AtomicInteger jobOffset = new AtomicInteger();
+    private final AtomicLong searchRequests = new AtomicLong();
+    private final AtomicLong detailRequests = new AtomicLong();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    private MockDiceServer(Builder builder) {
+        this.pages = builder.pages;
+        this.jobsPerPage = builder.jobsPerPage;
+        this.latencyMs = builder.latencyMs;
+        this.detailLatencyMs = builder.detailLatencyMs;
+        this.descriptionWords = builder.descriptionWords;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public MockDiceServer start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "mock-dice");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/jobs", this::searchPage);
+        server.createContext("/job-detail/", this::detailPage);
+        server.start();
+        return this;
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public int getPages() {
+        return pages;
+    }
+
+    public int getJobsPerPage() {
+        return jobsPerPage;
+    }
+
+    // Following crawls see a new window of jobs, `count` indexes further on
+    public void shiftJobs(int count) {
+        jobOffset.addAndGet(count);
+    }
+
+    public long getSearchRequests() {
+        return searchRequests.get();
+    }
+
+    public long getDetailRequests() {
+        return detailRequests.get();
+    }
+
+    private void searchPage(HttpExchange exchange) throws IOException {
+        searchRequests.incrementAndGet();
+        sleep(latencyMs);
+        int page = pageParameter(exchange.getRequestURI());
+        StringBuilder html = new StringBuilder(jobsPerPage * 700 + 512);
+        html.append("<!DOCTYPE html><html><head><title>Java Developer Jobs | Dice.com</title></head><body><main>");
+        if (page >= 1 && page <= pages) {
+            int first = jobOffset.get() + (page - 1) * jobsPerPage;
+            for (int index = first; index < first + jobsPerPage; index++) {
+                appendCard(html, index);
+            }
+        }
+        html.append("</main></body></html>");
+        respond(exchange, html.toString());
+    }
+
+    private void appendCard(StringBuilder html, int index) {
+        html.append("<article class=\"card\"><div><div><div>")
+                .append("<a data-testid=\"job-search-job-detail-link\" href=\"/job-detail/").append(jobId(index)).append("\">")
+                .append(title(index)).append("</a>")
+                .append("<p class=\"mb-0 line-clamp-2 text-sm sm:line-clamp-1\">").append(company(index)).append("</p>")
+                .append("<p class=\"text-sm font-normal text-zinc-600\">").append(location(index)).append("</p>")
+                .append("<p class=\"line-clamp-2 h-10 shrink grow basis-0 text-sm font-normal text-zinc-900\">")
+                .append(description(index, 25)).append("</p>")
+                .append("</div></div></div></article>");
+    }
+
+    private void detailPage(HttpExchange exchange) throws IOException {
+        detailRequests.incrementAndGet();
+        sleep(detailLatencyMs);
+        String path = exchange.getRequestURI().getPath();
+        String id = path.substring(path.lastIndexOf('/') + 1);
+        int index = indexOf(id);
+        if (index < 0) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+        int salary = 90_000 + (index % 12) * 10_000;
+        String jsonLd = "{\"@context\":\"https://schema.org\",\"@type\":\"JobPosting\","
+                + "\"title\":\"" + title(index) + "\","
+                + "\"description\":\"<p>" + description(index, descriptionWords) + "</p>\","
+                + "\"datePosted\":\"" + LocalDate.of(2024, 1, 1).plusDays(index % 365) + "\","
+                + "\"baseSalary\":{\"@type\":\"MonetaryAmount\",\"currency\":\"USD\",\"value\":{\"@type\":\"QuantitativeValue\","
+                + "\"minValue\":" + salary + ",\"maxValue\":" + (salary + 30_000) + ",\"unitText\":\"YEAR\"}}}";
+        respond(exchange, "<!DOCTYPE html><html><head><title>" + title(index) + "</title>"
+                + "<script type=\"application/ld+json\">" + jsonLd + "</script></head><body>"
+                + "<h1>" + title(index) + "</h1></body></html>");
+    }
+
+    // UUID-shaped, matches DICE_JOB_ID_PATTERN and encodes the index in the last group
+    static String jobId(int index) {
+        return String.format("%08x-0000-4000-8000-%012x", 0x5eed, index);
+    }
+
+    private static int indexOf(String jobId) {
+        if (!jobId.matches("[a-f0-9]{8}-0000-4000-8000-[a-f0-9]{12}")) {
+            return -1;
+        }
+        return (int) Long.parseLong(jobId.substring(24), 16);
+    }
+
+    private static String title(int index) {
+        return TITLES[index % TITLES.length] + (index % 3 == 0 ? " II" : "");
+    }
+
+    private static String company(int index) {
+        return COMPANIES[(index / 3) % COMPANIES.length];
+    }
+
+    private static String location(int index) {
+        return LOCATIONS[(index / 7) % LOCATIONS.length];
+    }
+
+    private static String description(int index, int words) {
+        Random random = new Random(index);
+        StringBuilder text = new StringBuilder(words * 8);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+
+    private static int pageParameter(URI uri) {
+        String query = uri.getRawQuery();
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                if (parameter.startsWith("page=")) {
+                    try {
+                        return Integer.parseInt(parameter.substring(5));
+                    } catch (NumberFormatException e) {
+                        return -1;
+                    }
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static void respond(HttpExchange exchange, String html) throws IOException {
+        byte[] body = html.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    // Latency with +/-20% jitter
+    private static void sleep(int millis) {
+        if (millis <= 0) {
+            return;
+        }
+        int jitter = millis / 5;
+        try {
+            Thread.sleep(millis - jitter + ThreadLocalRandom.current().nextInt(2 * jitter + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static final class Builder {
+        private int pages = 10;
+        private int jobsPerPage = 20;
+        private int latencyMs = 50;
+        private int detailLatencyMs = 20;
+        private int descriptionWords = 300;
+
+        public Builder pages(int pages) {
+            this.pages = pages;
+            return this;
+        }
+
+        public Builder jobsPerPage(int jobsPerPage) {
+            this.jobsPerPage = jobsPerPage;
+            return this;
+        }
+
+        public Builder latencyMs(int latencyMs) {
+            this.latencyMs = latencyMs;
+            return this;
+        }
+
+        public Builder detailLatencyMs(int detailLatencyMs) {
+            this.detailLatencyMs = detailLatencyMs;
+            return this;
+        }
+
+        public Builder descriptionWords(int descriptionWords) {
+            this.descriptionWords = descriptionWords;
+            return this;
+        }
+
+        public MockDiceServer build() {
+            return new MockDiceServer(this);
+        }
+    }
+}